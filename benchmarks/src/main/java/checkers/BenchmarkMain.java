@@ -0,0 +1,40 @@
+package checkers;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * <p>Runs the JMH benchmarks with the GC profiler enabled, so that the
+ * allocation rate and bytes allocated per operation are reported with each
+ * score. All usual JMH command-line options are accepted, e.g.
+ * {@code java -jar target/benchmarks.jar HotPathBenchmark.copy -p
+ * phase=opening}.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class BenchmarkMain {
+
+  private BenchmarkMain() {
+  }
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args JMH command-line options
+   * @throws CommandLineOptionException if the options are invalid
+   * @throws RunnerException            if a benchmark fails
+   */
+  public static void main(final String[] args)
+      throws CommandLineOptionException, RunnerException {
+    new Runner(new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+}
@@ -0,0 +1,71 @@
+package checkers;
+
+/**
+ * Fixed positions the benchmarks run on, written in {@link BoardNotation}.
+ *
+ * <p>The corpus covers the three phases whose move generation behaves
+ * differently: the crowded opening where only men move, a middlegame with
+ * captures pending and a king endgame dominated by long diagonal rays.
+ * Keeping the positions fixed makes scores of different runs comparable.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class BenchmarkPositions {
+  /**
+   * Name of the opening positions in {@link #positions(String)}.
+   */
+  public static final String OPENING = "opening";
+
+  /**
+   * Name of the middlegame positions in {@link #positions(String)}.
+   */
+  public static final String MIDDLEGAME = "middlegame";
+
+  /**
+   * Name of the king endgame positions in {@link #positions(String)}.
+   */
+  public static final String KING_ENDGAME = "kingEndgame";
+
+  private static final String[] OPENING_POSITIONS = {
+      "r:bbbbbbbbbbbb........rrrrrrrrrrrr",
+      "b:bbbbbbbbbbbb....r.....rrrrrrrrrr",
+      "r:bbbbbbbbb.bb.b......rrrrrrrrrrrr",
+  };
+
+  private static final String[] MIDDLEGAME_POSITIONS = {
+      "r:bbb..bb.bb.b.bb..rr.r.rr.rr.rr.r",
+      "b:.bb.b.b..bb.b.rb..r..r..r.rr..B.",
+  };
+
+  private static final String[] KING_ENDGAME_POSITIONS = {
+      "r:.........BRBR.......r.....b..RB.",
+      "b:b....B.R...Rr...B..B....R.......",
+      "r:....B..R.R.b....R.r.......B....B",
+  };
+
+  private BenchmarkPositions() {
+  }
+
+  /**
+   * Creates fresh boards for one phase of the corpus.
+   *
+   * @param phase {@link #OPENING}, {@link #MIDDLEGAME} or
+   *              {@link #KING_ENDGAME}
+   * @return new boards, one per position
+   * @throws IllegalArgumentException if the phase is unknown
+   */
+  public static BoardState[] positions(final String phase) {
+    String[] notations = switch (phase) {
+      case OPENING -> OPENING_POSITIONS;
+      case MIDDLEGAME -> MIDDLEGAME_POSITIONS;
+      case KING_ENDGAME -> KING_ENDGAME_POSITIONS;
+      default -> throw new IllegalArgumentException("Unknown phase: "
+          + phase);
+    };
+    BoardState[] boards = new BoardState[notations.length];
+    for (int i = 0; i < notations.length; i++) {
+      boards[i] = BoardNotation.parse(notations[i]);
+    }
+    return boards;
+  }
+}
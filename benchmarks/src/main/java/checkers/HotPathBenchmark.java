@@ -0,0 +1,155 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the rules and bot hot paths over the positions of
+ * {@link BenchmarkPositions}.
+ *
+ * <p>Every operation runs once per corpus position, so scores are reported
+ * per pass over one phase. Run through {@link BenchmarkMain} to get the
+ * allocation rate per operation next to each score.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathBenchmark {
+  /**
+   * Phase of the corpus to run on.
+   */
+  @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME,
+      BenchmarkPositions.KING_ENDGAME})
+  private String phase;
+
+  private BoardState[] boards;
+  private PlayerConfig[] configs;
+  private MoveGenerator[] generators;
+  private List<ArrayList<BotDecision>> possibleMoves;
+  private SelectionState selectionState;
+  private final MoveList moves = new MoveList();
+
+  /**
+   * Loads the positions and precomputes the inputs of the bot benchmarks.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    boards = BenchmarkPositions.positions(phase);
+    configs = new PlayerConfig[boards.length];
+    generators = new MoveGenerator[boards.length];
+    possibleMoves = new ArrayList<>();
+    for (int i = 0; i < boards.length; i++) {
+      configs[i] = configFor(boards[i].getSideToMove());
+      generators[i] = new MoveGenerator(configs[i]);
+      possibleMoves.add(generators[i].getPossibleMoves(boards[i]));
+    }
+    selectionState = new SelectionState();
+  }
+
+  /**
+   * Generates the moves of the side to move as decisions, as the bot's
+   * move service does.
+   *
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void getPossibleMoves(final Blackhole blackhole) {
+    for (int i = 0; i < boards.length; i++) {
+      blackhole.consume(generators[i].getPossibleMoves(boards[i]));
+    }
+  }
+
+  /**
+   * Generates the moves of the side to move with the bitboard generator
+   * used by the search.
+   *
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void generateMoves(final Blackhole blackhole) {
+    for (BoardState board : boards) {
+      MoveGenerator.generateMoves(board.getSideToMove(), board, moves);
+      blackhole.consume(moves.size());
+    }
+  }
+
+  /**
+   * Checks whether the side to move has a mandatory capture.
+   *
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void checkAllPiecesPossibleCaptures(final Blackhole blackhole) {
+    for (int i = 0; i < boards.length; i++) {
+      blackhole.consume(CaptureRules.checkAllPiecesPossibleCaptures(
+          configs[i].getBotColor(), configs[i].getBotKingColor(),
+          boards[i]));
+    }
+  }
+
+  /**
+   * Chooses the bot move among the legal moves of each position.
+   *
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void chooseBestMove(final Blackhole blackhole) {
+    for (int i = 0; i < boards.length; i++) {
+      blackhole.consume(BestMoveSelector.chooseBestMove(possibleMoves.get(i),
+          boards[i], configs[i]));
+    }
+  }
+
+  /**
+   * Copies each board.
+   *
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void copy(final Blackhole blackhole) {
+    for (BoardState board : boards) {
+      blackhole.consume(board.copy());
+    }
+  }
+
+  /**
+   * Maps each board to the views drawn by the user interface.
+   *
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void toPieceViews(final Blackhole blackhole) {
+    for (BoardState board : boards) {
+      blackhole.consume(BoardViewMapper.toPieceViews(board, selectionState));
+    }
+  }
+
+  private static PlayerConfig configFor(final int side) {
+    boolean red = side == GameConstants.RED;
+    PlayerConfig config = new PlayerConfig();
+    config.setBotColor(side);
+    config.setBotKingColor(red ? GameConstants.RED_KING
+        : GameConstants.BLACK_KING);
+    config.setHumanColor(red ? GameConstants.BLACK : GameConstants.RED);
+    config.setHumanKingColor(red ? GameConstants.BLACK_KING
+        : GameConstants.RED_KING);
+    return config;
+  }
+}
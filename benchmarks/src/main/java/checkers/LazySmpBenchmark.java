@@ -0,0 +1,128 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time to depth of the Lazy SMP search and of {@link ForkJoinSearch} at 1,
+ * 2, 4 and 8 threads.
+ *
+ * <p>Each operation deepens every position of the phase to a fixed depth
+ * with a cleared transposition table. The speedup at N threads is the score
+ * at one thread divided by the score at N threads. Scores above one thread
+ * are only meaningful on a machine with at least that many idle cores.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LazySmpBenchmark {
+  /**
+   * Phase of the corpus to run on.
+   */
+  @Param({BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.OPENING})
+  private String phase;
+
+  /**
+   * Depth every search is deepened to.
+   */
+  @Param({"12"})
+  private int depth;
+
+  /**
+   * Number of search threads.
+   */
+  @Param({"1", "2", "4", "8"})
+  private int threads;
+
+  private BoardState[] boards;
+  private List<ArrayList<BotDecision>> rootMoves;
+  private TranspositionTable table;
+  private ForkJoinSearch forkJoin;
+
+  /**
+   * Loads the positions, generates their root moves and allocates the
+   * table and the fork/join pool.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    boards = BenchmarkPositions.positions(phase);
+    rootMoves = new ArrayList<>();
+    MoveList moves = new MoveList();
+    for (BoardState board : boards) {
+      MoveGenerator.generateMoves(board.getSideToMove(), board, moves);
+      ArrayList<BotDecision> decisions = new ArrayList<>();
+      for (int i = 0; i < moves.size(); i++) {
+        decisions.add(MoveEncoding.toDecision(moves, i));
+      }
+      rootMoves.add(decisions);
+    }
+    table = new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB);
+    forkJoin = new ForkJoinSearch(config(), table);
+  }
+
+  /**
+   * Shuts the fork/join pool down.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    forkJoin.close();
+  }
+
+  /**
+   * Empties the table, so that no operation profits from the one before.
+   */
+  @Setup(Level.Invocation)
+  public void clearTable() {
+    table.clear();
+  }
+
+  /**
+   * Deepens every position to the configured depth.
+   *
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void timeToDepth(final Blackhole blackhole) {
+    SearchConfig config = config();
+    for (int i = 0; i < boards.length; i++) {
+      blackhole.consume(new SearchEngine(config, table).searchRoot(
+          rootMoves.get(i), boards[i], boards[i].getSideToMove()));
+    }
+  }
+
+  /**
+   * Deepens every position to the configured depth with the fork/join
+   * search.
+   *
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void timeToDepthForkJoin(final Blackhole blackhole) {
+    for (int i = 0; i < boards.length; i++) {
+      blackhole.consume(forkJoin.searchRoot(rootMoves.get(i), boards[i],
+          boards[i].getSideToMove()));
+    }
+  }
+
+  private SearchConfig config() {
+    return new SearchConfig(depth, SearchConfig.NO_TIME_LIMIT, threads);
+  }
+}
@@ -0,0 +1,117 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time and nodes of a fixed-depth bot search over the positions of
+ * {@link BenchmarkPositions}.
+ *
+ * <p>Each operation searches every position of the phase with a fresh
+ * {@link SearchEngine}, as the game does for every bot move, but without a
+ * time budget. The {@code nodes} counter reports the positions visited per
+ * operation; at a fixed depth it shows how much a search change prunes,
+ * independent of the speed of the machine, and comparing selective with
+ * full-width searches shows what the pruning saves.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+  /**
+   * Phase of the corpus to run on.
+   */
+  @Param({BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.OPENING,
+      BenchmarkPositions.KING_ENDGAME})
+  private String phase;
+
+  /**
+   * Depth searched, in plies.
+   */
+  @Param({"6", "8", "10"})
+  private int depth;
+
+  /**
+   * Whether the search prunes and reduces selectively, see
+   * {@link SearchConfig#selective()}.
+   */
+  @Param({"true", "false"})
+  private boolean selective;
+
+  private BoardState[] boards;
+  private List<ArrayList<BotDecision>> rootMoves;
+
+  /**
+   * Nodes visited, reported next to the time per operation.
+   */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class NodeCounter {
+    /**
+     * Positions visited during the current iteration.
+     */
+    public long nodes;
+
+    /**
+     * Resets the count before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+      nodes = 0;
+    }
+  }
+
+  /**
+   * Loads the positions and generates their root moves.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    boards = BenchmarkPositions.positions(phase);
+    rootMoves = new ArrayList<>();
+    MoveList moves = new MoveList();
+    for (BoardState board : boards) {
+      MoveGenerator.generateMoves(board.getSideToMove(), board, moves);
+      ArrayList<BotDecision> decisions = new ArrayList<>();
+      for (int i = 0; i < moves.size(); i++) {
+        decisions.add(MoveEncoding.toDecision(moves, i));
+      }
+      rootMoves.add(decisions);
+    }
+  }
+
+  /**
+   * Searches every position to the configured depth.
+   *
+   * @param counter   counter of the visited nodes
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void searchRoot(final NodeCounter counter,
+                         final Blackhole blackhole) {
+    for (int i = 0; i < boards.length; i++) {
+      SearchEngine engine = new SearchEngine(new SearchConfig(depth,
+          SearchConfig.NO_TIME_LIMIT, 1, selective));
+      blackhole.consume(engine.searchRoot(rootMoves.get(i), boards[i],
+          boards[i].getSideToMove()));
+      counter.nodes += engine.getNodes();
+    }
+  }
+}
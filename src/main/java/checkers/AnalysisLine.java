@@ -0,0 +1,20 @@
+package checkers;
+
+import java.util.List;
+
+/**
+ * One line of an analysis by {@link SearchEngine#analyze}: a move, its score
+ * and the play the search expects to follow it.
+ *
+ * @param move               the move of the side to move
+ * @param score              the score of the move for the side to move, in
+ *                           the units of {@link PositionEvaluator}; beyond
+ *                           {@link GameConstants#SCORE_WIN} minus the
+ *                           maximum depth it is a win or loss at a known
+ *                           distance
+ * @param principalVariation the moves of both sides the search expects,
+ *                           starting with {@code move}
+ */
+public record AnalysisLine(BotDecision move, int score,
+                           List<BotDecision> principalVariation) {
+}
@@ -18,8 +18,8 @@ public final class BestMoveSelector {
   /**
    * Selects the best move from the list of possible moves based on the
    * current board state
-   * and player configuration. Each move is evaluated using
-   * {@link MoveEvaluator}, and
+   * and player configuration. Each move is made on the board, evaluated using
+   * {@link MoveEvaluator} and taken back again, and
    * the move with the highest score is chosen. If no valid move is found,
    * the first move
    * from the list is returned as a fallback.
@@ -38,8 +38,10 @@ public final class BestMoveSelector {
     int bestScore = GameConstants.INITIAL_SUM_MAX;
 
     for (BotDecision move : possibleMoves) {
-      BoardState copy = boardState.copy();
-      int score = MoveEvaluator.evaluateMove(move, copy, playerConfigParam);
+      long undo = boardState.makeMove(move);
+      int score = MoveEvaluator.evaluateMadeMove(move, boardState,
+          playerConfigParam, undo);
+      boardState.unmakeMove(move, undo);
 
       if (score >= bestScore) {
         bestMove = move;
@@ -0,0 +1,250 @@
+package checkers;
+
+/**
+ * Generates the moves of one side with bitboard shifts.
+ *
+ * <p>In the 32-square layout of {@link SquareIndex} a diagonal step changes
+ * the square index by 3, 4 or 5 depending on the direction and on whether
+ * the piece stands on an even or odd row. The destinations of all men of a
+ * side are therefore computed at once by shifting the men mask per row
+ * parity and masking it with the empty squares. Kings look up their
+ * reachable squares and first blockers in {@link KingRays}.</p>
+ *
+ * <p>Moves are written straight into a {@link MoveList}, packed with
+ * {@link MoveEncoding}. Captures are mandatory: if
+ * {@link BoardState#getCapturers(int)} reports any piece that can capture,
+ * only the captures of those pieces are generated.</p>
+ *
+ * <p>A capture continues as long as the capturing piece can capture again,
+ * and every complete sequence is listed as one move. The sequences are
+ * found by a depth-first search over plain masks: captured pieces leave the
+ * board at once, the capturing piece has left its source square and a man
+ * that reaches its promotion row stops. The search depth is bounded by the
+ * number of enemy pieces, and nothing is allocated on the way.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class BitboardMoveGenerator {
+  /**
+   * Squares on even rows (0, 2, 4 and 6).
+   */
+  private static final int EVEN_ROWS = 0x0F0F0F0F;
+
+  /**
+   * Squares on odd rows (1, 3, 5 and 7).
+   */
+  private static final int ODD_ROWS = ~EVEN_ROWS;
+
+  /**
+   * Leftmost playable square of every row.
+   */
+  private static final int FIRST_FILE = 0x11111111;
+
+  /**
+   * Rightmost playable square of every row.
+   */
+  private static final int LAST_FILE = 0x88888888;
+
+  private BitboardMoveGenerator() {
+  }
+
+  /**
+   * Shifts every square of a mask one diagonal step in the given direction.
+   * Squares that would leave the board are dropped.
+   *
+   * @param dir    the direction index, see {@link SquareTables}
+   * @param pieces the mask to shift
+   * @return the mask of neighbouring squares
+   */
+  public static int shift(final int dir, final int pieces) {
+    return switch (dir) {
+      case SquareTables.UP_LEFT ->
+          (pieces & EVEN_ROWS) >>> 4 | (pieces & ODD_ROWS & ~FIRST_FILE) >>> 5;
+      case SquareTables.UP_RIGHT ->
+          (pieces & EVEN_ROWS & ~LAST_FILE) >>> 3 | (pieces & ODD_ROWS) >>> 4;
+      case SquareTables.DOWN_LEFT ->
+          (pieces & EVEN_ROWS) << 4 | (pieces & ODD_ROWS & ~FIRST_FILE) << 3;
+      case SquareTables.DOWN_RIGHT ->
+          (pieces & EVEN_ROWS & ~LAST_FILE) << 5 | (pieces & ODD_ROWS) << 4;
+      default -> throw new IllegalArgumentException("Unknown direction: "
+          + dir);
+    };
+  }
+
+  /**
+   * Generates all legal moves of a side.
+   *
+   * @param color      {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   * @param boardState the current state of the game board
+   * @param moves      the list to fill; it is cleared first
+   */
+  public static void generateMoves(final int color,
+                                   final BoardState boardState,
+                                   final MoveList moves) {
+    moves.clear();
+    int own = boardState.getColorMask(color);
+    int kings = own & boardState.getKingMask();
+    int men = own & ~kings;
+    int enemies = boardState.getEnemyMask(color);
+    int empty = boardState.getEmptyMask();
+    int capturers = boardState.getCapturers(color);
+
+    int first = SquareTables.forwardDirection(color);
+    if (capturers != 0) {
+      for (int pieces = capturers; pieces != 0; pieces &= pieces - 1) {
+        int from = Integer.numberOfTrailingZeros(pieces);
+        int fromBit = SquareIndex.bit(from);
+        extendChain(color, from, (kings & fromBit) != 0, from, enemies,
+            empty | fromBit, 0, 0, 0L, moves);
+      }
+      return;
+    }
+    for (int dir = first; dir < first + 2; dir++) {
+      addManMoves(dir, color, men, empty, moves);
+    }
+    for (int pieces = kings; pieces != 0; pieces &= pieces - 1) {
+      addKingMoves(Integer.numberOfTrailingZeros(pieces), empty, moves);
+    }
+  }
+
+  /**
+   * Returns whether a side has a legal move, without generating any. A
+   * piece that cannot capture can move if one of its diagonal neighbours in
+   * a direction it moves in is empty.
+   *
+   * @param color      {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   * @param boardState the current state of the game board
+   * @return {@code false} if the side has no piece or every piece is
+   *     blocked
+   */
+  public static boolean hasMove(final int color,
+                                final BoardState boardState) {
+    if (boardState.getCapturers(color) != 0) {
+      return true;
+    }
+    int own = boardState.getColorMask(color);
+    int kings = own & boardState.getKingMask();
+    int empty = boardState.getEmptyMask();
+    int first = SquareTables.forwardDirection(color);
+    for (int dir = SquareTables.UP_LEFT; dir <= SquareTables.DOWN_RIGHT;
+         dir++) {
+      int movers = dir >= first && dir < first + 2 ? own : kings;
+      if ((shift(dir, movers) & empty) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void addManMoves(final int dir, final int color,
+                                  final int men, final int empty,
+                                  final MoveList moves) {
+    int evenTargets = shift(dir, men & EVEN_ROWS) & empty;
+    int oddTargets = shift(dir, men & ODD_ROWS) & empty;
+    int evenOffset = stepOffset(dir, true);
+    int oddOffset = stepOffset(dir, false);
+    for (; evenTargets != 0; evenTargets &= evenTargets - 1) {
+      int to = Integer.numberOfTrailingZeros(evenTargets);
+      moves.add(MoveEncoding.encode(to - evenOffset, to, GameConstants.MOVE,
+          0, MoveEncoding.promotes(color, to)));
+    }
+    for (; oddTargets != 0; oddTargets &= oddTargets - 1) {
+      int to = Integer.numberOfTrailingZeros(oddTargets);
+      moves.add(MoveEncoding.encode(to - oddOffset, to, GameConstants.MOVE,
+          0, MoveEncoding.promotes(color, to)));
+    }
+  }
+
+  private static void addKingMoves(final int from, final int empty,
+                                   final MoveList moves) {
+    for (int targets = KingRays.moveTargets(from, ~empty); targets != 0;
+         targets &= targets - 1) {
+      moves.add(MoveEncoding.encode(from,
+          Integer.numberOfTrailingZeros(targets), GameConstants.MOVE, 0,
+          false));
+    }
+  }
+
+  /**
+   * Extends a capture sequence from the square the capturing piece has
+   * reached, adding every sequence that cannot be continued to the list.
+   *
+   * @param color         the color of the capturing side
+   * @param from          the source square of the sequence
+   * @param king          whether the capturing piece is a king
+   * @param square        the square the piece has reached
+   * @param enemies       the enemy pieces still on the board
+   * @param empty         the empty squares, including the source square
+   * @param firstCaptured the square captured by the first hop
+   * @param captured      the squares captured so far
+   * @param path          the landing squares of the hops so far
+   * @param moves         the list to add complete sequences to
+   */
+  private static void extendChain(final int color, final int from,
+                                  final boolean king, final int square,
+                                  final int enemies, final int empty,
+                                  final int firstCaptured,
+                                  final int captured, final long path,
+                                  final MoveList moves) {
+    int hop = Integer.bitCount(captured);
+    int first = king ? 0 : SquareTables.forwardDirection(color);
+    int last = king ? SquareTables.DIRECTION_COUNT : first + 2;
+    boolean extended = false;
+    for (int dir = first; dir < last; dir++) {
+      int over;
+      int landing;
+      if (king) {
+        landing = KingRays.captureLanding(dir, square, enemies, ~empty);
+        if (landing == SquareTables.NONE) {
+          continue;
+        }
+        over = SquareTables.neighbour(CaptureMasks.opposite(dir), landing);
+      } else {
+        over = SquareTables.neighbour(dir, square);
+        landing = SquareTables.jumpLanding(dir, square);
+        if (landing == SquareTables.NONE
+            || (enemies & SquareIndex.bit(over)) == 0
+            || (empty & SquareIndex.bit(landing)) == 0) {
+          continue;
+        }
+      }
+      extended = true;
+      int overBit = SquareIndex.bit(over);
+      int nextFirst = hop == 0 ? over : firstCaptured;
+      long nextPath = MoveEncoding.appendToPath(path, hop, landing);
+      if (!king && MoveEncoding.promotes(color, landing)) {
+        addChain(from, landing, false, nextFirst, captured | overBit,
+            nextPath, true, moves);
+      } else {
+        extendChain(color, from, king, landing, enemies & ~overBit,
+            empty | overBit, nextFirst, captured | overBit, nextPath, moves);
+      }
+    }
+    if (!extended && hop > 0) {
+      addChain(from, square, king, firstCaptured, captured, path, false,
+          moves);
+    }
+  }
+
+  private static void addChain(final int from, final int to,
+                               final boolean king, final int firstCaptured,
+                               final int captured, final long path,
+                               final boolean promotion,
+                               final MoveList moves) {
+    int move = MoveEncoding.encode(from, to,
+        king ? GameConstants.KING_TAKE : GameConstants.TAKE, firstCaptured,
+        promotion);
+    if (!moves.contains(move, captured)) {
+      moves.add(move, captured, path);
+    }
+  }
+
+  private static int stepOffset(final int dir, final boolean evenRow) {
+    return switch (dir) {
+      case SquareTables.UP_LEFT -> evenRow ? -4 : -5;
+      case SquareTables.UP_RIGHT -> evenRow ? -3 : -4;
+      case SquareTables.DOWN_LEFT -> evenRow ? 4 : 3;
+      default -> evenRow ? 5 : 4;
+    };
+  }
+}
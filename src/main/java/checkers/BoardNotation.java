@@ -0,0 +1,115 @@
+package checkers;
+
+/**
+ * Utility class reading and writing positions and moves as short strings.
+ *
+ * <p>A position is written as the side to move, a colon and one character
+ * per playable square in {@link SquareIndex} order: {@code r} and {@code b}
+ * for men, {@code R} and {@code B} for kings and {@code .} for an empty
+ * square. The starting position, for example, reads
+ * {@code r:bbbbbbbbbbbb........rrrrrrrrrrrr}.</p>
+ *
+ * <p>Moves use the usual checkers numbering of the playable squares from 1
+ * to 32: {@code 22-18} for a step and {@code 22x15x6} for a capture, listing
+ * every landing square of a multi-jump.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class BoardNotation {
+  /**
+   * Piece characters indexed by piece code, see {@link GameConstants}.
+   */
+  private static final String PIECES = ".rbRB";
+
+  /**
+   * Separator between the side to move and the squares.
+   */
+  private static final char SIDE_SEPARATOR = ':';
+
+  private BoardNotation() {
+  }
+
+  /**
+   * Reads a position.
+   *
+   * @param notation the position, e.g.
+   *                 {@code r:bbbbbbbbbbbb........rrrrrrrrrrrr}
+   * @return a new board holding the position
+   * @throws IllegalArgumentException if the notation is malformed
+   */
+  public static BoardState parse(final String notation) {
+    if (notation.length() != SquareIndex.SQUARE_COUNT + 2
+        || notation.charAt(1) != SIDE_SEPARATOR) {
+      throw new IllegalArgumentException("Malformed position: " + notation);
+    }
+    BoardState board = new BoardState();
+    board.setSideToMove(pieceOf(notation.charAt(0), notation));
+    for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+      board.setPieceAt(square, pieceOf(notation.charAt(square + 2),
+          notation));
+    }
+    return board;
+  }
+
+  /**
+   * Writes a position.
+   *
+   * @param board the board to write
+   * @return the position notation
+   */
+  public static String format(final BoardState board) {
+    StringBuilder notation = new StringBuilder(SquareIndex.SQUARE_COUNT + 2);
+    notation.append(PIECES.charAt(board.getSideToMove()))
+        .append(SIDE_SEPARATOR);
+    for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+      notation.append(PIECES.charAt(board.getPieceAt(square)));
+    }
+    return notation.toString();
+  }
+
+  /**
+   * Writes a move of a list, including every hop of a multi-jump capture.
+   *
+   * @param moves the list holding the move
+   * @param index the position of the move in the list
+   * @return the move notation, e.g. {@code 22-18} or {@code 22x15x6}
+   */
+  public static String formatMove(final MoveList moves, final int index) {
+    int move = moves.get(index);
+    StringBuilder notation = new StringBuilder()
+        .append(MoveEncoding.from(move) + 1);
+    if (!MoveEncoding.isCapture(move)) {
+      return notation.append('-').append(MoveEncoding.to(move) + 1)
+          .toString();
+    }
+    long path = moves.path(index);
+    int hops = Integer.bitCount(moves.capturedMask(index));
+    for (int hop = 0; hop < hops; hop++) {
+      notation.append('x').append(MoveEncoding.pathSquare(path, hop) + 1);
+    }
+    return notation.toString();
+  }
+
+  /**
+   * Writes a move decision. A decision keeps only the first and last square
+   * of a multi-jump capture, so only those two are written.
+   *
+   * @param decision the move to write
+   * @return the move notation, e.g. {@code 22-18} or {@code 22x6}
+   */
+  public static String formatDecision(final BotDecision decision) {
+    int from = SquareIndex.toSquare(decision.fromRow(), decision.fromCol());
+    int to = SquareIndex.toSquare(decision.toRow(), decision.toCol());
+    char separator = decision.moveType() == GameConstants.MOVE ? '-' : 'x';
+    return String.valueOf(from + 1) + separator + (to + 1);
+  }
+
+  private static int pieceOf(final char symbol, final String notation) {
+    int piece = PIECES.indexOf(symbol);
+    if (piece < 0) {
+      throw new IllegalArgumentException("Unknown piece '" + symbol
+          + "' in position: " + notation);
+    }
+    return piece;
+  }
+}
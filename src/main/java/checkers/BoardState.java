@@ -3,34 +3,118 @@ package checkers;
 /**
  * Represents the state of a checkers board.
  *
- * <p>The board is stored as a 2D array of integers, where each element
- * represents a piece or an empty square. This class provides methods for
- * querying, modifying, and copying the board state while ensuring
- * encapsulation through defensive copying where appropriate.</p>
+ * <p>The position is stored as three 32-bit masks over the playable dark
+ * squares (see {@link SquareIndex}): one for red pieces, one for black
+ * pieces and one marking which of those pieces are kings. Light squares can
+ * never hold a piece and always read as {@link GameConstants#EMPTY}.</p>
  *
- * @param pieces the 2D array representing the initial arrangement of pieces
- *               on the board
+ * <p>The {@link #getPiece(int, int)} and {@link #setPiece(int, int, int)}
+ * methods keep the familiar row/column view of the board, while copying,
+ * comparing and hashing a position only touch the three masks.</p>
+ *
+ * <p>Every change to the board also updates a 64-bit {@link Zobrist} key
+ * that identifies the position together with the side to move.</p>
  */
-public record BoardState(int[][] pieces) {
+public final class BoardState {
+  /**
+   * Squares on which red pieces are promoted to kings.
+   */
+  private static final int RED_PROMOTION_SQUARES = SquareIndex.rowMask(0);
+
+  /**
+   * Squares on which black pieces are promoted to kings.
+   */
+  private static final int BLACK_PROMOTION_SQUARES =
+      SquareIndex.rowMask(GameConstants.LAST_ROW_INDEX);
+
+  /**
+   * Squares occupied by red pieces, including red kings.
+   */
+  private int redMask;
+
+  /**
+   * Squares occupied by black pieces, including black kings.
+   */
+  private int blackMask;
+
+  /**
+   * Squares occupied by kings of either color.
+   */
+  private int kingMask;
+
+  /**
+   * Color of the player to move, {@link GameConstants#RED} or
+   * {@link GameConstants#BLACK}.
+   */
+  private int sideToMove = GameConstants.RED;
+
+  /**
+   * Zobrist key of the current position and side to move.
+   */
+  private long zobristKey;
+
+  /**
+   * Position key, without the side to move, for which the cached
+   * capturer masks were computed.
+   */
+  private long capturersKey;
+
+  /**
+   * Whether {@link #capturersKey} and the cached masks are valid.
+   */
+  private boolean capturersCached;
+
+  /**
+   * Cached red pieces that can capture, see {@link #getCapturers(int)}.
+   */
+  private int redCapturers;
+
+  /**
+   * Cached black pieces that can capture, see {@link #getCapturers(int)}.
+   */
+  private int blackCapturers;
+
   /**
    * Creates an empty board state with the default board size.
    */
   public BoardState() {
-    this(new int[GameConstants.BOARD_SIZE][GameConstants.BOARD_SIZE]);
   }
 
   /**
-   * Creates a board state with a given 2D array of pieces.
-   * Performs a deep copy of the array to prevent external modification.
+   * Creates a board state from a 2D array of pieces.
+   * The array is only read; later changes to it do not affect this board.
    *
-   * @param pieces the initial arrangement of pieces
+   * @param pieces the initial arrangement of pieces, indexed by row and
+   *               column
+   * @throws IllegalArgumentException if the array is not
+   *                                  {@link GameConstants#BOARD_SIZE} square,
+   *                                  contains an unknown piece or places a
+   *                                  piece on a light square
    */
-  public BoardState {
-    int[][] copy = new int[pieces.length][];
-    for (int i = 0; i < pieces.length; i++) {
-      copy[i] = pieces[i].clone();
+  public BoardState(final int[][] pieces) {
+    if (pieces.length != GameConstants.BOARD_SIZE) {
+      throw new IllegalArgumentException(
+          "Board must have " + GameConstants.BOARD_SIZE + " rows");
+    }
+    for (int row = 0; row < GameConstants.BOARD_SIZE; row++) {
+      if (pieces[row].length != GameConstants.BOARD_SIZE) {
+        throw new IllegalArgumentException(
+            "Board must have " + GameConstants.BOARD_SIZE + " columns");
+      }
+      for (int col = 0; col < GameConstants.BOARD_SIZE; col++) {
+        setPiece(row, col, pieces[row][col]);
+      }
     }
-    pieces = copy;
+  }
+
+  private BoardState(final int redMaskParam, final int blackMaskParam,
+                     final int kingMaskParam, final int sideToMoveParam,
+                     final long zobristKeyParam) {
+    redMask = redMaskParam;
+    blackMask = blackMaskParam;
+    kingMask = kingMaskParam;
+    sideToMove = sideToMoveParam;
+    zobristKey = zobristKeyParam;
   }
 
   /**
@@ -39,9 +123,33 @@ public record BoardState(int[][] pieces) {
    * @param row the row index
    * @param col the column index
    * @return the piece at the given row and column
+   * @throws ArrayIndexOutOfBoundsException if the position is outside the
+   *                                        board
    */
   public int getPiece(final int row, final int col) {
-    return pieces[row][col];
+    checkBounds(row, col);
+    if (!SquareIndex.isDarkSquare(row, col)) {
+      return GameConstants.EMPTY;
+    }
+    return getPieceAt(SquareIndex.toSquare(row, col));
+  }
+
+  /**
+   * Returns the piece on a playable square.
+   *
+   * @param square the square index, see {@link SquareIndex}
+   * @return the piece on the square
+   */
+  public int getPieceAt(final int square) {
+    int bit = SquareIndex.bit(square);
+    boolean king = (kingMask & bit) != 0;
+    if ((redMask & bit) != 0) {
+      return king ? GameConstants.RED_KING : GameConstants.RED;
+    }
+    if ((blackMask & bit) != 0) {
+      return king ? GameConstants.BLACK_KING : GameConstants.BLACK;
+    }
+    return GameConstants.EMPTY;
   }
 
   /**
@@ -50,37 +158,426 @@ public record BoardState(int[][] pieces) {
    * @param row   the row index
    * @param col   the column index
    * @param piece the piece to place
+   * @throws ArrayIndexOutOfBoundsException if the position is outside the
+   *                                        board
+   * @throws IllegalArgumentException       if the piece is unknown or a
+   *                                        piece is placed on a light square
    */
   public void setPiece(final int row, final int col, final int piece) {
-    pieces[row][col] = piece;
+    checkBounds(row, col);
+    if (!SquareIndex.isDarkSquare(row, col)) {
+      if (piece != GameConstants.EMPTY) {
+        throw new IllegalArgumentException(
+            "Pieces can only be placed on dark squares");
+      }
+      return;
+    }
+    setPieceAt(SquareIndex.toSquare(row, col), piece);
+  }
+
+  /**
+   * Sets a piece on a playable square.
+   *
+   * @param square the square index, see {@link SquareIndex}
+   * @param piece  the piece to place
+   * @throws IllegalArgumentException if the piece is unknown
+   */
+  public void setPieceAt(final int square, final int piece) {
+    long oldKey = Zobrist.pieceKey(getPieceAt(square), square);
+    int bit = SquareIndex.bit(square);
+    int clear = ~bit;
+    switch (piece) {
+      case GameConstants.EMPTY -> {
+        redMask &= clear;
+        blackMask &= clear;
+        kingMask &= clear;
+      }
+      case GameConstants.RED -> {
+        redMask |= bit;
+        blackMask &= clear;
+        kingMask &= clear;
+      }
+      case GameConstants.BLACK -> {
+        redMask &= clear;
+        blackMask |= bit;
+        kingMask &= clear;
+      }
+      case GameConstants.RED_KING -> {
+        redMask |= bit;
+        blackMask &= clear;
+        kingMask |= bit;
+      }
+      case GameConstants.BLACK_KING -> {
+        redMask &= clear;
+        blackMask |= bit;
+        kingMask |= bit;
+      }
+      default -> throw new IllegalArgumentException("Unknown piece: " + piece);
+    }
+    zobristKey ^= oldKey ^ Zobrist.pieceKey(piece, square);
+  }
+
+  /**
+   * Returns the color of the player to move.
+   *
+   * @return {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   */
+  public int getSideToMove() {
+    return sideToMove;
   }
 
   /**
-   * Creates a deep copy of this board state.
+   * Sets the color of the player to move.
+   *
+   * @param color {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   * @throws IllegalArgumentException if the color is not a player color
+   */
+  public void setSideToMove(final int color) {
+    if (color != GameConstants.RED && color != GameConstants.BLACK) {
+      throw new IllegalArgumentException("Unknown side: " + color);
+    }
+    if (color != sideToMove) {
+      sideToMove = color;
+      zobristKey ^= Zobrist.SIDE_KEY;
+    }
+  }
+
+  /**
+   * Returns the Zobrist key of the position and side to move. Equal
+   * positions always have equal keys.
+   *
+   * @return the 64-bit position key
+   */
+  public long getZobristKey() {
+    return zobristKey;
+  }
+
+  /**
+   * Applies a move decision to the board and returns a record that allows
+   * the move to be taken back with {@link #unmakeMove(BotDecision, long)}.
+   *
+   * <p>The moving piece is taken from the source square, so moves of either
+   * color are applied correctly. Captured pieces are removed, including
+   * every piece of a multi-jump capture, and a piece reaching its promotion
+   * row is crowned. The turn passes to the other side.</p>
+   *
+   * @param decision the move to apply
+   * @return the packed undo record, see {@link MoveUndo}
+   */
+  public long makeMove(final BotDecision decision) {
+    return makeMove(
+        SquareIndex.toSquare(decision.fromRow(), decision.fromCol()),
+        SquareIndex.toSquare(decision.toRow(), decision.toCol()),
+        capturedSquares(decision));
+  }
+
+  /**
+   * Takes back a move previously applied with {@link #makeMove(BotDecision)}.
+   * Moves must be taken back in the reverse order they were made.
+   *
+   * @param decision the move to take back
+   * @param undo     the undo record returned when the move was made
+   */
+  public void unmakeMove(final BotDecision decision, final long undo) {
+    unmakeMove(SquareIndex.toSquare(decision.fromRow(), decision.fromCol()),
+        SquareIndex.toSquare(decision.toRow(), decision.toCol()), undo);
+  }
+
+  /**
+   * Applies a move packed with {@link MoveEncoding} and returns a record
+   * that allows it to be taken back with {@link #unmakeMove(int, long)}.
+   * The packed move only knows its first captured square; a multi-jump
+   * capture must be made with {@link #makeMove(int, int, int)} and the
+   * mask from {@link MoveList#capturedMask(int)}.
+   *
+   * @param move the packed move
+   * @return the packed undo record, see {@link MoveUndo}
+   */
+  public long makeMove(final int move) {
+    return makeMove(MoveEncoding.from(move), MoveEncoding.to(move),
+        MoveEncoding.capturedMask(move));
+  }
+
+  /**
+   * Takes back a move previously applied with {@link #makeMove(int)}.
+   *
+   * @param move the packed move
+   * @param undo the undo record returned when the move was made
+   */
+  public void unmakeMove(final int move, final long undo) {
+    unmakeMove(MoveEncoding.from(move), MoveEncoding.to(move), undo);
+  }
+
+  /**
+   * Moves the piece on {@code from} to {@code to}, removes the pieces on the
+   * captured squares and promotes the piece if it reached its promotion row.
+   * The turn passes to the other side.
+   *
+   * @param from            the source square index
+   * @param to              the destination square index
+   * @param capturedSquares mask of the squares whose pieces are captured
+   * @return the packed undo record, see {@link MoveUndo}
+   */
+  public long makeMove(final int from, final int to,
+                       final int capturedSquares) {
+    int fromBit = SquareIndex.bit(from);
+    int toBit = SquareIndex.bit(to);
+    boolean red = (redMask & fromBit) != 0;
+    boolean king = (kingMask & fromBit) != 0;
+    int capturedKings = kingMask & capturedSquares;
+    int moved = getPieceAt(from);
+    zobristKey ^= Zobrist.pieceKey(moved, from) ^ capturedKey(capturedSquares)
+        ^ Zobrist.SIDE_KEY;
+
+    redMask &= ~capturedSquares;
+    blackMask &= ~capturedSquares;
+    kingMask &= ~(capturedSquares | fromBit);
+
+    int promotion = 0;
+    if (red) {
+      redMask = (redMask & ~fromBit) | toBit;
+      if (!king && (toBit & RED_PROMOTION_SQUARES) != 0) {
+        promotion = toBit;
+      }
+    } else {
+      blackMask = (blackMask & ~fromBit) | toBit;
+      if (!king && (toBit & BLACK_PROMOTION_SQUARES) != 0) {
+        promotion = toBit;
+      }
+    }
+    if (king || promotion != 0) {
+      kingMask |= toBit;
+    }
+    zobristKey ^= Zobrist.pieceKey(getPieceAt(to), to);
+    sideToMove = opponent(sideToMove);
+    return MoveUndo.of(capturedSquares, capturedKings, promotion);
+  }
+
+  /**
+   * Takes back a move previously applied with
+   * {@link #makeMove(int, int, int)}.
+   *
+   * @param from the source square index of the move
+   * @param to   the destination square index of the move
+   * @param undo the undo record returned when the move was made
+   */
+  public void unmakeMove(final int from, final int to, final long undo) {
+    int fromBit = SquareIndex.bit(from);
+    int toBit = SquareIndex.bit(to);
+    boolean red = (redMask & toBit) != 0;
+    boolean king = (kingMask & toBit) != 0 && !MoveUndo.isPromotion(undo);
+    int captured = MoveUndo.capturedSquares(undo);
+    zobristKey ^= Zobrist.pieceKey(getPieceAt(to), to) ^ Zobrist.SIDE_KEY;
+
+    if (red) {
+      redMask = (redMask & ~toBit) | fromBit;
+      blackMask |= captured;
+    } else {
+      blackMask = (blackMask & ~toBit) | fromBit;
+      redMask |= captured;
+    }
+    kingMask = (kingMask & ~toBit) | MoveUndo.capturedKings(undo);
+    if (king) {
+      kingMask |= fromBit;
+    }
+    zobristKey ^= Zobrist.pieceKey(getPieceAt(from), from)
+        ^ capturedKey(captured);
+    sideToMove = opponent(sideToMove);
+  }
+
+  /**
+   * Creates a copy of this board state.
    *
    * @return a new BoardState object with the same piece arrangement
    */
   public BoardState copy() {
-    return new BoardState(pieces);
+    return new BoardState(redMask, blackMask, kingMask, sideToMove,
+        zobristKey);
   }
 
   /**
-   * Returns the entire 2D array of pieces.
-   * Modifications to the returned array may affect this board state.
+   * Returns a snapshot of the board as a 2D array of pieces.
+   * Modifications to the returned array do not affect this board state.
    *
    * @return a 2D array representing the board
    */
   public int[][] getPieces() {
+    int[][] pieces = new int[GameConstants.BOARD_SIZE][];
+    for (int row = 0; row < GameConstants.BOARD_SIZE; row++) {
+      pieces[row] = getPiecesRows(row);
+    }
     return pieces;
   }
 
   /**
-   * Returns a specific row of pieces on the board.
+   * Returns a snapshot of a specific row of pieces on the board.
    *
    * @param rowIndex the row index
    * @return an array representing the row at the given index
+   * @throws ArrayIndexOutOfBoundsException if the row is outside the board
    */
   public int[] getPiecesRows(final int rowIndex) {
-    return pieces[rowIndex];
+    int[] row = new int[GameConstants.BOARD_SIZE];
+    for (int col = 0; col < GameConstants.BOARD_SIZE; col++) {
+      row[col] = getPiece(rowIndex, col);
+    }
+    return row;
+  }
+
+  /**
+   * Returns the mask of squares occupied by red pieces and red kings.
+   *
+   * @return the red piece mask
+   */
+  public int getRedMask() {
+    return redMask;
+  }
+
+  /**
+   * Returns the mask of squares occupied by black pieces and black kings.
+   *
+   * @return the black piece mask
+   */
+  public int getBlackMask() {
+    return blackMask;
+  }
+
+  /**
+   * Returns the mask of squares occupied by pieces of the same color as the
+   * given piece, kings included.
+   *
+   * @param piece any red or black piece code
+   * @return the red mask for red pieces, otherwise the black mask
+   */
+  public int getColorMask(final int piece) {
+    return isRedPiece(piece) ? redMask : blackMask;
+  }
+
+  /**
+   * Returns the mask of squares occupied by the opponents of the given
+   * piece, kings included.
+   *
+   * @param piece any red or black piece code
+   * @return the black mask for red pieces, otherwise the red mask
+   */
+  public int getEnemyMask(final int piece) {
+    return isRedPiece(piece) ? blackMask : redMask;
+  }
+
+  /**
+   * Returns the pieces of a side that can capture, see
+   * {@link CaptureMasks#capturers(int, BoardState)}. The masks of both
+   * sides are computed together and cached until the pieces change, so
+   * repeated calls for the same position are free.
+   *
+   * @param piece any red or black piece code
+   * @return the mask of squares holding pieces that can capture
+   */
+  public int getCapturers(final int piece) {
+    long pieceKey = sideToMove == GameConstants.BLACK
+        ? zobristKey ^ Zobrist.SIDE_KEY : zobristKey;
+    if (!capturersCached || capturersKey != pieceKey) {
+      redCapturers = CaptureMasks.capturers(GameConstants.RED, this);
+      blackCapturers = CaptureMasks.capturers(GameConstants.BLACK, this);
+      capturersKey = pieceKey;
+      capturersCached = true;
+    }
+    return isRedPiece(piece) ? redCapturers : blackCapturers;
+  }
+
+  /**
+   * Returns the mask of squares occupied by kings of either color.
+   *
+   * @return the king mask
+   */
+  public int getKingMask() {
+    return kingMask;
+  }
+
+  /**
+   * Returns the mask of all occupied squares.
+   *
+   * @return the occupied square mask
+   */
+  public int getOccupiedMask() {
+    return redMask | blackMask;
+  }
+
+  /**
+   * Returns the mask of all empty playable squares.
+   *
+   * @return the empty square mask
+   */
+  public int getEmptyMask() {
+    return ~(redMask | blackMask);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof BoardState that)) {
+      return false;
+    }
+    return redMask == that.redMask && blackMask == that.blackMask
+        && kingMask == that.kingMask && sideToMove == that.sideToMove;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(zobristKey);
+  }
+
+  @Override
+  public String toString() {
+    return "BoardState[redMask=" + Integer.toHexString(redMask)
+        + ", blackMask=" + Integer.toHexString(blackMask)
+        + ", kingMask=" + Integer.toHexString(kingMask)
+        + ", sideToMove=" + sideToMove + "]";
+  }
+
+  private long capturedKey(final int capturedSquares) {
+    long key = 0;
+    int remaining = capturedSquares;
+    while (remaining != 0) {
+      int square = Integer.numberOfTrailingZeros(remaining);
+      key ^= Zobrist.pieceKey(getPieceAt(square), square);
+      remaining &= remaining - 1;
+    }
+    return key;
+  }
+
+  private static boolean isRedPiece(final int piece) {
+    return piece == GameConstants.RED || piece == GameConstants.RED_KING;
+  }
+
+  private static int opponent(final int color) {
+    return color == GameConstants.RED ? GameConstants.BLACK
+        : GameConstants.RED;
+  }
+
+  private static int capturedSquares(final BotDecision decision) {
+    if (decision.capturedMask() != 0) {
+      return decision.capturedMask();
+    }
+    int rowDir = Integer.signum(decision.toRow() - decision.fromRow());
+    int colDir = Integer.signum(decision.toCol() - decision.fromCol());
+    return switch (decision.moveType()) {
+      case GameConstants.TAKE -> SquareIndex.bit(SquareIndex.toSquare(
+          (decision.fromRow() + decision.toRow()) / 2,
+          (decision.fromCol() + decision.toCol()) / 2));
+      case GameConstants.KING_TAKE -> SquareIndex.bit(SquareIndex.toSquare(
+          decision.toRow() - rowDir, decision.toCol() - colDir));
+      default -> 0;
+    };
+  }
+
+  private static void checkBounds(final int row, final int col) {
+    if (row < 0 || row >= GameConstants.BOARD_SIZE || col < 0
+        || col >= GameConstants.BOARD_SIZE) {
+      throw new ArrayIndexOutOfBoundsException(
+          "Position outside the board: " + row + ", " + col);
+    }
   }
 }
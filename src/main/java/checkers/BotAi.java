@@ -7,8 +7,9 @@ import java.util.ArrayList;
  * optimal moves in the checkers game.
  *
  * <p>The {@code BotAi} uses a {@link MoveService} to generate all legal moves
- * for the current board state and applies a selection strategy to identify
- * the most advantageous move for the bot.
+ * for the current board state and searches the game tree below each of them
+ * with {@link SearchEngine} to identify the most advantageous move for the
+ * bot.
  * </p>
  *
  * @param moveService the service used to generate all possible moves
@@ -24,7 +25,37 @@ public record BotAi(MoveService moveService) {
   public BotDecision makeMove(final BotState botState) {
     ArrayList<BotDecision> possibleMoves =
         moveService.getPossibleMoves(botState.board());
-    return BestMoveSelector.chooseBestMove(possibleMoves, botState.board(),
+    return SearchEngine.chooseBestMove(possibleMoves, botState.board(),
         botState.playerConfig());
   }
+
+  /**
+   * Determines the best move for the bot based on the current game state,
+   * stopping early if the token is cancelled. If the bot pondered on the
+   * position the human has just left it in, the pondered move is played
+   * without a search. The statistics of the search, or of the ponder, are
+   * left in the player configuration.
+   *
+   * @param botState     the current state of the bot, including the board
+   *                     and player configuration
+   * @param cancellation the token stopping the search; once it is cancelled
+   *                     the returned move must not be played
+   * @return the {@link BotDecision} representing the chosen move
+   */
+  public BotDecision makeMove(final BotState botState,
+                              final CancellationToken cancellation) {
+    ArrayList<BotDecision> possibleMoves =
+        moveService.getPossibleMoves(botState.board());
+    Ponderer ponderer = botState.playerConfig().getPonderer();
+    if (ponderer != null) {
+      BotDecision pondered =
+          ponderer.takeMove(botState.board(), possibleMoves);
+      if (pondered != null) {
+        botState.playerConfig().setSearchStats(ponderer.getSearchStats());
+        return pondered;
+      }
+    }
+    return SearchEngine.chooseBestMove(possibleMoves, botState.board(),
+        botState.playerConfig(), cancellation);
+  }
 }
@@ -1,12 +1,17 @@
 package checkers;
 
+import javax.swing.SwingUtilities;
+
 /**
  * Controller responsible for managing the bot's turn lifecycle
  * in a checkers game. It coordinates the decision-making process,
  * move execution, and UI updates for the bot player.
  *
- * <p>The bot's turn is executed asynchronously with a configurable delay
- * defined in {@link GameConstants#BOT_MOVE_DELAY_MS}.
+ * <p>The bot's turn is executed asynchronously. It takes as long as the
+ * bot's search, which is bounded by the time budget of its
+ * {@link SearchConfig}. {@link #cancel()} stops a running search within a
+ * few milliseconds and keeps the turn from changing the board or the UI;
+ * once cancelled, the controller plays no further turns.
  *
  * @param decisionService the service responsible for determining the bot's
  *                        next move
@@ -14,32 +19,72 @@ package checkers;
  *                        move to the game state
  * @param uiHandler       the handler responsible for updating the UI and
  *                        switching turns
+ * @param cancellation    the token stopping the bot's turns
  */
 public record BotController(BotDecisionService decisionService,
                             BotMoveExecutor moveExecutor,
-                            BotUiHandler uiHandler) {
+                            BotUiHandler uiHandler,
+                            CancellationToken cancellation) {
+  /**
+   * Creates a controller with a token of its own.
+   *
+   * @param decisionService the service responsible for determining the
+   *                        bot's next move
+   * @param moveExecutor    the executor responsible for applying the bot's
+   *                        move to the game state
+   * @param uiHandler       the handler responsible for updating the UI and
+   *                        switching turns
+   */
+  public BotController(final BotDecisionService decisionService,
+                       final BotMoveExecutor moveExecutor,
+                       final BotUiHandler uiHandler) {
+    this(decisionService, moveExecutor, uiHandler, new CancellationToken());
+  }
+
   /**
    * Executes the bot's turn asynchronously. This method:
    * <ul>
-   *     <li>Delays execution by {@link GameConstants#BOT_MOVE_DELAY_MS}
-   *     milliseconds.</li>
    *     <li>Obtains the bot's decision via {@link BotDecisionService}.</li>
    *     <li>Executes the chosen move using {@link BotMoveExecutor}.</li>
+   *     <li>Starts pondering on the human player's time.</li>
    *     <li>Updates the UI and switches the turn using {@link BotUiHandler}
    *     .</li>
    * </ul>
+   * The search runs on a thread of its own; the move is applied on the
+   * event dispatch thread, like the human player's moves. The move is
+   * neither executed nor shown if the controller was cancelled in the
+   * meantime: the token is checked again on the event dispatch thread,
+   * where {@link #cancel()} is called, so a cancellation cannot land
+   * between that check and the move.
    */
   public void executeTurn() {
+    if (cancellation.isCancelled()) {
+      return;
+    }
     new Thread(() -> {
-      try {
-        Thread.sleep(GameConstants.BOT_MOVE_DELAY_MS);
-      } catch (InterruptedException e) {
-        System.err.println("Thread was interrupted: " + e.getMessage());
+      BotDecision decision = decisionService.getBotDecision(cancellation);
+      if (cancellation.isCancelled()) {
+        return;
       }
-
-      BotDecision decision = decisionService.getBotDecision();
-      moveExecutor.executeMove(decision);
-      uiHandler.updateUiAndSwitchTurn();
+      SwingUtilities.invokeLater(() -> {
+        if (cancellation.isCancelled()) {
+          return;
+        }
+        moveExecutor.executeMove(decision);
+        decisionService.startPondering();
+        uiHandler.updateUiAndSwitchTurn();
+      });
     }).start();
   }
+
+  /**
+   * Stops the running turn, if any, and every later one. The search polls
+   * the token every 1024 nodes, so it returns within a few milliseconds.
+   * The board and the UI are left as they were before the turn. Called on
+   * the event dispatch thread, it also stops a decision that is waiting
+   * to be applied.
+   */
+  public void cancel() {
+    cancellation.cancel();
+  }
 }
@@ -4,15 +4,35 @@ package checkers;
  * Represents a decision made by a bot during a checkers game.
  *
  * <p>A decision consists of the starting position, the target position,
- * and the type of move performed.
+ * and the type of move performed. A capture that jumps several pieces in
+ * one turn also carries the squares of all captured pieces; for a single
+ * jump the mask may be left 0 and the captured square follows from the
+ * move geometry.
  * </p>
  *
- * @param fromRow  the row index of the piece before the move
- * @param fromCol  the column index of the piece before the move
- * @param toRow    the row index of the destination square
- * @param toCol    the column index of the destination square
- * @param moveType the type of the move (e.g., normal move, capture, etc.)
+ * @param fromRow      the row index of the piece before the move
+ * @param fromCol      the column index of the piece before the move
+ * @param toRow        the row index of the destination square
+ * @param toCol        the column index of the destination square
+ * @param moveType     the type of the move (e.g., normal move, capture,
+ *                     etc.)
+ * @param capturedMask mask of the captured squares, see
+ *                     {@link SquareIndex#bit(int)}, or 0 if they follow from
+ *                     the move geometry
  */
 public record BotDecision(int fromRow, int fromCol, int toRow, int toCol,
-                          int moveType) {
+                          int moveType, int capturedMask) {
+  /**
+   * Creates a decision that captures at most one piece.
+   *
+   * @param fromRow  the row index of the piece before the move
+   * @param fromCol  the column index of the piece before the move
+   * @param toRow    the row index of the destination square
+   * @param toCol    the column index of the destination square
+   * @param moveType the type of the move
+   */
+  public BotDecision(final int fromRow, final int fromCol, final int toRow,
+                     final int toCol, final int moveType) {
+    this(fromRow, fromCol, toRow, toCol, moveType, 0);
+  }
 }
@@ -22,4 +22,29 @@ public record BotDecisionService(BotAi bot, BotState botState) {
 
     return bot.makeMove(botState);
   }
+
+  /**
+   * Retrieves the bot's next move based on the current bot state, stopping
+   * the search early if the token is cancelled.
+   *
+   * @param cancellation the token stopping the search
+   * @return {@link BotDecision} representing the decision made by the bot;
+   *     it must not be played once the token is cancelled
+   */
+  public BotDecision getBotDecision(final CancellationToken cancellation) {
+    return bot.makeMove(botState, cancellation);
+  }
+
+  /**
+   * Starts searching on the human player's time, if the player configuration
+   * has a {@link Ponderer}. Called once the bot's move is on the board.
+   */
+  public void startPondering() {
+    PlayerConfig playerConfig = botState.playerConfig();
+    Ponderer ponderer = playerConfig.getPonderer();
+    if (ponderer != null) {
+      ponderer.start(botState.board(), playerConfig.getBotColor(),
+          playerConfig.getSearchConfig());
+    }
+  }
 }
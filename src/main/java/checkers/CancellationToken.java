@@ -0,0 +1,44 @@
+package checkers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Signal that asks a running bot search to stop.
+ *
+ * <p>A token starts out not cancelled and stays cancelled once
+ * {@link #cancel()} is called, from any thread. {@link SearchEngine} polls
+ * it at the same 1024-node interval as its clock, so a search stops within
+ * a fraction of a millisecond of the call, and a cancelled bot turn leaves
+ * the board untouched.</p>
+ */
+public final class CancellationToken {
+  /**
+   * Whether the token was cancelled; read by the search as its stop signal.
+   */
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+
+  /**
+   * Cancels the token. Calling it again has no effect.
+   */
+  public void cancel() {
+    cancelled.set(true);
+  }
+
+  /**
+   * Returns whether the token was cancelled.
+   *
+   * @return {@code true} once {@link #cancel()} was called
+   */
+  public boolean isCancelled() {
+    return cancelled.get();
+  }
+
+  /**
+   * Returns the flag behind the token, for a search to poll.
+   *
+   * @return the flag set by {@link #cancel()}
+   */
+  AtomicBoolean signal() {
+    return cancelled;
+  }
+}
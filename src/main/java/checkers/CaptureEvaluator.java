@@ -25,7 +25,22 @@ public final class CaptureEvaluator {
    */
   public static int evaluateCaptureOpportunities(final BoardState boardState,
                                                  final PlayerConfig config) {
-    if (botCanCaptureAfterMove(boardState, config)) {
+    return evaluateCaptureOpportunities(
+        botCanCaptureAfterMove(boardState, config));
+  }
+
+  /**
+   * Returns the capture opportunity score when it is already known whether
+   * the bot can capture, for example from
+   * {@link BoardState#getCapturers(int)}.
+   *
+   * @param botCanCapture whether the bot has a capture
+   * @return {@link GameConstants#SCORE_TAKE_POSSIBLE} if the bot can
+   *     capture, otherwise 0
+   */
+  public static int evaluateCaptureOpportunities(
+      final boolean botCanCapture) {
+    if (botCanCapture) {
       return GameConstants.SCORE_TAKE_POSSIBLE;
     }
     return 0;
@@ -1,15 +1,12 @@
 package checkers;
 
-import java.util.ArrayList;
-
 /**
- * Utility class for generating all possible capture moves in a checkers game.
- *
- * <p>This class provides static methods to find capture moves for both regular
- * pieces and king pieces. It cannot be instantiated.</p>
+ * Utility class for finding the capture moves of a single piece in a
+ * checkers game.
  *
- * <p>All generated moves are added to the provided list of
- * {@link BotDecision} objects.</p>
+ * <p>This class provides static methods returning the landing squares of
+ * the captures of regular pieces and king pieces as square masks. It cannot
+ * be instantiated.</p>
  */
 public final class CaptureGenerator {
 
@@ -18,72 +15,46 @@ public final class CaptureGenerator {
   }
 
   /**
-   * Finds all possible capture moves for a regular piece at the given
-   * position on the board and adds them to the provided list of moves.
+   * Returns the landing squares of all captures available to a regular
+   * piece on the given square. Each landing square identifies one capture;
+   * the captured piece is the neighbour in the same direction.
    *
-   * @param row        the current row of the piece
-   * @param col        the current column of the piece
-   * @param piece      the type of the piece (e.g., {@link GameConstants#RED})
-   * @param moves      the list where generated capture moves will be added
+   * @param square     the square index of the piece
+   * @param piece      the piece ({@link GameConstants#RED} or
+   *                   {@link GameConstants#BLACK})
    * @param boardState the current state of the board
-   * @throws NullPointerException if {@code moves} is null
+   * @return the mask of landing squares
    */
-  public static void findRegularCaptures(final int row, final int col,
-                                         final int piece,
-                                         final ArrayList<BotDecision> moves,
-                                         final BoardState boardState) {
-
-    if (moves == null) {
-      throw new NullPointerException("moves is null");
-    }
-
-    int direction = (piece == GameConstants.RED) ? -1 : 1;
-
-    for (int[] dir : new int[][]{{direction, -1}, {direction, 1}}) {
-      int newRow = row + 2 * dir[0];
-      int newCol = col + 2 * dir[1];
-
-      if (PositionValidator.isValidPosition(newRow, newCol)
-          && CaptureRules.isLegalCapture(newCol, newRow, col, row, piece,
-          boardState)) {
-        moves.add(
-            new BotDecision(row, col, newRow, newCol, GameConstants.TAKE));
+  public static int regularCaptureTargets(final int square, final int piece,
+                                          final BoardState boardState) {
+    int enemies = boardState.getEnemyMask(piece);
+    int empty = boardState.getEmptyMask();
+    int first = SquareTables.forwardDirection(piece);
+    int targets = 0;
+    for (int dir = first; dir < first + 2; dir++) {
+      int landing = SquareTables.jumpLanding(dir, square);
+      if (landing != SquareTables.NONE
+          && (SquareTables.neighbourMask(dir, square) & enemies) != 0) {
+        targets |= SquareIndex.bit(landing) & empty;
       }
     }
+    return targets;
   }
 
   /**
-   * Finds all possible capture moves for a king piece at the given
-   * position on the board and adds them to the provided list of moves.
+   * Returns the landing squares of all captures available to a king on the
+   * given square. A king captures the first piece along a ray if it is an
+   * enemy and the square right behind it is empty.
    *
-   * @param row        the current row of the piece
-   * @param col        the current column of the piece
-   * @param piece      the type of the piece (king)
-   * @param moves      the list where generated capture moves will be added
+   * @param square     the square index of the king
+   * @param piece      the king ({@link GameConstants#RED_KING} or
+   *                   {@link GameConstants#BLACK_KING})
    * @param boardState the current state of the board
+   * @return the mask of landing squares
    */
-  public static void findKingCaptures(final int row, final int col,
-                                      final int piece,
-                                      final ArrayList<BotDecision> moves,
-                                      final BoardState boardState) {
-    for (int[] dir : GameConstants.DIRECTIONS) {
-      for (int dist = 1; dist < GameConstants.BOARD_SIZE; dist++) {
-        int newRow = row + dist * dir[0];
-        int newCol = col + dist * dir[1];
-
-        if (!PositionValidator.isValidPosition(newRow, newCol)) {
-          break;
-        }
-
-        if (CaptureRules.isLegalCapture(newCol, newRow, col, row, piece,
-            boardState)) {
-          if (DiagonalValidator.hasObstaclesBetween(col, row, newCol, newRow,
-              boardState)) {
-            moves.add(new BotDecision(row, col, newRow, newCol,
-                GameConstants.KING_TAKE));
-          }
-        }
-      }
-    }
+  public static int kingCaptureTargets(final int square, final int piece,
+                                       final BoardState boardState) {
+    return KingRays.captureTargets(square, boardState.getEnemyMask(piece),
+        boardState.getOccupiedMask());
   }
 }
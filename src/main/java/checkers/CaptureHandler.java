@@ -11,6 +11,10 @@ package checkers;
  * delegated to
  * {@link CaptureValidator}.</p>
  *
+ * <p>A capture that leaves the piece able to capture again does not end the
+ * turn: the same piece has to continue until the sequence is complete,
+ * unless it has just been promoted.</p>
+ *
  * @param executor   the {@link CaptureExecutor} used to perform the capture
  * @param turnFlow   the {@link TurnFlowManager} responsible for handling
  *                   turn flow after a move
@@ -18,6 +22,21 @@ package checkers;
  */
 public record CaptureHandler(CaptureExecutor executor, TurnFlowManager turnFlow,
                              BoardState boardState) {
+  /**
+   * Result of a capture attempt that was not valid; nothing changed.
+   */
+  public static final int REJECTED = 0;
+
+  /**
+   * Result of a capture that ended the turn.
+   */
+  public static final int COMPLETED = 1;
+
+  /**
+   * Result of a capture after which the same piece must capture again.
+   */
+  public static final int CONTINUES = 2;
+
   /**
    * Handles a capture move on the board.
    *
@@ -26,24 +45,30 @@ public record CaptureHandler(CaptureExecutor executor, TurnFlowManager turnFlow,
    * ({@code toRow}, {@code toCol}) is valid for the piece at the source
    * position.
    * If the capture is valid, it executes the capture using the provided
-   * {@link CaptureExecutor} and updates the turn flow through
-   * {@link TurnFlowManager}.
+   * {@link CaptureExecutor} and, unless the piece can capture again,
+   * updates the turn flow through {@link TurnFlowManager}.
    * </p>
    *
    * @param fromRow the row index of the piece to capture from
    * @param fromCol the column index of the piece to capture from
    * @param toRow   the row index of the target square
    * @param toCol   the column index of the target square
+   * @return {@link #REJECTED}, {@link #COMPLETED} or {@link #CONTINUES}
    */
-  public void handleCapture(final int fromRow, final int fromCol,
-                            final int toRow, final int toCol) {
+  public int handleCapture(final int fromRow, final int fromCol,
+                           final int toRow, final int toCol) {
     int pieceColor = boardState.getPiece(fromRow, fromCol);
     if (!CaptureValidator.isValidCapture(boardState, fromRow, fromCol, toRow,
         toCol, pieceColor)) {
-      return;
+      return REJECTED;
     }
     executor.execute(boardState, fromRow, fromCol, toRow, toCol, pieceColor,
         turnFlow.turnManager());
+    if (boardState.getPiece(toRow, toCol) == pieceColor
+        && CaptureRules.canCapture(toCol, toRow, boardState)) {
+      return CONTINUES;
+    }
     turnFlow.afterMove();
+    return COMPLETED;
   }
 }
@@ -0,0 +1,82 @@
+package checkers;
+
+/**
+ * Utility class computing which pieces of a side can capture, using
+ * bitboard shifts instead of a scan of the 64 board squares.
+ *
+ * <p>For every direction the squares of enemies that can be jumped in that
+ * direction (enemy with an empty square behind it) are shifted one step
+ * back. A man standing on the result can capture. Kings may also stand
+ * further away as long as the squares in between are empty, so the result
+ * is flood-filled backwards through empty squares before it is intersected
+ * with the kings.</p>
+ *
+ * <p>{@link BoardState#getCapturers(int)} caches the result per position, so
+ * the move generator and the evaluators share one computation.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class CaptureMasks {
+  /**
+   * Number of fill steps needed to cover the longest diagonal.
+   */
+  private static final int MAX_FILL_STEPS = GameConstants.BOARD_SIZE - 2;
+
+  private CaptureMasks() {
+  }
+
+  /**
+   * Returns the pieces of a side that have at least one capture.
+   *
+   * @param color      any piece code of the side to check
+   * @param boardState the current state of the board
+   * @return the mask of squares holding pieces that can capture
+   */
+  public static int capturers(final int color, final BoardState boardState) {
+    int own = boardState.getColorMask(color);
+    int kings = own & boardState.getKingMask();
+    int men = own & ~kings;
+    int enemies = boardState.getEnemyMask(color);
+    int empty = boardState.getEmptyMask();
+
+    int first = SquareTables.forwardDirection(color);
+    int result = 0;
+    for (int dir = 0; dir < SquareTables.DIRECTION_COUNT; dir++) {
+      int back = opposite(dir);
+      int attackFrom = BitboardMoveGenerator.shift(back,
+          enemies & BitboardMoveGenerator.shift(back, empty));
+      if (dir == first || dir == first + 1) {
+        result |= men & attackFrom;
+      }
+      if (kings != 0) {
+        for (int i = 0; i < MAX_FILL_STEPS; i++) {
+          attackFrom |= BitboardMoveGenerator.shift(back, attackFrom & empty);
+        }
+        result |= kings & attackFrom;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether any piece of a side can capture.
+   *
+   * @param color      any piece code of the side to check
+   * @param boardState the current state of the board
+   * @return {@code true} if at least one capture exists
+   */
+  public static boolean hasCapture(final int color,
+                                   final BoardState boardState) {
+    return capturers(color, boardState) != 0;
+  }
+
+  /**
+   * Returns the direction pointing the opposite way.
+   *
+   * @param dir the direction index, see {@link SquareTables}
+   * @return the opposite direction index
+   */
+  public static int opposite(final int dir) {
+    return SquareTables.DIRECTION_COUNT - 1 - dir;
+  }
+}
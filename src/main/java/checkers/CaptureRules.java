@@ -14,6 +14,22 @@ package checkers;
  * </p>
  */
 public final class CaptureRules {
+  /**
+   * Pieces a red piece may capture.
+   */
+  private static final int[] RED_ENEMIES =
+      {GameConstants.BLACK, GameConstants.BLACK_KING};
+
+  /**
+   * Pieces a black piece may capture.
+   */
+  private static final int[] BLACK_ENEMIES =
+      {GameConstants.RED, GameConstants.RED_KING};
+
+  /**
+   * Column offsets of the two forward diagonals of a regular piece.
+   */
+  private static final int[] COLUMN_STEPS = {-1, 1};
 
   private CaptureRules() {
   }
@@ -93,7 +109,7 @@ public final class CaptureRules {
     int dir = (piece == GameConstants.RED) ? -1 : 1;
     int[] enemyPieces = getEnemyPieces(piece);
 
-    for (int dc : new int[]{-1, 1}) {
+    for (int dc : COLUMN_STEPS) {
       int jumpR = row + 2 * dir;
       int jumpC = col + 2 * dc;
       int enemyR = row + dir;
@@ -230,8 +246,56 @@ public final class CaptureRules {
   private static int[] getEnemyPieces(final int piece) {
     boolean isRed =
         (piece == GameConstants.RED || piece == GameConstants.RED_KING);
-    return isRed ? new int[]{GameConstants.BLACK, GameConstants.BLACK_KING}
-        : new int[]{GameConstants.RED, GameConstants.RED_KING};
+    return isRed ? RED_ENEMIES : BLACK_ENEMIES;
+  }
+
+  /**
+   * Determines if the piece on the given square can perform a capture.
+   * This is the square-indexed counterpart of
+   * {@link #canCapture(int, int, BoardState)}.
+   *
+   * @param square     the square index of the piece
+   * @param boardState the current state of the game board
+   * @return {@code true} if the piece can capture an opponent's piece,
+   *     {@code false} otherwise
+   */
+  public static boolean canCaptureAt(final int square,
+                                     final BoardState boardState) {
+    int piece = boardState.getPieceAt(square);
+    if (piece == GameConstants.EMPTY) {
+      return false;
+    }
+    return captureTargets(square, piece, boardState) != 0;
+  }
+
+  /**
+   * Checks if any piece of the given color can perform a capture. This is
+   * the square-indexed counterpart of
+   * {@link #checkAllPiecesPossibleCaptures(int, int, BoardState)}.
+   *
+   * @param color any piece code of the side to check
+   * @param state the current board state
+   * @return {@code true} if at least one piece can capture, {@code false}
+   *     otherwise
+   */
+  public static boolean hasAnyCapture(final int color,
+                                      final BoardState state) {
+    int pieces = state.getColorMask(color);
+    while (pieces != 0) {
+      if (canCaptureAt(Integer.numberOfTrailingZeros(pieces), state)) {
+        return true;
+      }
+      pieces &= pieces - 1;
+    }
+    return false;
+  }
+
+  private static int captureTargets(final int square, final int piece,
+                                    final BoardState boardState) {
+    if (piece == GameConstants.RED_KING || piece == GameConstants.BLACK_KING) {
+      return CaptureGenerator.kingCaptureTargets(square, piece, boardState);
+    }
+    return CaptureGenerator.regularCaptureTargets(square, piece, boardState);
   }
 }
 
@@ -9,7 +9,8 @@ import java.awt.event.MouseEvent;
  * <p>This class listens for mouse release events on the board and delegates
  * the processing of the mouse input to a {@link MouseInputHandler}.
  * Each click is converted to a board row and column based on the
- * predefined square size.
+ * predefined square size. Clicks during the bot's turn are ignored, since
+ * the bot's thread is then choosing and playing its move.
  * </p>
  */
 public final class ClickHandler extends MouseAdapter {
@@ -18,13 +19,53 @@ public final class ClickHandler extends MouseAdapter {
    */
   private final MouseInputHandler mouseInputHandler;
 
+  /**
+   * The bot's searcher to stop on every click, or {@code null}.
+   */
+  private final Ponderer ponderer;
+
+  /**
+   * Manager telling whose turn it is, or {@code null} to handle every
+   * click.
+   */
+  private final TurnManager turnManager;
+
   /**
    * Constructs a ClickHandler with the specified MouseInputHandler.
    *
    * @param mouseInputHandlerParam the handler to process mouse input
    */
   public ClickHandler(final MouseInputHandler mouseInputHandlerParam) {
+    this(mouseInputHandlerParam, null);
+  }
+
+  /**
+   * Constructs a ClickHandler that also stops the bot's pondering before
+   * handling a click.
+   *
+   * @param mouseInputHandlerParam the handler to process mouse input
+   * @param pondererParam          the ponderer to stop, or {@code null}
+   */
+  public ClickHandler(final MouseInputHandler mouseInputHandlerParam,
+                      final Ponderer pondererParam) {
+    this(mouseInputHandlerParam, pondererParam, null);
+  }
+
+  /**
+   * Constructs a ClickHandler that stops the bot's pondering before
+   * handling a click and ignores clicks during the bot's turn.
+   *
+   * @param mouseInputHandlerParam the handler to process mouse input
+   * @param pondererParam          the ponderer to stop, or {@code null}
+   * @param turnManagerParam       the manager telling whose turn it is, or
+   *                               {@code null}
+   */
+  public ClickHandler(final MouseInputHandler mouseInputHandlerParam,
+                      final Ponderer pondererParam,
+                      final TurnManager turnManagerParam) {
     this.mouseInputHandler = mouseInputHandlerParam;
+    this.ponderer = pondererParam;
+    this.turnManager = turnManagerParam;
   }
 
   @Override
@@ -32,6 +73,12 @@ public final class ClickHandler extends MouseAdapter {
     int col = e.getX() / GameConstants.SQUARE_SIZE;
     int row = e.getY() / GameConstants.SQUARE_SIZE;
 
+    if (turnManager != null && turnManager.isCurrentPlayerBot()) {
+      return;
+    }
+    if (ponderer != null) {
+      ponderer.stop();
+    }
     mouseInputHandler.handleMouseInput(row, col);
   }
 }
@@ -0,0 +1,62 @@
+package checkers;
+
+/**
+ * Playing strength of the bot, chosen by the human player before the game.
+ *
+ * <p>Each level fixes the search settings: a shallow search with a short
+ * time budget for {@link #EASY}, and deeper searches with longer budgets for
+ * the other levels. Only {@link #HARD} searches on several threads.</p>
+ */
+public enum Difficulty {
+  /**
+   * Searches two plies, enough to avoid handing over pieces for nothing.
+   */
+  EASY("Easy", new SearchConfig(2, 200)),
+
+  /**
+   * Searches as deep as the default budget allows.
+   */
+  MEDIUM("Medium", SearchConfig.DEFAULT),
+
+  /**
+   * Searches as deep as two seconds per move allow, on every core of the
+   * machine.
+   */
+  HARD("Hard", new SearchConfig(SearchConfig.MAX_DEPTH, 2000,
+      Math.min(SearchConfig.MAX_THREADS,
+          Runtime.getRuntime().availableProcessors())));
+
+  /**
+   * Name shown to the player.
+   */
+  private final String label;
+
+  /**
+   * Settings the bot searches with at this level.
+   */
+  private final SearchConfig searchConfig;
+
+  Difficulty(final String labelParam, final SearchConfig searchConfigParam) {
+    this.label = labelParam;
+    this.searchConfig = searchConfigParam;
+  }
+
+  /**
+   * Returns the search settings of this level.
+   *
+   * @return the search settings
+   */
+  public SearchConfig searchConfig() {
+    return searchConfig;
+  }
+
+  /**
+   * Returns the name shown to the player.
+   *
+   * @return the name of the level
+   */
+  @Override
+  public String toString() {
+    return label;
+  }
+}
@@ -0,0 +1,454 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel alpha-beta search on a {@link ForkJoinPool}, splitting the tree
+ * by the Young Brothers Wait rule.
+ *
+ * <p>At every node with at least {@link #SPLIT_MIN_DEPTH} plies left, the
+ * eldest child, the stored best move if there is one, is searched first on
+ * the current thread. Only once its score has tightened alpha, or
+ * refuted the node, are the younger siblings forked as tasks, each on a
+ * board copy of its own. When a sibling fails high, it flags its parent at
+ * once, whichever sibling the parent is waiting for: every task below the
+ * parent sees the flag, tasks still queued never start, split nodes stop
+ * before forking more work and the serial searches at the leaves poll it
+ * with their stop signal. Shallower nodes are searched serially by one
+ * {@link SearchEngine} per worker thread. All threads share one
+ * {@link TranspositionTable}.</p>
+ *
+ * <p>This is an alternative to the Lazy SMP mode of {@link SearchEngine},
+ * kept for comparing how the two scale. With
+ * {@link SearchConfig#threads()} set to 1 no pool is created and every task
+ * runs in order on the calling thread, which makes the search
+ * deterministic for testing.</p>
+ */
+public final class ForkJoinSearch implements AutoCloseable {
+  /**
+   * Smallest remaining depth at which a node is split among threads.
+   */
+  public static final int SPLIT_MIN_DEPTH = 4;
+
+  /**
+   * Decision returned when there is no move to choose from.
+   */
+  private static final BotDecision NO_DECISION =
+      new BotDecision(-1, -1, -1, -1, -1);
+
+  /**
+   * Settings of this search.
+   */
+  private final SearchConfig searchConfig;
+
+  /**
+   * Table shared by all threads.
+   */
+  private final TranspositionTable table;
+
+  /**
+   * Pool running the tasks, or {@code null} for the sequential fallback.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * Set when the time budget runs out; stops every thread.
+   */
+  private final AtomicBoolean abort = new AtomicBoolean();
+
+  /**
+   * Serial engine of each worker thread.
+   */
+  private final ThreadLocal<SearchEngine> workers =
+      ThreadLocal.withInitial(this::newWorker);
+
+  /**
+   * Every serial engine created, for counting nodes.
+   */
+  private final Queue<SearchEngine> allWorkers =
+      new ConcurrentLinkedQueue<>();
+
+  /**
+   * Number of nodes split among threads.
+   */
+  private final LongAdder splitNodes = new LongAdder();
+
+  /**
+   * Time the current search started, in nanoseconds.
+   */
+  private long startTime;
+
+  /**
+   * Time the current search may take, in nanoseconds.
+   */
+  private long budget = Long.MAX_VALUE;
+
+  /**
+   * Deepest search completed by the last call to {@link #searchRoot}.
+   */
+  private volatile int completedDepth;
+
+  /**
+   * Creates a search with the given settings and table.
+   *
+   * @param searchConfigParam the search settings; its thread count is the
+   *                          parallelism of the pool
+   * @param tableParam        the table shared by all threads
+   */
+  public ForkJoinSearch(final SearchConfig searchConfigParam,
+                        final TranspositionTable tableParam) {
+    this.searchConfig = searchConfigParam;
+    this.table = tableParam;
+    this.pool = searchConfigParam.threads() > 1
+        ? new ForkJoinPool(searchConfigParam.threads()) : null;
+  }
+
+  /**
+   * Searches the given moves deeper and deeper within the time budget and
+   * returns the best one of the last completed depth.
+   *
+   * @param possibleMoves the legal moves of the side to search for
+   * @param boardState    the current state of the game board; it is not
+   *                      changed
+   * @param color         {@link GameConstants#RED} or
+   *                      {@link GameConstants#BLACK}
+   * @return the best move, or a decision with all fields set to -1 if there
+   *     is no move
+   */
+  public BotDecision searchRoot(final ArrayList<BotDecision> possibleMoves,
+                                final BoardState boardState,
+                                final int color) {
+    completedDepth = 0;
+    if (possibleMoves.size() <= 1) {
+      return possibleMoves.isEmpty() ? NO_DECISION : possibleMoves.get(0);
+    }
+    BoardState root = boardState.copy();
+    root.setSideToMove(color);
+    startTime = System.nanoTime();
+    budget = TimeUnit.MILLISECONDS.toNanos(searchConfig.timeBudgetMs());
+    abort.set(false);
+    table.newSearch();
+    ArrayList<BotDecision> rootMoves = new ArrayList<>(possibleMoves);
+    for (int depth = 1; depth <= searchConfig.depth(); depth++) {
+      RootTask task = new RootTask(rootMoves, root, depth);
+      int best = run(task);
+      if (abort.get()) {
+        break;
+      }
+      completedDepth = depth;
+      rootMoves.addFirst(rootMoves.remove(best));
+      if (Math.abs(task.bestScore) > SearchEngine.WIN_THRESHOLD) {
+        break;
+      }
+    }
+    budget = Long.MAX_VALUE;
+    return rootMoves.getFirst();
+  }
+
+  /**
+   * Scores a position from the point of view of its side to move.
+   *
+   * @param boardState the position; it is not changed
+   * @param depth      the number of plies to search, at most the configured
+   *                   depth
+   * @return the score of the position
+   */
+  public int search(final BoardState boardState, final int depth) {
+    return searchWindow(boardState, depth, -SearchEngine.INFINITY,
+        SearchEngine.INFINITY);
+  }
+
+  /**
+   * Scores a position in the given window, from the point of view of its
+   * side to move.
+   *
+   * @param boardState the position; it is not changed
+   * @param depth      the number of plies to search, at most the configured
+   *                   depth
+   * @param alpha      the lower bound of the window
+   * @param beta       the upper bound of the window
+   * @return the score of the position; a bound if it falls outside the
+   *     window
+   */
+  int searchWindow(final BoardState boardState, final int depth,
+                   final int alpha, final int beta) {
+    abort.set(false);
+    return run(new NodeTask(boardState.copy(), depth, alpha, beta, 0, null));
+  }
+
+  /**
+   * Returns the number of positions visited since the search was created.
+   *
+   * @return the node count
+   */
+  public long getNodes() {
+    long nodes = splitNodes.sum();
+    for (SearchEngine worker : allWorkers) {
+      nodes += worker.getNodes();
+    }
+    return nodes;
+  }
+
+  /**
+   * Returns the number of nodes split among threads since the search was
+   * created.
+   *
+   * @return the split node count
+   */
+  public long getSplitNodes() {
+    return splitNodes.sum();
+  }
+
+  /**
+   * Returns the deepest search completed by the last call to
+   * {@link #searchRoot}; 0 if that call returned without a search.
+   *
+   * @return the completed depth in plies
+   */
+  public int getCompletedDepth() {
+    return completedDepth;
+  }
+
+  /**
+   * Shuts the pool down.
+   */
+  @Override
+  public void close() {
+    if (pool != null) {
+      pool.shutdownNow();
+    }
+  }
+
+  private int run(final RecursiveTask<Integer> task) {
+    return pool == null ? task.invoke() : pool.invoke(task);
+  }
+
+  private SearchEngine newWorker() {
+    SearchEngine worker = new SearchEngine(searchConfig, table,
+        System::nanoTime, abort);
+    allWorkers.add(worker);
+    return worker;
+  }
+
+  private boolean outOfTime() {
+    if (completedDepth > 0 && System.nanoTime() - startTime >= budget) {
+      abort.set(true);
+    }
+    return abort.get();
+  }
+
+  /**
+   * Searches the root moves to one depth and returns the position of the
+   * best one. The first move is searched alone, the others in parallel with
+   * the bound it set.
+   */
+  @SuppressWarnings("serial")
+  private final class RootTask extends RecursiveTask<Integer> {
+    private final ArrayList<BotDecision> rootMoves;
+    private final BoardState board;
+    private final int depth;
+    private int bestScore = -SearchEngine.INFINITY;
+
+    RootTask(final ArrayList<BotDecision> rootMovesParam,
+             final BoardState boardParam, final int depthParam) {
+      this.rootMoves = rootMovesParam;
+      this.board = boardParam;
+      this.depth = depthParam;
+    }
+
+    @Override
+    protected Integer compute() {
+      NodeTask[] children = new NodeTask[rootMoves.size()];
+      children[0] = child(0, -SearchEngine.INFINITY);
+      bestScore = -children[0].invoke();
+      int best = 0;
+      for (int i = 1; i < children.length; i++) {
+        children[i] = child(i, bestScore);
+        if (pool == null) {
+          children[i].invoke();
+        } else {
+          children[i].fork();
+        }
+      }
+      for (int i = 1; i < children.length; i++) {
+        int score = -children[i].join();
+        if (score > bestScore) {
+          bestScore = score;
+          best = i;
+        }
+      }
+      return best;
+    }
+
+    private NodeTask child(final int index, final int alpha) {
+      BoardState copy = board.copy();
+      copy.makeMove(rootMoves.get(index));
+      return new NodeTask(copy, depth - 1, -SearchEngine.INFINITY, -alpha, 1,
+          null);
+    }
+  }
+
+  /**
+   * Searches one node, splitting its younger children among threads if
+   * enough depth is left.
+   */
+  @SuppressWarnings("serial")
+  private final class NodeTask extends RecursiveTask<Integer> {
+    private final BoardState board;
+    private final int depth;
+    private final int alphaParam;
+    private final int beta;
+    private final int ply;
+    private final NodeTask parent;
+    private volatile boolean cancelled;
+
+    /**
+     * Set by a child that failed high; stops the other children.
+     */
+    private volatile boolean cutoff;
+
+    /**
+     * Whether the task stopped early, so its result is meaningless.
+     */
+    private boolean aborted;
+
+    NodeTask(final BoardState boardParam, final int depthParam,
+             final int alpha, final int betaParam, final int plyParam,
+             final NodeTask parentParam) {
+      this.board = boardParam;
+      this.depth = depthParam;
+      this.alphaParam = alpha;
+      this.beta = betaParam;
+      this.ply = plyParam;
+      this.parent = parentParam;
+    }
+
+    @Override
+    protected Integer compute() {
+      int score = searchNode();
+      if (isCancelledNode() || abort.get()) {
+        aborted = true;
+        return 0;
+      }
+      if (parent != null && -score >= parent.beta) {
+        parent.cutoff = true;
+      }
+      return score;
+    }
+
+    private int searchNode() {
+      if (isCancelledNode() || outOfTime()) {
+        return 0;
+      }
+      if (depth < SPLIT_MIN_DEPTH) {
+        return workers.get().searchWindow(board, depth, alphaParam, beta,
+            ply, this::isCancelledNode);
+      }
+      splitNodes.increment();
+      long key = board.getZobristKey();
+      long entry = table.probe(key);
+      int tableMove = MoveEncoding.NO_MOVE;
+      if (entry != TranspositionTable.MISS) {
+        tableMove = TranspositionTable.move(entry);
+        int score = SearchEngine.fromTable(TranspositionTable.score(entry),
+            ply);
+        int bound = TranspositionTable.bound(entry);
+        if (TranspositionTable.depth(entry) >= depth
+            && (bound == TranspositionTable.EXACT
+            || bound == TranspositionTable.LOWER_BOUND && score >= beta
+            || bound == TranspositionTable.UPPER_BOUND
+            && score <= alphaParam)) {
+          return score;
+        }
+      }
+      MoveList moves = new MoveList();
+      MoveGenerator.generateMoves(board.getSideToMove(), board, moves);
+      if (moves.isEmpty()) {
+        return -GameConstants.SCORE_WIN + ply;
+      }
+      for (int i = 1; i < moves.size(); i++) {
+        if (moves.get(i) == tableMove) {
+          moves.swap(0, i);
+          break;
+        }
+      }
+
+      int eldest = moves.get(0);
+      long undo = board.makeMove(MoveEncoding.from(eldest),
+          MoveEncoding.to(eldest), moves.capturedMask(0));
+      int best = -new NodeTask(board, depth - 1, -beta, -alphaParam,
+          ply + 1, this).invoke();
+      board.unmakeMove(MoveEncoding.from(eldest), MoveEncoding.to(eldest),
+          undo);
+      int bestMove = eldest;
+      if (best < beta && moves.size() > 1) {
+        int alpha = Math.max(alphaParam, best);
+        NodeTask[] siblings = new NodeTask[moves.size() - 1];
+        for (int i = 0; i < siblings.length && best < beta; i++) {
+          siblings[i] = sibling(moves, i + 1, alpha);
+          if (pool == null) {
+            int score = -siblings[i].invoke();
+            if (score > best) {
+              best = score;
+              bestMove = moves.get(i + 1);
+            }
+          } else {
+            siblings[i].fork();
+          }
+        }
+        for (int i = 0; pool != null && i < siblings.length; i++) {
+          if (best >= beta || isCancelledNode()) {
+            siblings[i].cancelled = true;
+            siblings[i].cancel(false);
+            continue;
+          }
+          int score = -siblings[i].join();
+          if (!siblings[i].aborted && score > best) {
+            best = score;
+            bestMove = moves.get(i + 1);
+          }
+        }
+      }
+      if (isCancelledNode() || abort.get()) {
+        return 0;
+      }
+      int bound = best <= alphaParam ? TranspositionTable.UPPER_BOUND
+          : best >= beta ? TranspositionTable.LOWER_BOUND
+          : TranspositionTable.EXACT;
+      table.store(key, depth, bound, SearchEngine.toTable(best, ply),
+          bestMove);
+      return best;
+    }
+
+    private NodeTask sibling(final MoveList moves, final int index,
+                             final int alpha) {
+      BoardState copy = board.copy();
+      copy.makeMove(MoveEncoding.from(moves.get(index)),
+          MoveEncoding.to(moves.get(index)), moves.capturedMask(index));
+      return new NodeTask(copy, depth - 1, -beta, -alpha, ply + 1, this);
+    }
+
+    /**
+     * Returns whether this task was cancelled, or an ancestor was cancelled
+     * or had a child fail high.
+     */
+    private boolean isCancelledNode() {
+      if (cancelled) {
+        return true;
+      }
+      for (NodeTask task = parent; task != null; task = task.parent) {
+        if (task.cancelled || task.cutoff) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -1,7 +1,10 @@
 package checkers;
 
+import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.event.ActionListener;
 import java.awt.event.MouseListener;
+import javax.swing.JButton;
 import javax.swing.JFrame;
 
 /**
@@ -56,6 +59,19 @@ public final class Frame extends JFrame {
     board.addMouseListener(listenForClick);
   }
 
+  /**
+   * Adds a button below the board panel, growing the window to fit it.
+   *
+   * @param label  the text of the button
+   * @param action the listener run when the button is clicked
+   */
+  public void addButton(final String label, final ActionListener action) {
+    JButton button = new JButton(label);
+    button.addActionListener(action);
+    this.add(button, BorderLayout.SOUTH);
+    this.setSize(getWidth(), getHeight() + GameConstants.BUTTON_HEIGHT);
+  }
+
   /**
    * Checks whether the game has finished and evaluates the end of the game.
    */
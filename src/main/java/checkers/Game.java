@@ -1,7 +1,10 @@
 package checkers;
 
 import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import javax.swing.JButton;
+import javax.swing.JComboBox;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.WindowConstants;
@@ -12,7 +15,8 @@ import javax.swing.WindowConstants;
  * <p>This class is responsible for initializing and setting up the entire
  * game environment, including:
  * <ul>
- *   <li>Displaying a color selection dialog for the human player.</li>
+ *   <li>Displaying a color and difficulty selection dialog for the human
+ *   player.</li>
  *   <li>Initializing the game board, pawns, and their starting positions.</li>
  *   <li>Setting up game services such as move validation, promotion
  *   handling, turn management, and AI bot logic.</li>
@@ -36,7 +40,8 @@ public final class Game {
    *
    * <p>This method initializes and sets up the game environment, including:
    * <ul>
-   *   <li>The color selection frame for the player to choose their color.</li>
+   *   <li>The color selection frame for the player to choose their color
+   *       and the bot's difficulty.</li>
    *   <li>The game board, pieces, and their initial positions.</li>
    *   <li>All game services and controllers, including move validation,
    *       promotion handling, turn management, and bot AI.</li>
@@ -60,10 +65,16 @@ public final class Game {
     JLabel chooseColor = new JLabel("Choose your color");
     JButton redButton = new JButton("Red");
     JButton blackButton = new JButton("Black");
+    JLabel chooseDifficulty = new JLabel("Difficulty");
+    JComboBox<Difficulty> difficultyBox =
+        new JComboBox<>(Difficulty.values());
+    difficultyBox.setSelectedItem(Difficulty.MEDIUM);
 
     colorChoiceFrame.add(chooseColor);
     colorChoiceFrame.add(redButton);
     colorChoiceFrame.add(blackButton);
+    colorChoiceFrame.add(chooseDifficulty);
+    colorChoiceFrame.add(difficultyBox);
 
     BoardState boardState = new BoardState();
     BoardInitializer.setUpPawns(boardState);
@@ -79,6 +90,11 @@ public final class Game {
     PromotionService promotionService = new PromotionService(boardState);
 
     PlayerConfig playerConfig = new PlayerConfig();
+    TranspositionTable table =
+        new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB);
+    playerConfig.setTranspositionTable(table);
+    Ponderer ponderer = new Ponderer(table);
+    playerConfig.setPonderer(ponderer);
     TurnManager turnManager =
         new TurnManager(playerConfig, GameConstants.RED,
             GameConstants.RED_KING);
@@ -93,8 +109,7 @@ public final class Game {
     BotAi bot = new BotAi(moveService);
     BotDecisionService botDecisionService =
         new BotDecisionService(bot, botState);
-    BotMoveExecutor botMoveExecutor =
-        new BotMoveExecutor(promotionService, boardState, playerConfig);
+    BotMoveExecutor botMoveExecutor = new BotMoveExecutor(boardState);
     BotUiHandler botUiHandler = new BotUiHandler(uiController, turnManager);
     BotController botController =
         new BotController(botDecisionService, botMoveExecutor, botUiHandler);
@@ -115,16 +130,29 @@ public final class Game {
     MouseInputHandler mouseInputHandler =
         new MouseInputHandler(moveValidator, captureHandler, selectionState,
             uiController, moveCoordinator);
-    ClickHandler clickHandler = new ClickHandler(mouseInputHandler);
+    ClickHandler clickHandler =
+        new ClickHandler(mouseInputHandler, ponderer, turnManager);
     boardFrame.addBoardListener(clickHandler);
+    boardFrame.addButton("Hint", new HintHandler(
+        new HintService(playerConfig), boardState, turnManager,
+        mouseInputHandler, boardFrame));
 
     boardFrame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+    boardFrame.addWindowListener(new WindowAdapter() {
+      @Override
+      public void windowClosing(final WindowEvent event) {
+        botController.cancel();
+        ponderer.stop();
+      }
+    });
 
     redButton.addActionListener(ignored -> {
       playerConfig.setBotColor(GameConstants.BLACK);
       playerConfig.setBotKingColor(GameConstants.BLACK_KING);
       playerConfig.setHumanColor(GameConstants.RED);
       playerConfig.setHumanKingColor(GameConstants.RED_KING);
+      playerConfig.setSearchConfig(difficultyBox.getItemAt(
+          difficultyBox.getSelectedIndex()).searchConfig());
       colorChoiceFrame.dispose();
       boardFrame.setVisible(true);
     });
@@ -134,6 +162,8 @@ public final class Game {
       playerConfig.setBotKingColor(GameConstants.RED_KING);
       playerConfig.setHumanColor(GameConstants.BLACK);
       playerConfig.setHumanKingColor(GameConstants.BLACK_KING);
+      playerConfig.setSearchConfig(difficultyBox.getItemAt(
+          difficultyBox.getSelectedIndex()).searchConfig());
       colorChoiceFrame.dispose();
       boardFrame.setVisible(true);
       if (turnManager.isCurrentPlayerBot()) {
@@ -73,7 +73,7 @@ public final class GameConstants {
   /**
    * Height of the color choice UI panel.
    */
-  public static final int COLOR_CHOICE_HEIGHT = 90;
+  public static final int COLOR_CHOICE_HEIGHT = 120;
   /**
    * Initial maximum sum used for evaluation functions.
    */
@@ -110,6 +110,19 @@ public final class GameConstants {
    * Score awarded for a chance to promote a piece to king.
    */
   public static final int SCORE_CHANCE_FOR_KING = 15;
+  /**
+   * Material value of a man in the search evaluation.
+   */
+  public static final int SCORE_MAN = 100;
+  /**
+   * Material value of a king in the search evaluation.
+   */
+  public static final int SCORE_KING = 250;
+  /**
+   * Score of a won position; the side to move has lost when it has no move.
+   * Wins found earlier in the search score higher.
+   */
+  public static final int SCORE_WIN = 100_000;
   /**
    * Width of the game window, in pixels.
    */
@@ -118,14 +131,26 @@ public final class GameConstants {
    * Movement directions for pieces (row and column offsets).
    */
   public static final int[][] DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+  /**
+   * Forward movement directions of red men (row and column offsets).
+   */
+  public static final int[][] RED_FORWARD_DIRECTIONS = {{-1, -1}, {-1, 1}};
+  /**
+   * Forward movement directions of black men (row and column offsets).
+   */
+  public static final int[][] BLACK_FORWARD_DIRECTIONS = {{1, -1}, {1, 1}};
   /**
    * Height of the game window, in pixels.
    */
   public static final int WINDOW_HEIGHT = 436;
   /**
-   * Delay for bot moves in milliseconds.
+   * Height of a button below the board, in pixels.
+   */
+  public static final int BUTTON_HEIGHT = 30;
+  /**
+   * Number of moves suggested when the human player asks for hints.
    */
-  public static final int BOT_MOVE_DELAY_MS = 500;
+  public static final int HINT_LINES = 3;
 
   private GameConstants() {
   }
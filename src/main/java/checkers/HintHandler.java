@@ -0,0 +1,99 @@
+package checkers;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.concurrent.ExecutionException;
+import javax.swing.JButton;
+import javax.swing.JOptionPane;
+import javax.swing.SwingWorker;
+
+/**
+ * Handles the hint button of the game window.
+ *
+ * <p>On the human player's turn a click searches for
+ * {@link GameConstants#HINT_LINES} hints with {@link HintService} in the
+ * background, keeping the button disabled meanwhile, and shows them in a
+ * dialog. Clicks during the bot's turn, or while the human is in the
+ * middle of a multi-jump capture, are ignored: the hints would cover moves
+ * of every piece, but only the next hop of the capturing piece may be
+ * played.</p>
+ */
+public final class HintHandler implements ActionListener {
+  /**
+   * Service finding the hints.
+   */
+  private final HintService hintService;
+
+  /**
+   * The current state of the game board.
+   */
+  private final BoardState boardState;
+
+  /**
+   * Manager telling whose turn it is.
+   */
+  private final TurnManager turnManager;
+
+  /**
+   * Handler of the board clicks, telling whether a capture is continued.
+   */
+  private final MouseInputHandler mouseInputHandler;
+
+  /**
+   * The game window the dialog belongs to.
+   */
+  private final Frame frame;
+
+  /**
+   * Creates a handler showing hints for the given game.
+   *
+   * @param hintServiceParam       the service finding the hints
+   * @param boardStateParam        the current state of the game board
+   * @param turnManagerParam       the manager telling whose turn it is
+   * @param mouseInputHandlerParam the handler of the board clicks
+   * @param frameParam             the game window
+   */
+  public HintHandler(final HintService hintServiceParam,
+                     final BoardState boardStateParam,
+                     final TurnManager turnManagerParam,
+                     final MouseInputHandler mouseInputHandlerParam,
+                     final Frame frameParam) {
+    this.hintService = hintServiceParam;
+    this.boardState = boardStateParam;
+    this.turnManager = turnManagerParam;
+    this.mouseInputHandler = mouseInputHandlerParam;
+    this.frame = frameParam;
+  }
+
+  @Override
+  public void actionPerformed(final ActionEvent event) {
+    if (turnManager.isCurrentPlayerBot()
+        || mouseInputHandler.isContinuingCapture()) {
+      return;
+    }
+    JButton button = (JButton) event.getSource();
+    button.setEnabled(false);
+    BoardState position = boardState.copy();
+    new SwingWorker<String, Void>() {
+      @Override
+      protected String doInBackground() {
+        return HintService.format(
+            hintService.getHints(position, GameConstants.HINT_LINES));
+      }
+
+      @Override
+      protected void done() {
+        button.setEnabled(true);
+        try {
+          JOptionPane.showMessageDialog(frame, get(), "Hints",
+              JOptionPane.INFORMATION_MESSAGE);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          throw new IllegalStateException("Hint search failed",
+              e.getCause());
+        }
+      }
+    }.execute();
+  }
+}
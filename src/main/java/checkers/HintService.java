@@ -0,0 +1,90 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Suggests moves to the human player.
+ *
+ * <p>The hints are the best moves of the human's side found by
+ * {@link SearchEngine#analyze}, with the bot's search settings and
+ * transposition table, so asking for hints costs about as much time as a
+ * bot move and also warms the table for the bot. The moves searched are
+ * those of {@link MoveGenerator}, which follows the same rules as
+ * {@link MoveValidator}: a capture must be taken if one is available.</p>
+ *
+ * @param playerConfig the configuration providing the human's color and the
+ *                     search settings, table and ponderer of the bot
+ */
+public record HintService(PlayerConfig playerConfig) {
+  /**
+   * Finds the best moves of the human player.
+   *
+   * @param boardState the position; it is not changed
+   * @param lineCount  the number of moves wanted
+   * @return the best moves with their scores and expected continuations,
+   *     best first; empty if the human has no move
+   */
+  public List<AnalysisLine> getHints(final BoardState boardState,
+                                     final int lineCount) {
+    Ponderer ponderer = playerConfig.getPonderer();
+    if (ponderer != null) {
+      ponderer.stop();
+    }
+    int color = playerConfig.getHumanColor();
+    BoardState position = boardState.copy();
+    MoveList moves = new MoveList();
+    MoveGenerator.generateMoves(color, position, moves);
+    ArrayList<BotDecision> decisions = new ArrayList<>(moves.size());
+    for (int i = 0; i < moves.size(); i++) {
+      decisions.add(MoveEncoding.toDecision(moves, i));
+    }
+    TranspositionTable table = playerConfig.getTranspositionTable();
+    SearchEngine engine = table == null
+        ? new SearchEngine(playerConfig.getSearchConfig())
+        : new SearchEngine(playerConfig.getSearchConfig(), table);
+    return engine.analyze(decisions, position, color, lineCount);
+  }
+
+  /**
+   * Writes hints one per line: the move, its score in men and the expected
+   * replies, e.g. {@code 1. 11-15 (+0.20) 23-19 8-11}.
+   *
+   * @param lines the hints, best first
+   * @return the hints as text
+   */
+  public static String format(final List<AnalysisLine> lines) {
+    if (lines.isEmpty()) {
+      return "No moves available";
+    }
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < lines.size(); i++) {
+      AnalysisLine line = lines.get(i);
+      text.append(i + 1).append(". ")
+          .append(BoardNotation.formatDecision(line.move()))
+          .append(" (").append(formatScore(line.score())).append(")");
+      List<BotDecision> variation = line.principalVariation();
+      for (int m = 1; m < variation.size(); m++) {
+        text.append(' ').append(BoardNotation.formatDecision(variation.get(m)));
+      }
+      text.append('\n');
+    }
+    return text.toString();
+  }
+
+  /**
+   * Writes a score in men, or as a win or loss in a number of moves of
+   * the side to move. The search counts the distance in plies, so a win in
+   * three plies is a win in two moves.
+   *
+   * @param score the score for the side to move
+   * @return the score as text, e.g. {@code +0.20} or {@code win in 2}
+   */
+  static String formatScore(final int score) {
+    if (Math.abs(score) > SearchEngine.WIN_THRESHOLD) {
+      int plies = GameConstants.SCORE_WIN - Math.abs(score);
+      return (score > 0 ? "win in " : "loss in ") + (plies + 1) / 2;
+    }
+    return String.format("%+.2f", (double) score / GameConstants.SCORE_MAN);
+  }
+}
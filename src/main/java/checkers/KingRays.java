@@ -0,0 +1,151 @@
+package checkers;
+
+/**
+ * Occupancy-indexed lookup tables for flying kings.
+ *
+ * <p>For every direction and square the occupied squares of the ray are
+ * compressed into a small index with {@link Integer#compress(int, int)}. A
+ * ray holds at most seven squares, so each table has at most 128 entries
+ * and directly gives the squares a king can slide to and the first piece
+ * that blocks it. A king's moves and captures therefore cost one lookup per
+ * direction instead of a walk along the diagonal.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class KingRays {
+  /**
+   * Empty squares reachable along a ray, per direction, square and
+   * compressed ray occupancy.
+   */
+  private static final int[][][] REACHABLE =
+      new int[SquareTables.DIRECTION_COUNT][SquareIndex.SQUARE_COUNT][];
+
+  /**
+   * First occupied square along a ray, or {@link SquareTables#NONE}, per
+   * direction, square and compressed ray occupancy.
+   */
+  private static final byte[][][] BLOCKER =
+      new byte[SquareTables.DIRECTION_COUNT][SquareIndex.SQUARE_COUNT][];
+
+  static {
+    for (int dir = 0; dir < SquareTables.DIRECTION_COUNT; dir++) {
+      for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+        int ray = SquareTables.rayMask(dir, square);
+        int entries = 1 << Integer.bitCount(ray);
+        REACHABLE[dir][square] = new int[entries];
+        BLOCKER[dir][square] = new byte[entries];
+        for (int index = 0; index < entries; index++) {
+          int occupied = Integer.expand(index, ray);
+          int reachable = 0;
+          int blocker = SquareTables.NONE;
+          for (int target : SquareTables.raySquares(dir, square)) {
+            if ((occupied & SquareIndex.bit(target)) != 0) {
+              blocker = target;
+              break;
+            }
+            reachable |= SquareIndex.bit(target);
+          }
+          REACHABLE[dir][square][index] = reachable;
+          BLOCKER[dir][square][index] = (byte) blocker;
+        }
+      }
+    }
+  }
+
+  private KingRays() {
+  }
+
+  /**
+   * Returns the empty squares a king slides over along one ray before it
+   * meets the first piece or the board edge.
+   *
+   * @param dir      the direction index, see {@link SquareTables}
+   * @param square   the square index of the king
+   * @param occupied the mask of occupied squares
+   * @return the mask of reachable squares
+   */
+  public static int reachable(final int dir, final int square,
+                              final int occupied) {
+    return REACHABLE[dir][square][index(dir, square, occupied)];
+  }
+
+  /**
+   * Returns the first occupied square along one ray.
+   *
+   * @param dir      the direction index, see {@link SquareTables}
+   * @param square   the square index of the king
+   * @param occupied the mask of occupied squares
+   * @return the blocking square, or {@link SquareTables#NONE} if the ray is
+   *     empty
+   */
+  public static int firstBlocker(final int dir, final int square,
+                                 final int occupied) {
+    return BLOCKER[dir][square][index(dir, square, occupied)];
+  }
+
+  /**
+   * Returns all squares a king can move to without capturing.
+   *
+   * @param square   the square index of the king
+   * @param occupied the mask of occupied squares
+   * @return the mask of destination squares
+   */
+  public static int moveTargets(final int square, final int occupied) {
+    return reachable(SquareTables.UP_LEFT, square, occupied)
+        | reachable(SquareTables.UP_RIGHT, square, occupied)
+        | reachable(SquareTables.DOWN_LEFT, square, occupied)
+        | reachable(SquareTables.DOWN_RIGHT, square, occupied);
+  }
+
+  /**
+   * Returns the landing square of a capture along one ray: the square right
+   * behind the first piece, provided that piece is an enemy and the square
+   * is empty.
+   *
+   * @param dir      the direction index, see {@link SquareTables}
+   * @param square   the square index of the king
+   * @param enemies  the mask of enemy pieces
+   * @param occupied the mask of occupied squares
+   * @return the landing square, or {@link SquareTables#NONE} if the king
+   *     cannot capture along this ray
+   */
+  public static int captureLanding(final int dir, final int square,
+                                   final int enemies, final int occupied) {
+    int blocker = firstBlocker(dir, square, occupied);
+    if (blocker == SquareTables.NONE
+        || (enemies & SquareIndex.bit(blocker)) == 0) {
+      return SquareTables.NONE;
+    }
+    int landing = SquareTables.neighbour(dir, blocker);
+    if (landing == SquareTables.NONE
+        || (occupied & SquareIndex.bit(landing)) != 0) {
+      return SquareTables.NONE;
+    }
+    return landing;
+  }
+
+  /**
+   * Returns the landing squares of all captures available to a king.
+   *
+   * @param square   the square index of the king
+   * @param enemies  the mask of enemy pieces
+   * @param occupied the mask of occupied squares
+   * @return the mask of landing squares
+   */
+  public static int captureTargets(final int square, final int enemies,
+                                   final int occupied) {
+    int targets = 0;
+    for (int dir = 0; dir < SquareTables.DIRECTION_COUNT; dir++) {
+      int landing = captureLanding(dir, square, enemies, occupied);
+      if (landing != SquareTables.NONE) {
+        targets |= SquareIndex.bit(landing);
+      }
+    }
+    return targets;
+  }
+
+  private static int index(final int dir, final int square,
+                           final int occupied) {
+    return Integer.compress(occupied, SquareTables.rayMask(dir, square));
+  }
+}
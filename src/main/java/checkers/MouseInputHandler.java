@@ -10,6 +10,10 @@ package checkers;
  * {@link MoveCoordinator} to ensure that user interactions result in valid
  * game actions. It maintains the state of the first and second clicks in a
  * move sequence and updates the UI accordingly.</p>
+ *
+ * <p>While a multi-jump capture is in progress the capturing piece stays
+ * selected and every further click is taken as its next hop; clicks that
+ * are not a valid capture keep the selection.</p>
  */
 public final class MouseInputHandler {
 
@@ -54,6 +58,12 @@ public final class MouseInputHandler {
    */
   private int firstClickCol;
 
+  /**
+   * Indicates whether the selected piece is in the middle of a multi-jump
+   * capture and must capture again.
+   */
+  private boolean continuingCapture;
+
   /**
    * Constructs a MouseInputHandler with the given dependencies.
    *
@@ -89,7 +99,7 @@ public final class MouseInputHandler {
    */
   public void handleMouseInput(final int row, final int col) {
     if (!moveValidator.isValidPosition(row, col)) {
-      if (!firstClick) {
+      if (!firstClick && !continuingCapture) {
         clearSelectionAndReset();
       }
       uiController.refreshBoard();
@@ -104,26 +114,41 @@ public final class MouseInputHandler {
     uiController.refreshBoard();
   }
 
+  /**
+   * Returns whether a piece is in the middle of a multi-jump capture, so
+   * that only its next hop may be played.
+   *
+   * @return {@code true} until the capture sequence is completed
+   */
+  public boolean isContinuingCapture() {
+    return continuingCapture;
+  }
+
   private void handleFirstClick(final int row, final int col) {
     if (!moveValidator.canSelectPiece(row, col)) {
       return;
     }
 
-    firstClickRow = row;
-    firstClickCol = col;
-
-    selectionState.setSelectedColumn(col);
-    selectionState.setSelectedRow(row);
-
-    firstClick = false;
+    selectPiece(row, col);
   }
 
   private void handleSecondClick(final int row, final int col) {
     selectionState.setSelectedColumn(GameConstants.BOARD_SIZE);
     selectionState.setSelectedRow(GameConstants.BOARD_SIZE);
 
-    if (moveValidator.mustTake()) {
-      captureHandler.handleCapture(firstClickRow, firstClickCol, row, col);
+    if (continuingCapture || moveValidator.mustTake()) {
+      int result = captureHandler.handleCapture(firstClickRow, firstClickCol,
+          row, col);
+      if (result == CaptureHandler.CONTINUES) {
+        continuingCapture = true;
+        selectPiece(row, col);
+        return;
+      }
+      if (continuingCapture && result == CaptureHandler.REJECTED) {
+        selectPiece(firstClickRow, firstClickCol);
+        return;
+      }
+      continuingCapture = false;
     } else {
       moveCoordinator.handleMove(firstClickRow, firstClickCol, row, col);
     }
@@ -131,6 +156,16 @@ public final class MouseInputHandler {
     firstClick = true;
   }
 
+  private void selectPiece(final int row, final int col) {
+    firstClickRow = row;
+    firstClickCol = col;
+
+    selectionState.setSelectedColumn(col);
+    selectionState.setSelectedRow(row);
+
+    firstClick = false;
+  }
+
   private void clearSelectionAndReset() {
     selectionState.setSelectedColumn(GameConstants.BOARD_SIZE);
     selectionState.setSelectedRow(GameConstants.BOARD_SIZE);
@@ -0,0 +1,262 @@
+package checkers;
+
+/**
+ * Utility class packing a move into a single {@code int}.
+ *
+ * <p>Search code generates and stores moves as plain integers so that no
+ * object is allocated per move. The layout, from the least significant
+ * bit, is:</p>
+ * <ul>
+ *     <li>bits 0-4: source square index,</li>
+ *     <li>bits 5-9: destination square index,</li>
+ *     <li>bits 10-14: first captured square index (meaningless for
+ *     {@link GameConstants#MOVE}),</li>
+ *     <li>bits 15-16: move type ({@link GameConstants#MOVE},
+ *     {@link GameConstants#TAKE} or {@link GameConstants#KING_TAKE}),</li>
+ *     <li>bit 17: set if the moving piece is promoted.</li>
+ * </ul>
+ *
+ * <p>A multi-jump capture is packed as a single move from its first to its
+ * last square. The squares it captures and the landing square of every hop
+ * are kept next to it in a {@link MoveList}; a path packs the landing
+ * squares into a {@code long}, five bits per hop.</p>
+ *
+ * <p>Square indices follow {@link SquareIndex}. {@link BotDecision} is only
+ * used at the boundary to the user interface, see
+ * {@link #toDecision(int)} and {@link #fromDecision(BotDecision,
+ * BoardState)}.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class MoveEncoding {
+  /**
+   * Value that never encodes a legal move.
+   */
+  public static final int NO_MOVE = -1;
+
+  /**
+   * Maximum number of hops a capture path can hold.
+   */
+  public static final int MAX_PATH_LENGTH = 12;
+
+  /**
+   * Mask of a single square index field.
+   */
+  private static final int SQUARE_BITS = 0x1F;
+
+  /**
+   * Mask of the move type field.
+   */
+  private static final int TYPE_BITS = 0x3;
+
+  /**
+   * Position of the destination square field.
+   */
+  private static final int TO_SHIFT = 5;
+
+  /**
+   * Position of the captured square field.
+   */
+  private static final int CAPTURED_SHIFT = 10;
+
+  /**
+   * Position of the move type field.
+   */
+  private static final int TYPE_SHIFT = 15;
+
+  /**
+   * Flag marking a promoting move.
+   */
+  private static final int PROMOTION_FLAG = 1 << 17;
+
+  /**
+   * Number of bits used per square of a capture path.
+   */
+  private static final int PATH_SQUARE_BITS = 5;
+
+  private MoveEncoding() {
+  }
+
+  /**
+   * Packs a move.
+   *
+   * @param from           the source square index
+   * @param to             the destination square index
+   * @param type           the move type
+   * @param capturedSquare the captured square index, ignored for
+   *                       {@link GameConstants#MOVE}
+   * @param promotion      whether the moving piece is promoted
+   * @return the packed move
+   */
+  public static int encode(final int from, final int to, final int type,
+                           final int capturedSquare,
+                           final boolean promotion) {
+    int move = from | to << TO_SHIFT | type << TYPE_SHIFT;
+    if (type != GameConstants.MOVE) {
+      move |= capturedSquare << CAPTURED_SHIFT;
+    }
+    return promotion ? move | PROMOTION_FLAG : move;
+  }
+
+  /**
+   * Returns the source square of a packed move.
+   *
+   * @param move the packed move
+   * @return the source square index
+   */
+  public static int from(final int move) {
+    return move & SQUARE_BITS;
+  }
+
+  /**
+   * Returns the destination square of a packed move.
+   *
+   * @param move the packed move
+   * @return the destination square index
+   */
+  public static int to(final int move) {
+    return move >>> TO_SHIFT & SQUARE_BITS;
+  }
+
+  /**
+   * Returns the type of a packed move.
+   *
+   * @param move the packed move
+   * @return {@link GameConstants#MOVE}, {@link GameConstants#TAKE} or
+   *     {@link GameConstants#KING_TAKE}
+   */
+  public static int type(final int move) {
+    return move >>> TYPE_SHIFT & TYPE_BITS;
+  }
+
+  /**
+   * Checks whether a packed move captures a piece.
+   *
+   * @param move the packed move
+   * @return {@code true} for captures, {@code false} otherwise
+   */
+  public static boolean isCapture(final int move) {
+    return type(move) != GameConstants.MOVE;
+  }
+
+  /**
+   * Returns the square of the piece captured by a packed move.
+   *
+   * @param move the packed move
+   * @return the captured square index; only meaningful for captures
+   */
+  public static int capturedSquare(final int move) {
+    return move >>> CAPTURED_SHIFT & SQUARE_BITS;
+  }
+
+  /**
+   * Returns the mask of squares whose pieces are captured by a packed move.
+   *
+   * @param move the packed move
+   * @return the captured square mask, or 0 if the move does not capture
+   */
+  public static int capturedMask(final int move) {
+    return isCapture(move) ? SquareIndex.bit(capturedSquare(move)) : 0;
+  }
+
+  /**
+   * Checks whether a packed move promotes the moving piece.
+   *
+   * @param move the packed move
+   * @return {@code true} if the piece is crowned, {@code false} otherwise
+   */
+  public static boolean isPromotion(final int move) {
+    return (move & PROMOTION_FLAG) != 0;
+  }
+
+  /**
+   * Adds the landing square of a hop to a capture path.
+   *
+   * @param path   the path so far, 0 when empty
+   * @param hop    the zero-based number of the hop
+   * @param square the landing square index
+   * @return the extended path
+   */
+  public static long appendToPath(final long path, final int hop,
+                                  final int square) {
+    return path | (long) square << hop * PATH_SQUARE_BITS;
+  }
+
+  /**
+   * Returns the landing square of one hop of a capture path.
+   *
+   * @param path the packed path
+   * @param hop  the zero-based number of the hop
+   * @return the landing square index
+   */
+  public static int pathSquare(final long path, final int hop) {
+    return (int) (path >>> hop * PATH_SQUARE_BITS) & SQUARE_BITS;
+  }
+
+  /**
+   * Converts a packed move to the decision used by the user interface.
+   *
+   * @param move the packed move
+   * @return the equivalent {@link BotDecision}
+   */
+  public static BotDecision toDecision(final int move) {
+    return new BotDecision(SquareIndex.rowOf(from(move)),
+        SquareIndex.colOf(from(move)), SquareIndex.rowOf(to(move)),
+        SquareIndex.colOf(to(move)), type(move));
+  }
+
+  /**
+   * Converts a move of a list to the decision used by the user interface,
+   * keeping every square a multi-jump capture takes.
+   *
+   * @param moves the list holding the move
+   * @param index the position of the move in the list
+   * @return the equivalent {@link BotDecision}
+   */
+  public static BotDecision toDecision(final MoveList moves,
+                                       final int index) {
+    int move = moves.get(index);
+    return new BotDecision(SquareIndex.rowOf(from(move)),
+        SquareIndex.colOf(from(move)), SquareIndex.rowOf(to(move)),
+        SquareIndex.colOf(to(move)), type(move), moves.capturedMask(index));
+  }
+
+  /**
+   * Packs a decision made in the user interface. The board is needed to
+   * tell whether the moving piece will be promoted. Only the last captured
+   * square of a multi-jump decision is kept; its full set of captured
+   * squares is {@link BotDecision#capturedMask()}.
+   *
+   * @param decision   the decision to pack
+   * @param boardState the board before the move is made
+   * @return the packed move
+   */
+  public static int fromDecision(final BotDecision decision,
+                                 final BoardState boardState) {
+    int from = SquareIndex.toSquare(decision.fromRow(), decision.fromCol());
+    int to = SquareIndex.toSquare(decision.toRow(), decision.toCol());
+    int rowDir = Integer.signum(decision.toRow() - decision.fromRow());
+    int colDir = Integer.signum(decision.toCol() - decision.fromCol());
+    int captured = SquareIndex.toSquare(decision.toRow() - rowDir,
+        decision.toCol() - colDir);
+    int piece = boardState.getPieceAt(from);
+    return encode(from, to, decision.moveType(), captured,
+        promotes(piece, to));
+  }
+
+  /**
+   * Checks whether a piece moving to the given square is promoted.
+   *
+   * @param piece the moving piece
+   * @param to    the destination square index
+   * @return {@code true} if a man reaches its promotion row
+   */
+  public static boolean promotes(final int piece, final int to) {
+    return switch (piece) {
+      case GameConstants.RED -> SquareIndex.rowOf(to) == 0;
+      case GameConstants.BLACK ->
+          SquareIndex.rowOf(to) == GameConstants.LAST_ROW_INDEX;
+      default -> false;
+    };
+  }
+}
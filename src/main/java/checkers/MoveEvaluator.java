@@ -44,7 +44,7 @@ public final class MoveEvaluator {
   public static int evaluateMove(final BotDecision decision,
                                  final BoardState boardState,
                                  final PlayerConfig playerConfigParam) {
-    MoveExecutor.applyMoveToBoard(decision, boardState, playerConfigParam);
+    MoveExecutor.applyMoveToBoard(decision, boardState);
 
     int score = 0;
     score += ThreatEvaluator.evaluatePlayerThreats(decision, boardState,
@@ -56,4 +56,38 @@ public final class MoveEvaluator {
 
     return score;
   }
+
+  /**
+   * Scores a move that has already been applied to the board with
+   * {@link BoardState#makeMove(BotDecision)}.
+   *
+   * <p>The same factors as {@link #evaluateMove(BotDecision, BoardState,
+   * PlayerConfig)} are considered. Because the board has already promoted
+   * the moving piece, the promotion bonus is read from the undo record.</p>
+   *
+   * @param decision          the move decision that was applied
+   * @param boardState        the board after the move
+   * @param playerConfigParam the configuration and settings of the player
+   *                          making the move
+   * @param undo              the undo record returned when the move was made
+   * @return an integer score representing the desirability of the move;
+   *     higher scores indicate more favorable moves
+   */
+  public static int evaluateMadeMove(final BotDecision decision,
+                                     final BoardState boardState,
+                                     final PlayerConfig playerConfigParam,
+                                     final long undo) {
+    boolean playerCanCapture =
+        boardState.getCapturers(playerConfigParam.getHumanColor()) != 0;
+    boolean botCanCapture =
+        boardState.getCapturers(playerConfigParam.getBotColor()) != 0;
+
+    int score = 0;
+    score += ThreatEvaluator.evaluatePlayerThreats(decision, boardState,
+        playerCanCapture);
+    score += CaptureEvaluator.evaluateCaptureOpportunities(botCanCapture);
+    score += PromotionEvaluator.evaluatePromotion(undo);
+
+    return score;
+  }
 }
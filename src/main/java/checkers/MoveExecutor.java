@@ -83,35 +83,69 @@ public final class MoveExecutor {
     board.setPiece(capturedRow, capturedCol, GameConstants.EMPTY);
   }
 
+  /**
+   * Executes a capture that jumps several pieces in one turn by moving the
+   * piece from the source to the final position and removing every captured
+   * piece.
+   *
+   * @param fromRow      the row index of the piece to move
+   * @param fromCol      the column index of the piece to move
+   * @param toRow        the row index of the final position
+   * @param toCol        the column index of the final position
+   * @param color        the color of the moving piece
+   * @param capturedMask mask of the captured squares, see
+   *                     {@link SquareIndex#bit(int)}
+   * @param board        the current state of the board
+   */
+  public static void executeCaptureChain(final int fromRow, final int fromCol,
+                                         final int toRow, final int toCol,
+                                         final int color,
+                                         final int capturedMask,
+                                         final BoardState board) {
+    executeNormalMove(fromRow, fromCol, toRow, toCol, color, board);
+
+    for (int captured = capturedMask; captured != 0;
+         captured &= captured - 1) {
+      int square = Integer.numberOfTrailingZeros(captured);
+      board.setPiece(SquareIndex.rowOf(square), SquareIndex.colOf(square),
+          GameConstants.EMPTY);
+    }
+  }
+
   /**
    * Applies a move decision to the board according to the type of move.
-   * The method handles normal moves, captures, and king captures.
+   * The method handles normal moves, captures, and king captures for either
+   * side: the moving piece is the one on the source square. Captures
+   * carrying a {@link BotDecision#capturedMask()} remove all listed pieces.
+   * A man that ends its move on its promotion row, by moving or by
+   * capturing, becomes a king.
    *
-   * @param decision          the move decision to apply
-   * @param boardState        the current state of the board
-   * @param playerConfigParam the player configuration providing piece colors
+   * @param decision   the move decision to apply
+   * @param boardState the current state of the board
    */
   public static void applyMoveToBoard(final BotDecision decision,
-                                      final BoardState boardState,
-                                      final PlayerConfig playerConfigParam) {
-    switch (decision.moveType()) {
-      case GameConstants.MOVE:
-        int color = boardState.getPiece(decision.fromRow(), decision.fromCol());
-        executeNormalMove(decision.fromRow(), decision.fromCol(),
-            decision.toRow(), decision.toCol(), color, boardState);
-        break;
-      case GameConstants.TAKE:
-        executeCapture(decision.fromRow(), decision.fromCol(),
-            decision.toRow(), decision.toCol(),
-            playerConfigParam.getBotColor(), boardState);
-        break;
-      case GameConstants.KING_TAKE:
-        executeKingCapture(decision.fromRow(), decision.fromCol(),
-            decision.toRow(), decision.toCol(),
-            playerConfigParam.getBotKingColor(), boardState);
-        break;
-      default:
-        break;
+                                      final BoardState boardState) {
+    int type = decision.moveType();
+    if (type != GameConstants.MOVE && type != GameConstants.TAKE
+        && type != GameConstants.KING_TAKE) {
+      return;
+    }
+    int piece = boardState.getPiece(decision.fromRow(), decision.fromCol());
+    if (type == GameConstants.MOVE) {
+      executeNormalMove(decision.fromRow(), decision.fromCol(),
+          decision.toRow(), decision.toCol(), piece, boardState);
+    } else if (decision.capturedMask() != 0) {
+      executeCaptureChain(decision.fromRow(), decision.fromCol(),
+          decision.toRow(), decision.toCol(), piece, decision.capturedMask(),
+          boardState);
+    } else if (type == GameConstants.TAKE) {
+      executeCapture(decision.fromRow(), decision.fromCol(),
+          decision.toRow(), decision.toCol(), piece, boardState);
+    } else {
+      executeKingCapture(decision.fromRow(), decision.fromCol(),
+          decision.toRow(), decision.toCol(), piece, boardState);
     }
+    PromotionService.promoteIfNeeded(boardState, decision.toRow(),
+        decision.toCol(), piece);
   }
 }
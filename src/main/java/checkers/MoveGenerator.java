@@ -3,12 +3,15 @@ package checkers;
 import java.util.ArrayList;
 
 /**
- * Generates all possible moves for the bot in a game of checkers
- * based on the current board state and the bot's configuration.
+ * Generates all possible moves for either side in a game of checkers
+ * based on the current board state; the bot's configuration picks the side
+ * of the methods that do not take one.
  *
  * <p>This class considers both regular moves and capture moves,
  * and handles standard pieces as well as king pieces. It ensures
- * that the rules of mandatory captures are respected when generating moves.</p>
+ * that the rules of mandatory captures are respected when generating moves.
+ * Every method generates with {@link BitboardMoveGenerator}, so a capture
+ * that jumps several pieces is always one move.</p>
  *
  * @param playerConfig the configuration for the player, including color and
  *                     piece type
@@ -24,57 +27,68 @@ public record MoveGenerator(PlayerConfig playerConfig) {
    *     the bot can make in this turn
    */
   public ArrayList<BotDecision> getPossibleMoves(final BoardState boardState) {
-    ArrayList<BotDecision> possibleMoves = new ArrayList<>();
-
-    boolean mustTake = CaptureRules.checkAllPiecesPossibleCaptures(
-        playerConfig.getBotColor(),
-        playerConfig.getBotKingColor(),
-        boardState);
-
-    for (int row = 0; row < GameConstants.BOARD_SIZE; row++) {
-      for (int col = 0; col < GameConstants.BOARD_SIZE; col++) {
-        int piece = boardState.getPiece(row, col);
-
-        if (!isBotPiece(piece)) {
-          continue;
-        }
+    return getPossibleMoves(playerConfig.getBotColor(), boardState);
+  }
 
-        if (mustTake && CaptureRules.canCapture(col, row, boardState)) {
-          generateCaptureMoves(row, col, piece, possibleMoves, boardState);
-        } else if (!mustTake && MoveRules.canMove(col, row, boardState)) {
-          generateRegularMoves(row, col, piece, possibleMoves, boardState);
-        }
-      }
+  /**
+   * Computes a list of all possible moves for the given side based on the
+   * current board state.
+   *
+   * @param color      {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   * @param boardState the current state of the game board
+   * @return an {@link ArrayList} of {@link BotDecision} representing all
+   *     valid moves the side can make in this turn, with every square a
+   *     multi-jump capture takes
+   */
+  public static ArrayList<BotDecision> getPossibleMoves(
+      final int color, final BoardState boardState) {
+    MoveList moves = new MoveList();
+    generateMoves(color, boardState, moves);
+    ArrayList<BotDecision> possibleMoves = new ArrayList<>(moves.size());
+    for (int i = 0; i < moves.size(); i++) {
+      possibleMoves.add(MoveEncoding.toDecision(moves, i));
     }
-
     return possibleMoves;
   }
 
-  private boolean isBotPiece(final int piece) {
-    return piece == playerConfig.getBotColor()
-        || piece == playerConfig.getBotKingColor();
+  /**
+   * Generates all legal moves for the bot into a reusable move list.
+   *
+   * <p>These are the moves of {@link #getPossibleMoves(BoardState)}, packed
+   * with {@link MoveEncoding} instead, so nothing is allocated.</p>
+   *
+   * @param boardState the current state of the game board
+   * @param moves      the list to fill; it is cleared first
+   */
+  public void generateMoves(final BoardState boardState,
+                            final MoveList moves) {
+    generateMoves(playerConfig.getBotColor(), boardState, moves);
   }
 
-  private void generateCaptureMoves(final int row, final int col,
-                                    final int piece,
-                                    final ArrayList<BotDecision> moves,
-                                    final BoardState boardState) {
-    if (PieceRules.isKing(piece)) {
-      CaptureGenerator.findKingCaptures(row, col, piece, moves, boardState);
-    } else {
-      CaptureGenerator.findRegularCaptures(row, col, piece, moves, boardState);
-    }
+  /**
+   * Generates all legal moves for the given side into a reusable move list.
+   * Captures are mandatory, so only captures are generated when at least
+   * one piece can capture.
+   *
+   * @param color      {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   * @param boardState the current state of the game board
+   * @param moves      the list to fill; it is cleared first
+   */
+  public static void generateMoves(final int color,
+                                   final BoardState boardState,
+                                   final MoveList moves) {
+    BitboardMoveGenerator.generateMoves(color, boardState, moves);
   }
 
-  private void generateRegularMoves(final int row, final int col,
-                                    final int piece,
-                                    final ArrayList<BotDecision> moves,
-                                    final BoardState boardState) {
-    if (PieceRules.isKing(piece)) {
-      KingMoveGenerator.findKingMoves(row, col, piece, moves, boardState);
-    } else {
-      RegularMoveGenerator.findRegularPieceMoves(row, col, piece, moves,
-          boardState);
-    }
+  /**
+   * Returns whether the given side has a legal move.
+   *
+   * @param color      {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   * @param boardState the current state of the game board
+   * @return {@code false} if the side has lost for lack of moves
+   */
+  public static boolean hasMove(final int color,
+                                final BoardState boardState) {
+    return BitboardMoveGenerator.hasMove(color, boardState);
   }
 }
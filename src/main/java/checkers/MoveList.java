@@ -0,0 +1,178 @@
+package checkers;
+
+/**
+ * A reusable, fixed-capacity list of moves packed with
+ * {@link MoveEncoding}.
+ *
+ * <p>A search keeps one list per ply and clears it before generating the
+ * moves of a new position, so generating moves never allocates.</p>
+ *
+ * <p>A capture may take several pieces in one turn. The packed move then
+ * only holds the first captured square, so the list stores the full mask of
+ * captured squares and the landing squares of every hop next to each
+ * move.</p>
+ */
+public final class MoveList {
+  /**
+   * Maximum number of moves a list can hold. This is well above the number
+   * of legal moves in any reachable position.
+   */
+  public static final int CAPACITY = 256;
+
+  /**
+   * The packed moves; only the first {@link #size} entries are valid.
+   */
+  private final int[] moves = new int[CAPACITY];
+
+  /**
+   * Mask of the squares captured by each move.
+   */
+  private final int[] captured = new int[CAPACITY];
+
+  /**
+   * Landing squares of each capture, packed with
+   * {@link MoveEncoding#appendToPath(long, int, int)}.
+   */
+  private final long[] paths = new long[CAPACITY];
+
+  /**
+   * Number of moves currently in the list.
+   */
+  private int size;
+
+  /**
+   * Appends a move that captures at most one piece.
+   *
+   * @param move the packed move
+   * @throws ArrayIndexOutOfBoundsException if the list is full
+   */
+  public void add(final int move) {
+    add(move, MoveEncoding.capturedMask(move),
+        MoveEncoding.isCapture(move)
+            ? MoveEncoding.appendToPath(0, 0, MoveEncoding.to(move)) : 0);
+  }
+
+  /**
+   * Appends a move together with all squares it captures.
+   *
+   * @param move          the packed move
+   * @param capturedMask  mask of the squares whose pieces are captured
+   * @param path          the landing squares of every hop, see
+   *                      {@link MoveEncoding#appendToPath(long, int, int)}
+   * @throws ArrayIndexOutOfBoundsException if the list is full
+   */
+  public void add(final int move, final int capturedMask, final long path) {
+    moves[size] = move;
+    captured[size] = capturedMask;
+    paths[size++] = path;
+  }
+
+  /**
+   * Returns the move at the given position.
+   *
+   * @param index the position in the list
+   * @return the packed move
+   * @throws IndexOutOfBoundsException if {@code index} is not below
+   *                                   {@link #size()}
+   */
+  public int get(final int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index " + index + " out of bounds for size " + size);
+    }
+    return moves[index];
+  }
+
+  /**
+   * Returns the mask of squares captured by the move at the given position.
+   *
+   * @param index the position in the list
+   * @return the captured square mask, or 0 for a move that does not capture
+   * @throws IndexOutOfBoundsException if {@code index} is not below
+   *                                   {@link #size()}
+   */
+  public int capturedMask(final int index) {
+    get(index);
+    return captured[index];
+  }
+
+  /**
+   * Returns the landing squares of the hops of the move at the given
+   * position. Their number equals the number of captured pieces.
+   *
+   * @param index the position in the list
+   * @return the packed path, see {@link MoveEncoding#pathSquare(long, int)}
+   * @throws IndexOutOfBoundsException if {@code index} is not below
+   *                                   {@link #size()}
+   */
+  public long path(final int index) {
+    get(index);
+    return paths[index];
+  }
+
+  /**
+   * Checks whether the list already holds a move with the same source,
+   * destination and captured squares. Captures taken in a different order
+   * can lead to the same position; the generator uses this to list such
+   * sequences only once.
+   *
+   * @param move         the packed move
+   * @param capturedMask mask of the squares captured by the move
+   * @return {@code true} if an equivalent move is present
+   */
+  public boolean contains(final int move, final int capturedMask) {
+    for (int i = 0; i < size; i++) {
+      if (captured[i] == capturedMask
+          && MoveEncoding.from(moves[i]) == MoveEncoding.from(move)
+          && MoveEncoding.to(moves[i]) == MoveEncoding.to(move)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Exchanges two moves together with their captured squares and paths.
+   *
+   * @param first  the position of one move
+   * @param second the position of the other move
+   * @throws IndexOutOfBoundsException if either position is not below
+   *                                   {@link #size()}
+   */
+  public void swap(final int first, final int second) {
+    int move = get(first);
+    int capturedMask = captured[first];
+    long path = paths[first];
+    moves[first] = get(second);
+    captured[first] = captured[second];
+    paths[first] = paths[second];
+    moves[second] = move;
+    captured[second] = capturedMask;
+    paths[second] = path;
+  }
+
+  /**
+   * Returns the number of moves in the list.
+   *
+   * @return the number of moves
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the list holds no moves.
+   *
+   * @return {@code true} if the list is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes all moves, keeping the underlying buffer.
+   */
+  public void clear() {
+    size = 0;
+  }
+}
@@ -0,0 +1,216 @@
+package checkers;
+
+import java.util.Arrays;
+
+/**
+ * Orders the moves of a search node so that the move most likely to cause
+ * a cutoff is searched first.
+ *
+ * <p>Each move gets a sort key: the move stored in the transposition table
+ * comes first, then captures by the material they win, then the two killer
+ * moves of the ply (quiet moves that caused a cutoff in a sibling node),
+ * then the remaining quiet moves by their history score. The history score
+ * of a quiet move grows with the square of the remaining depth every time
+ * it causes a cutoff anywhere in the tree.</p>
+ *
+ * <p>Moves are picked one at a time with {@link #selectNext(MoveList, int,
+ * int)}, so a node cut off by its first move never sorts the rest. The
+ * orderer also counts cutoffs and how many of them came from the first move
+ * searched, which shows how well the ordering works.</p>
+ */
+public final class MoveOrderer {
+  /**
+   * Sort key of the transposition table move.
+   */
+  private static final int TABLE_MOVE_KEY = 1 << 30;
+
+  /**
+   * Sort key of a capture winning no material; the material is added.
+   */
+  private static final int CAPTURE_KEY = 1 << 29;
+
+  /**
+   * Sort key of the first killer move; the second one ranks just below.
+   */
+  private static final int KILLER_KEY = 1 << 28;
+
+  /**
+   * History scores are halved once one of them reaches this value.
+   */
+  private static final int HISTORY_LIMIT = 1 << 20;
+
+  /**
+   * Number of killer moves kept per ply.
+   */
+  private static final int KILLERS_PER_PLY = 2;
+
+  /**
+   * Two killer moves per ply.
+   */
+  private final int[][] killers;
+
+  /**
+   * History score per source and destination square.
+   */
+  private final int[] history =
+      new int[SquareIndex.SQUARE_COUNT * SquareIndex.SQUARE_COUNT];
+
+  /**
+   * Sort keys of the moves of every ply, parallel to its move list.
+   */
+  private final int[][] keys;
+
+  /**
+   * Number of cutoffs recorded.
+   */
+  private long cutoffs;
+
+  /**
+   * Number of cutoffs caused by the first move searched.
+   */
+  private long firstMoveCutoffs;
+
+  /**
+   * Creates an orderer for searches of up to the given number of plies.
+   *
+   * @param maxPly the deepest ply that will be ordered
+   */
+  public MoveOrderer(final int maxPly) {
+    this.killers = new int[maxPly + 1][KILLERS_PER_PLY];
+    this.keys = new int[maxPly + 1][MoveList.CAPACITY];
+    for (int[] plyKillers : killers) {
+      Arrays.fill(plyKillers, MoveEncoding.NO_MOVE);
+    }
+  }
+
+  /**
+   * Computes the sort keys of the moves of a node.
+   *
+   * @param moves      the moves of the node
+   * @param boardState the position of the node
+   * @param tableMove  the move stored for the position, or
+   *                   {@link MoveEncoding#NO_MOVE}
+   * @param ply        the distance of the node from the root
+   */
+  public void scoreMoves(final MoveList moves, final BoardState boardState,
+                         final int tableMove, final int ply) {
+    int[] plyKeys = keys[ply];
+    int[] plyKillers = killers[ply];
+    int kings = boardState.getKingMask();
+    for (int i = 0; i < moves.size(); i++) {
+      int move = moves.get(i);
+      if (move == tableMove) {
+        plyKeys[i] = TABLE_MOVE_KEY;
+      } else if (MoveEncoding.isCapture(move)) {
+        plyKeys[i] = CAPTURE_KEY + materialWon(move,
+            moves.capturedMask(i), kings);
+      } else if (move == plyKillers[0]) {
+        plyKeys[i] = KILLER_KEY;
+      } else if (move == plyKillers[1]) {
+        plyKeys[i] = KILLER_KEY - 1;
+      } else {
+        plyKeys[i] = history[historyIndex(move)];
+      }
+    }
+  }
+
+  /**
+   * Moves the best of the not yet searched moves to the given position.
+   *
+   * @param moves the moves of the node, scored with {@link #scoreMoves}
+   * @param index the position of the next move to search
+   * @param ply   the distance of the node from the root
+   */
+  public void selectNext(final MoveList moves, final int index,
+                         final int ply) {
+    int[] plyKeys = keys[ply];
+    int best = index;
+    for (int i = index + 1; i < moves.size(); i++) {
+      if (plyKeys[i] > plyKeys[best]) {
+        best = i;
+      }
+    }
+    if (best != index) {
+      moves.swap(index, best);
+      int key = plyKeys[index];
+      plyKeys[index] = plyKeys[best];
+      plyKeys[best] = key;
+    }
+  }
+
+  /**
+   * Records that a move caused a beta cutoff. A quiet move becomes the
+   * first killer of its ply and gains history.
+   *
+   * @param move  the move that caused the cutoff
+   * @param index the position of the move in the searched order
+   * @param depth the remaining depth of the node
+   * @param ply   the distance of the node from the root
+   */
+  public void recordCutoff(final int move, final int index, final int depth,
+                           final int ply) {
+    cutoffs++;
+    if (index == 0) {
+      firstMoveCutoffs++;
+    }
+    if (MoveEncoding.isCapture(move)) {
+      return;
+    }
+    int[] plyKillers = killers[ply];
+    if (plyKillers[0] != move) {
+      plyKillers[1] = plyKillers[0];
+      plyKillers[0] = move;
+    }
+    int slot = historyIndex(move);
+    history[slot] += depth * depth;
+    if (history[slot] >= HISTORY_LIMIT) {
+      for (int i = 0; i < history.length; i++) {
+        history[i] >>= 1;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of cutoffs recorded.
+   *
+   * @return the cutoff count
+   */
+  public long getCutoffs() {
+    return cutoffs;
+  }
+
+  /**
+   * Returns the number of cutoffs caused by the first move searched.
+   *
+   * @return the first-move cutoff count
+   */
+  public long getFirstMoveCutoffs() {
+    return firstMoveCutoffs;
+  }
+
+  /**
+   * Returns the share of cutoffs caused by the first move searched.
+   *
+   * @return a value between 0 and 1; 0 if there was no cutoff
+   */
+  public double firstMoveCutoffRate() {
+    return cutoffs == 0 ? 0 : (double) firstMoveCutoffs / cutoffs;
+  }
+
+  private static int materialWon(final int move, final int capturedMask,
+                                 final int kings) {
+    int capturedKings = Integer.bitCount(capturedMask & kings);
+    int capturedMen = Integer.bitCount(capturedMask) - capturedKings;
+    int material = capturedMen * GameConstants.SCORE_MAN
+        + capturedKings * GameConstants.SCORE_KING;
+    if (MoveEncoding.isPromotion(move)) {
+      material += GameConstants.SCORE_KING - GameConstants.SCORE_MAN;
+    }
+    return material;
+  }
+
+  private static int historyIndex(final int move) {
+    return MoveEncoding.from(move) * SquareIndex.SQUARE_COUNT
+        + MoveEncoding.to(move);
+  }
+}
@@ -82,13 +82,33 @@ public record MoveService(TurnManager turnManager, BoardState boardState,
 
   /**
    * Returns a list of all possible moves for the current board state,
-   * typically used by the AI or for move generation.
+   * typically used by the AI or for move generation. A capture that jumps
+   * several pieces is returned as one decision carrying all captured
+   * squares.
    *
    * @param boardStateParam the board state to evaluate
    * @return an ArrayList of BotDecision objects representing possible moves
    */
   public ArrayList<BotDecision> getPossibleMoves(
       final BoardState boardStateParam) {
-    return moveGenerator.getPossibleMoves(boardStateParam);
+    MoveList moves = new MoveList();
+    moveGenerator.generateMoves(boardStateParam, moves);
+    ArrayList<BotDecision> decisions = new ArrayList<>(moves.size());
+    for (int i = 0; i < moves.size(); i++) {
+      decisions.add(MoveEncoding.toDecision(moves, i));
+    }
+    return decisions;
+  }
+
+  /**
+   * Generates all possible moves for the bot into a reusable move list,
+   * see {@link MoveGenerator#generateMoves(BoardState, MoveList)}.
+   *
+   * @param boardStateParam the board state to evaluate
+   * @param moves           the list to fill; it is cleared first
+   */
+  public void generateMoves(final BoardState boardStateParam,
+                            final MoveList moves) {
+    moveGenerator.generateMoves(boardStateParam, moves);
   }
 }
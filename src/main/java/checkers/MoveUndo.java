@@ -0,0 +1,70 @@
+package checkers;
+
+/**
+ * Utility class describing the undo record produced by
+ * {@link BoardState#makeMove(BotDecision)}.
+ *
+ * <p>An undo record is packed into a single {@code long} so that making and
+ * unmaking moves during a search never allocates. The low 32 bits hold the
+ * mask of captured squares and the high 32 bits hold the mask of captured
+ * kings. A promotion is flagged by setting the destination bit in the high
+ * half; a destination square is never a captured square, so the flag
+ * cannot be confused with a captured king.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class MoveUndo {
+  /**
+   * Mask selecting the low 32 bits of an undo record.
+   */
+  private static final long LOW_BITS = 0xFFFFFFFFL;
+
+  private MoveUndo() {
+  }
+
+  /**
+   * Packs an undo record.
+   *
+   * @param capturedSquares mask of the squares whose pieces were captured
+   * @param capturedKings   mask of the captured squares that held kings
+   * @param promotionSquare mask of the destination square if the moving
+   *                        piece was promoted, otherwise 0
+   * @return the packed undo record
+   */
+  public static long of(final int capturedSquares, final int capturedKings,
+                        final int promotionSquare) {
+    return ((long) (capturedKings | promotionSquare) << Integer.SIZE)
+        | (capturedSquares & LOW_BITS);
+  }
+
+  /**
+   * Returns the mask of squares whose pieces were captured by the move.
+   *
+   * @param undo the packed undo record
+   * @return the captured square mask
+   */
+  public static int capturedSquares(final long undo) {
+    return (int) undo;
+  }
+
+  /**
+   * Returns the mask of captured squares that held kings.
+   *
+   * @param undo the packed undo record
+   * @return the captured king mask
+   */
+  public static int capturedKings(final long undo) {
+    return (int) (undo >>> Integer.SIZE) & (int) undo;
+  }
+
+  /**
+   * Checks whether the move promoted the moving piece to a king.
+   *
+   * @param undo the packed undo record
+   * @return {@code true} if the move promoted a piece, {@code false}
+   *     otherwise
+   */
+  public static boolean isPromotion(final long undo) {
+    return ((int) (undo >>> Integer.SIZE) & ~(int) undo) != 0;
+  }
+}
@@ -0,0 +1,148 @@
+package checkers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the leaf nodes of the move tree to a fixed depth.
+ *
+ * <p>Perft walks every legal move sequence with
+ * {@link MoveGenerator#generateMoves(int, BoardState, MoveList)} and
+ * {@link BoardState#makeMove(int, int, int)}, so the node counts check the
+ * move generator and the make/unmake code at once and the time taken
+ * measures their throughput. A capture sequence counts as one move. The
+ * counts of a position never change unless the rules do, which makes them a
+ * regression check for any generator rewrite.</p>
+ *
+ * <p>Run it with {@code java -cp target/classes checkers.Perft [depth]
+ * [divide] [position]}. Without a position the starting position of
+ * {@link BoardInitializer#setUpPawns(BoardState)} is used; positions are
+ * written as described in {@link BoardNotation}. The node count and nodes
+ * per second are reported for every depth up to the requested one, and
+ * {@code divide} adds the count below each root move.</p>
+ */
+public final class Perft {
+  /**
+   * Depth searched when none is given on the command line.
+   */
+  private static final int DEFAULT_DEPTH = 8;
+
+  /**
+   * Nanoseconds per second, used to report nodes per second.
+   */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /**
+   * Nanoseconds per millisecond.
+   */
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+
+  private Perft() {
+  }
+
+  /**
+   * Counts the leaf nodes below a position. The board is restored before
+   * the method returns.
+   *
+   * @param board the position, with its side to move
+   * @param depth the number of plies to play out
+   * @return the number of move sequences of length {@code depth}
+   */
+  public static long perft(final BoardState board, final int depth) {
+    return count(board, depth, newLists(depth), 0);
+  }
+
+  /**
+   * Counts the leaf nodes below every root move of a position. The board is
+   * restored before the method returns.
+   *
+   * @param board the position, with its side to move
+   * @param depth the number of plies to play out, at least 1
+   * @return the leaf count per root move, keyed by
+   *     {@link BoardNotation#formatMove(MoveList, int)} in generation order
+   */
+  public static Map<String, Long> divide(final BoardState board,
+                                         final int depth) {
+    MoveList[] lists = newLists(depth);
+    MoveList moves = lists[0];
+    MoveGenerator.generateMoves(board.getSideToMove(), board, moves);
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (int i = 0; i < moves.size(); i++) {
+      int move = moves.get(i);
+      long undo = board.makeMove(MoveEncoding.from(move),
+          MoveEncoding.to(move), moves.capturedMask(i));
+      counts.put(BoardNotation.formatMove(moves, i),
+          count(board, depth - 1, lists, 1));
+      board.unmakeMove(MoveEncoding.from(move), MoveEncoding.to(move), undo);
+    }
+    return counts;
+  }
+
+  /**
+   * Runs perft from the command line.
+   *
+   * @param args optional depth, {@code divide} and position, in any order
+   */
+  public static void main(final String[] args) {
+    int depth = DEFAULT_DEPTH;
+    boolean divide = false;
+    BoardState board = null;
+    for (String arg : args) {
+      if ("divide".equals(arg)) {
+        divide = true;
+      } else if (arg.indexOf(':') >= 0) {
+        board = BoardNotation.parse(arg);
+      } else {
+        depth = Integer.parseInt(arg);
+      }
+    }
+    if (board == null) {
+      board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+    }
+
+    System.out.println(BoardNotation.format(board));
+    for (int d = 1; d <= depth; d++) {
+      long start = System.nanoTime();
+      long nodes = perft(board, d);
+      long nanos = Math.max(1, System.nanoTime() - start);
+      System.out.printf("depth %2d %,16d nodes %,8d ms %,14d nodes/s%n", d,
+          nodes, nanos / NANOS_PER_MILLI, nodes * NANOS_PER_SECOND / nanos);
+    }
+    if (divide) {
+      Map<String, Long> counts = divide(board, depth);
+      counts.forEach((move, nodes) ->
+          System.out.printf("%-12s %,16d%n", move, nodes));
+      System.out.printf("%d moves%n", counts.size());
+    }
+  }
+
+  private static long count(final BoardState board, final int depth,
+                            final MoveList[] lists, final int ply) {
+    if (depth == 0) {
+      return 1;
+    }
+    MoveList moves = lists[ply];
+    MoveGenerator.generateMoves(board.getSideToMove(), board, moves);
+    if (depth == 1) {
+      return moves.size();
+    }
+    long nodes = 0;
+    for (int i = 0; i < moves.size(); i++) {
+      int move = moves.get(i);
+      long undo = board.makeMove(MoveEncoding.from(move),
+          MoveEncoding.to(move), moves.capturedMask(i));
+      nodes += count(board, depth - 1, lists, ply + 1);
+      board.unmakeMove(MoveEncoding.from(move), MoveEncoding.to(move), undo);
+    }
+    return nodes;
+  }
+
+  private static MoveList[] newLists(final int depth) {
+    MoveList[] lists = new MoveList[Math.max(1, depth)];
+    for (int i = 0; i < lists.length; i++) {
+      lists[i] = new MoveList();
+    }
+    return lists;
+  }
+}
@@ -4,8 +4,10 @@ package checkers;
  * Configuration class for a checkers game player.
  *
  * <p>This class stores the colors used for both the human player and the bot,
- * including their standard pieces and king pieces. It provides getter and
- * setter methods to access and modify these colors.
+ * including their standard pieces and king pieces, the settings,
+ * transposition table and ponderer the bot searches with, and the
+ * statistics of its last search. It provides getter and setter methods to
+ * access and modify these values.
  * </p>
  */
 public class PlayerConfig {
@@ -30,6 +32,26 @@ public class PlayerConfig {
    */
   private int botKingColor;
 
+  /**
+   * Settings of the bot's move search.
+   */
+  private SearchConfig searchConfig = SearchConfig.DEFAULT;
+
+  /**
+   * Table of search results kept from move to move, or {@code null}.
+   */
+  private TranspositionTable transpositionTable;
+
+  /**
+   * Searcher working on the human player's time, or {@code null}.
+   */
+  private Ponderer ponderer;
+
+  /**
+   * Statistics of the bot's last move search; written by the bot's thread.
+   */
+  private volatile SearchStats searchStats = SearchStats.EMPTY;
+
   /**
    * Returns the color of the human player's standard pieces.
    *
@@ -101,4 +123,80 @@ public class PlayerConfig {
   public void setBotKingColor(final int botKingColorParam) {
     botKingColor = botKingColorParam;
   }
+
+  /**
+   * Returns the settings of the bot's move search.
+   *
+   * @return the search settings
+   */
+  public SearchConfig getSearchConfig() {
+    return searchConfig;
+  }
+
+  /**
+   * Sets the settings of the bot's move search.
+   *
+   * @param searchConfigParam the new search settings
+   */
+  public void setSearchConfig(final SearchConfig searchConfigParam) {
+    searchConfig = searchConfigParam;
+  }
+
+  /**
+   * Returns the table of search results kept from move to move.
+   *
+   * @return the transposition table, or {@code null} if every search starts
+   *     with an empty table of its own
+   */
+  public TranspositionTable getTranspositionTable() {
+    return transpositionTable;
+  }
+
+  /**
+   * Sets the table of search results kept from move to move.
+   *
+   * @param transpositionTableParam the new transposition table, or
+   *                                {@code null}
+   */
+  public void setTranspositionTable(
+      final TranspositionTable transpositionTableParam) {
+    transpositionTable = transpositionTableParam;
+  }
+
+  /**
+   * Returns the searcher working on the human player's time.
+   *
+   * @return the ponderer, or {@code null} if the bot does not ponder
+   */
+  public Ponderer getPonderer() {
+    return ponderer;
+  }
+
+  /**
+   * Sets the searcher working on the human player's time.
+   *
+   * @param pondererParam the new ponderer, or {@code null}
+   */
+  public void setPonderer(final Ponderer pondererParam) {
+    ponderer = pondererParam;
+  }
+
+  /**
+   * Returns the statistics of the bot's last move search.
+   *
+   * @return the statistics; {@link SearchStats#EMPTY} before the first
+   *     search
+   */
+  public SearchStats getSearchStats() {
+    return searchStats;
+  }
+
+  /**
+   * Sets the statistics of the bot's last move search.
+   *
+   * @param searchStatsParam the new statistics
+   */
+  public void setSearchStats(final SearchStats searchStatsParam) {
+    searchStats = searchStatsParam;
+  }
 }
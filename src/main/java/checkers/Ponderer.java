@@ -0,0 +1,274 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches on the human player's time.
+ *
+ * <p>After the bot has moved, {@link #start} predicts the human's reply and
+ * searches the position after it for the bot, on a daemon thread and
+ * without a time limit, until {@link #stop()} is called on the next click.
+ * The reply predicted is the best move stored in the
+ * {@link TranspositionTable} for the position, which the bot's own search
+ * has usually just found; failing that, a shallow search picks it. All
+ * results go into the table shared with the bot's search, so they help its
+ * next search even if the human plays something else.</p>
+ *
+ * <p>When the human plays the predicted reply, {@link #takeMove} returns
+ * the pondered move, provided the ponder ran at least as long as the
+ * bot's time budget or completed the configured depth, so the bot answers
+ * at once. Otherwise the bot searches as usual, starting from the warmed
+ * table.</p>
+ *
+ * <p>{@link #start}, {@link #stop()} and {@link #takeMove} may be called
+ * from any thread.</p>
+ */
+public final class Ponderer {
+  /**
+   * Depth of the search predicting the human's reply when the table holds
+   * no move for the position.
+   */
+  static final int PREDICTION_DEPTH = 4;
+
+  /**
+   * Table shared with the bot's search.
+   */
+  private final TranspositionTable table;
+
+  /**
+   * Thread of the running ponder, or {@code null}.
+   */
+  private Thread thread;
+
+  /**
+   * Token stopping the running ponder.
+   */
+  private CancellationToken cancellation = new CancellationToken();
+
+  /**
+   * Settings of the bot's search when the ponder started.
+   */
+  private SearchConfig searchConfig;
+
+  /**
+   * Color of the bot.
+   */
+  private int botColor;
+
+  /**
+   * Time the ponder started, in nanoseconds.
+   */
+  private long startTime;
+
+  /**
+   * Time the last ponder ran, in nanoseconds.
+   */
+  private long ponderTime;
+
+  /**
+   * Predicted reply of the human, or {@code null}; written by the ponder
+   * thread.
+   */
+  private BotDecision predictedReply;
+
+  /**
+   * Key of the position after the predicted reply, with the bot to move;
+   * written by the ponder thread.
+   */
+  private long predictedKey;
+
+  /**
+   * Best move found for the predicted position, or {@code null}; written by
+   * the ponder thread.
+   */
+  private BotDecision ponderMove;
+
+  /**
+   * Deepest search the ponder completed; written by the ponder thread.
+   */
+  private int ponderDepth;
+
+  /**
+   * Statistics of the ponder's search; written by the ponder thread.
+   */
+  private SearchStats ponderStats = SearchStats.EMPTY;
+
+  /**
+   * Creates a ponderer keeping its results in the given table.
+   *
+   * @param tableParam the table shared with the bot's search
+   */
+  public Ponderer(final TranspositionTable tableParam) {
+    this.table = tableParam;
+  }
+
+  /**
+   * Starts pondering on the position after the bot's move, stopping any
+   * ponder still running.
+   *
+   * @param boardState        the board after the bot's move; it is copied
+   *                          and not changed
+   * @param botColorParam     {@link GameConstants#RED} or
+   *                          {@link GameConstants#BLACK}
+   * @param searchConfigParam the settings of the bot's search
+   */
+  public synchronized void start(final BoardState boardState,
+                                 final int botColorParam,
+                                 final SearchConfig searchConfigParam) {
+    stop();
+    BoardState board = boardState.copy();
+    searchConfig = searchConfigParam;
+    botColor = botColorParam;
+    predictedReply = null;
+    ponderMove = null;
+    ponderDepth = 0;
+    ponderStats = SearchStats.EMPTY;
+    cancellation = new CancellationToken();
+    CancellationToken token = cancellation;
+    startTime = System.nanoTime();
+    thread = new Thread(() -> ponder(board, token), "ponder");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Stops the running ponder, if any, and waits for its thread to finish,
+   * which takes a few milliseconds at most. Its result is kept for
+   * {@link #takeMove}.
+   */
+  public synchronized void stop() {
+    if (thread == null) {
+      return;
+    }
+    cancellation.cancel();
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    ponderTime = System.nanoTime() - startTime;
+    thread = null;
+  }
+
+  /**
+   * Returns whether a ponder is running. A ponder ends on {@link #stop()} or
+   * once it completes the configured depth.
+   *
+   * @return {@code true} while the ponder thread runs
+   */
+  public synchronized boolean isPondering() {
+    return thread != null && thread.isAlive();
+  }
+
+  /**
+   * Stops pondering and returns the pondered move if the human played the
+   * predicted reply and the ponder searched long enough to stand in for
+   * the bot's search. The result is used only once.
+   *
+   * @param boardState    the current board, with the bot to move
+   * @param possibleMoves the legal moves of the bot
+   * @return the pondered move, or {@code null} if the bot has to search
+   */
+  public synchronized BotDecision takeMove(
+      final BoardState boardState,
+      final ArrayList<BotDecision> possibleMoves) {
+    stop();
+    BotDecision move = ponderMove;
+    ponderMove = null;
+    if (move == null || !possibleMoves.contains(move)) {
+      return null;
+    }
+    BoardState board = boardState.copy();
+    board.setSideToMove(botColor);
+    boolean longEnough = ponderDepth >= searchConfig.depth()
+        || ponderTime >= TimeUnit.MILLISECONDS.toNanos(
+            searchConfig.timeBudgetMs());
+    return board.getZobristKey() == predictedKey && longEnough ? move : null;
+  }
+
+  /**
+   * Returns the human reply predicted by the last ponder.
+   *
+   * @return the predicted reply, or {@code null} if none was predicted or
+   *     the ponder is still running
+   */
+  public synchronized BotDecision getPredictedReply() {
+    return thread == null ? predictedReply : null;
+  }
+
+  /**
+   * Returns the statistics of the search of the last ponder, for the
+   * pondered move.
+   *
+   * @return the statistics, or {@link SearchStats#EMPTY} if the ponder did
+   *     not search or is still running
+   */
+  public synchronized SearchStats getSearchStats() {
+    return thread == null ? ponderStats : SearchStats.EMPTY;
+  }
+
+  private void ponder(final BoardState board,
+                      final CancellationToken token) {
+    int humanColor = botColor == GameConstants.RED ? GameConstants.BLACK
+        : GameConstants.RED;
+    ArrayList<BotDecision> replies = legalMoves(board, humanColor);
+    if (replies.isEmpty()) {
+      return;
+    }
+    BotDecision reply = predictReply(board, humanColor, replies, token);
+    if (token.isCancelled()) {
+      return;
+    }
+    board.setSideToMove(humanColor);
+    board.makeMove(reply);
+    ArrayList<BotDecision> moves = legalMoves(board, botColor);
+    predictedReply = reply;
+    predictedKey = board.getZobristKey();
+    if (moves.size() <= 1) {
+      return;
+    }
+    SearchEngine engine = new SearchEngine(
+        new SearchConfig(searchConfig.depth(), SearchConfig.NO_TIME_LIMIT,
+            searchConfig.threads(), searchConfig.selective()),
+        table, System::nanoTime, token.signal());
+    ponderMove = engine.searchRoot(moves, board, botColor);
+    ponderDepth = engine.getCompletedDepth();
+    ponderStats = engine.getStats();
+    if (ponderDepth == 0) {
+      ponderMove = null;
+    }
+  }
+
+  private BotDecision predictReply(final BoardState board,
+                                   final int humanColor,
+                                   final ArrayList<BotDecision> replies,
+                                   final CancellationToken token) {
+    BoardState position = board.copy();
+    position.setSideToMove(humanColor);
+    long entry = table.probe(position.getZobristKey());
+    if (entry != TranspositionTable.MISS) {
+      MoveList moves = new MoveList();
+      MoveGenerator.generateMoves(humanColor, position, moves);
+      for (int i = 0; i < moves.size(); i++) {
+        if (moves.get(i) == TranspositionTable.move(entry)) {
+          return MoveEncoding.toDecision(moves, i);
+        }
+      }
+    }
+    return new SearchEngine(new SearchConfig(PREDICTION_DEPTH), table,
+        System::nanoTime, token.signal())
+        .searchRoot(replies, position, humanColor);
+  }
+
+  private static ArrayList<BotDecision> legalMoves(final BoardState board,
+                                                   final int color) {
+    MoveList moves = new MoveList();
+    MoveGenerator.generateMoves(color, board, moves);
+    ArrayList<BotDecision> decisions = new ArrayList<>(moves.size());
+    for (int i = 0; i < moves.size(); i++) {
+      decisions.add(MoveEncoding.toDecision(moves, i));
+    }
+    return decisions;
+  }
+}
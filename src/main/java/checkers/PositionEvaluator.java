@@ -0,0 +1,77 @@
+package checkers;
+
+/**
+ * Utility class scoring a position for the move search.
+ *
+ * <p>The score is seen from the side to move and is built from material and
+ * the terms {@link MoveEvaluator} uses to rate a single move:</p>
+ * <ul>
+ *     <li>{@link GameConstants#SCORE_MAN} per man and
+ *     {@link GameConstants#SCORE_KING} per king,</li>
+ *     <li>{@link GameConstants#SCORE_TAKE_POSSIBLE} if the side to move can
+ *     capture,</li>
+ *     <li>{@link GameConstants#SCORE_PLAYER_THREAT} against it if the
+ *     opponent could capture,</li>
+ *     <li>{@link GameConstants#SCORE_CHANCE_FOR_KING} per man one step away
+ *     from its promotion row.</li>
+ * </ul>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class PositionEvaluator {
+  /**
+   * Squares from which a red man is promoted with its next step.
+   */
+  private static final int RED_BEFORE_PROMOTION = SquareIndex.rowMask(1);
+
+  /**
+   * Squares from which a black man is promoted with its next step.
+   */
+  private static final int BLACK_BEFORE_PROMOTION =
+      SquareIndex.rowMask(GameConstants.LAST_ROW_INDEX - 1);
+
+  private PositionEvaluator() {
+  }
+
+  /**
+   * Scores a position from the point of view of the side to move.
+   *
+   * @param boardState the position
+   * @return the score; positive values favour the side to move
+   */
+  public static int evaluate(final BoardState boardState) {
+    int side = boardState.getSideToMove();
+    int opponent = side == GameConstants.RED ? GameConstants.BLACK
+        : GameConstants.RED;
+    int score = sideScore(side, boardState) - sideScore(opponent, boardState);
+    if (boardState.getCapturers(side) != 0) {
+      score += GameConstants.SCORE_TAKE_POSSIBLE;
+    }
+    if (boardState.getCapturers(opponent) != 0) {
+      score -= GameConstants.SCORE_PLAYER_THREAT;
+    }
+    return score;
+  }
+
+  /**
+   * Returns the material value of one side.
+   *
+   * @param color      {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   * @param boardState the position
+   * @return the value of the side's men and kings
+   */
+  public static int material(final int color, final BoardState boardState) {
+    int own = boardState.getColorMask(color);
+    int kings = Integer.bitCount(own & boardState.getKingMask());
+    return (Integer.bitCount(own) - kings) * GameConstants.SCORE_MAN
+        + kings * GameConstants.SCORE_KING;
+  }
+
+  private static int sideScore(final int color, final BoardState boardState) {
+    int men = boardState.getColorMask(color) & ~boardState.getKingMask();
+    int beforePromotion = color == GameConstants.RED ? RED_BEFORE_PROMOTION
+        : BLACK_BEFORE_PROMOTION;
+    return material(color, boardState) + Integer.bitCount(
+        men & beforePromotion) * GameConstants.SCORE_CHANCE_FOR_KING;
+  }
+}
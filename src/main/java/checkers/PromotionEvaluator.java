@@ -37,6 +37,20 @@ public final class PromotionEvaluator {
     return 0;
   }
 
+  /**
+   * Scores the promotion recorded in the undo record of an applied move.
+   *
+   * @param undo the undo record returned by
+   *             {@link BoardState#makeMove(BotDecision)}
+   * @return the promotion score if the move crowned a piece, otherwise 0
+   */
+  public static int evaluatePromotion(final long undo) {
+    if (MoveUndo.isPromotion(undo)) {
+      return GameConstants.SCORE_CHANCE_FOR_KING;
+    }
+    return 0;
+  }
+
   /**
    * Determines whether a specific piece can be promoted to a king.
    *
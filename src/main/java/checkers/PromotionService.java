@@ -24,11 +24,28 @@ public record PromotionService(BoardState boardState) {
    *              {@link GameConstants#RED} or {@link GameConstants#BLACK}
    */
   public void promoteIfNeeded(final int row, final int col, final int color) {
+    promoteIfNeeded(boardState, row, col, color);
+  }
+
+  /**
+   * Promotes a piece on the given board to a king if it has reached the row
+   * where promotion is required. This is the same rule as
+   * {@link #promoteIfNeeded(int, int, int)} for callers without a service
+   * of their own, such as {@link MoveExecutor}.
+   *
+   * @param board the board holding the piece
+   * @param row   the current row of the piece
+   * @param col   the current column of the piece
+   * @param color the color of the piece, expected to be
+   *              {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   */
+  public static void promoteIfNeeded(final BoardState board, final int row,
+                                     final int col, final int color) {
     if (color == GameConstants.RED && row == 0) {
-      boardState.setPiece(row, col, GameConstants.RED_KING);
+      board.setPiece(row, col, GameConstants.RED_KING);
     } else if (color == GameConstants.BLACK
         && row == GameConstants.LAST_ROW_INDEX) {
-      boardState.setPiece(row, col, GameConstants.BLACK_KING);
+      board.setPiece(row, col, GameConstants.BLACK_KING);
     }
   }
 }
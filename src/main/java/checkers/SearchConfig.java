@@ -0,0 +1,114 @@
+package checkers;
+
+/**
+ * Settings of the bot's move search.
+ *
+ * <p>The search deepens one ply at a time until it reaches {@link #depth()}
+ * or its time budget runs out, whichever comes first. With more than one
+ * thread, helper threads search the same position alongside and share
+ * their results through the transposition table.</p>
+ *
+ * <p>A selective search skips or shortens the lines it expects to be bad,
+ * which lets it look deeper in the same time; its scores are then no longer
+ * exactly those of a full-width search.</p>
+ *
+ * @param depth        the deepest search in plies below the current
+ *                     position, at least 1 and at most {@link #MAX_DEPTH}
+ * @param timeBudgetMs the time the bot may spend on one move in
+ *                     milliseconds, at least 1, or {@link #NO_TIME_LIMIT}
+ * @param threads      the number of search threads, at least 1 and at most
+ *                     {@link #MAX_THREADS}
+ * @param selective    whether the search prunes nodes near the horizon that
+ *                     are far above beta and reduces the depth of quiet
+ *                     moves ordered late
+ */
+public record SearchConfig(int depth, long timeBudgetMs, int threads,
+                           boolean selective) {
+  /**
+   * Deepest search the engine supports.
+   */
+  public static final int MAX_DEPTH = 64;
+
+  /**
+   * Largest number of search threads.
+   */
+  public static final int MAX_THREADS = 64;
+
+  /**
+   * Time budget of a search that runs until it reaches its depth.
+   */
+  public static final long NO_TIME_LIMIT = Long.MAX_VALUE;
+
+  /**
+   * Time budget per move used by default, in milliseconds.
+   */
+  public static final long DEFAULT_TIME_BUDGET_MS = 500;
+
+  /**
+   * Settings used when none are configured.
+   */
+  public static final SearchConfig DEFAULT =
+      new SearchConfig(MAX_DEPTH, DEFAULT_TIME_BUDGET_MS);
+
+  /**
+   * Validates the settings.
+   *
+   * @param depth        the deepest search in plies
+   * @param timeBudgetMs the time budget per move in milliseconds
+   * @param threads      the number of search threads
+   * @param selective    whether the search is selective
+   * @throws IllegalArgumentException if the depth, the time budget or the
+   *                                  thread count is out of range
+   */
+  public SearchConfig {
+    if (depth < 1 || depth > MAX_DEPTH) {
+      throw new IllegalArgumentException("Search depth out of range: "
+          + depth);
+    }
+    if (timeBudgetMs < 1) {
+      throw new IllegalArgumentException("Time budget must be positive: "
+          + timeBudgetMs);
+    }
+    if (threads < 1 || threads > MAX_THREADS) {
+      throw new IllegalArgumentException("Thread count out of range: "
+          + threads);
+    }
+  }
+
+  /**
+   * Creates settings for a selective search.
+   *
+   * @param depth        the deepest search in plies
+   * @param timeBudgetMs the time budget per move in milliseconds
+   * @param threads      the number of search threads
+   * @throws IllegalArgumentException if the depth, the time budget or the
+   *                                  thread count is out of range
+   */
+  public SearchConfig(final int depth, final long timeBudgetMs,
+                      final int threads) {
+    this(depth, timeBudgetMs, threads, true);
+  }
+
+  /**
+   * Creates settings for a selective search on a single thread.
+   *
+   * @param depth        the deepest search in plies
+   * @param timeBudgetMs the time budget per move in milliseconds
+   * @throws IllegalArgumentException if the depth or the time budget is out
+   *                                  of range
+   */
+  public SearchConfig(final int depth, final long timeBudgetMs) {
+    this(depth, timeBudgetMs, 1);
+  }
+
+  /**
+   * Creates settings for a selective search that always goes to the given
+   * depth.
+   *
+   * @param depth the number of plies to search
+   * @throws IllegalArgumentException if the depth is out of range
+   */
+  public SearchConfig(final int depth) {
+    this(depth, NO_TIME_LIMIT);
+  }
+}
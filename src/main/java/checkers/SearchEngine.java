@@ -0,0 +1,1005 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Chooses the bot's move with a negamax search and alpha-beta pruning.
+ *
+ * <p>The bot's move is found by iterative deepening: the candidate moves are
+ * searched one ply deep, then two, and so on up to
+ * {@link SearchConfig#depth()}, until the time budget of the
+ * {@link SearchConfig} runs out. A search cut short by the budget is thrown
+ * away and the best move of the last completed depth is played; the first
+ * depth always completes. Each depth starts with the best move of the
+ * previous one, which lets alpha-beta prune the other moves sooner. A bot
+ * turn can also stop the search at any depth with a
+ * {@link CancellationToken}.</p>
+ *
+ * <p>Every candidate move is made on the board and the resulting position is
+ * searched to the current depth. Negamax scores a position
+ * from the side to move, so the score of a child is negated when it is
+ * passed up. Alpha-beta pruning stops searching a position as soon as one
+ * reply proves it worse than an alternative already found, which keeps
+ * deeper searches affordable without changing the chosen move.</p>
+ *
+ * <p>Results are kept in a {@link TranspositionTable} keyed by
+ * {@link BoardState#getZobristKey()}. A position met again, through another
+ * move order, a later depth or a later move of the game, is not searched
+ * again if the stored result was searched at least as deep and its bound
+ * settles the current window. Win and loss scores are stored relative to
+ * the position, so they stay correct at any distance from the root.</p>
+ *
+ * <p>Alpha-beta prunes most when the best move is searched first, so the
+ * moves of every node are ordered by a {@link MoveOrderer}: the stored best
+ * move of the position, captures, killer moves and then history.</p>
+ *
+ * <p>Captures are mandatory, so a position in the middle of an exchange
+ * cannot be scored statically. At the search horizon a quiescence search
+ * plays out every capture until the side to move has none left, and only
+ * then scores the position with {@link PositionEvaluator}. As the side to
+ * move may not decline a capture, there is no stand-pat score. Every
+ * capture removes a piece, so this always ends. A side without a legal
+ * move has lost. Moves are
+ * generated with {@link MoveGenerator#generateMoves(int, BoardState,
+ * MoveList)} into one {@link MoveList} per ply and made and taken back on
+ * the one board, so the search does not allocate per node.</p>
+ *
+ * <p>With {@link SearchConfig#threads()} above one the search runs as Lazy
+ * SMP: helper threads, each with an engine and board copy of its own,
+ * deepen the same root alongside this engine, every other one a ply ahead.
+ * They share nothing but the lock-free transposition table, from which
+ * this engine picks up their results. Only this engine's result is
+ * returned; the helpers are stopped and joined before
+ * {@link #searchRoot} returns.</p>
+ *
+ * <p>A {@link SearchConfig#selective()} search gives up exactness for
+ * depth. Within three plies of the horizon, a null-window node whose
+ * static score beats beta by a man per remaining ply is cut off without a
+ * search (reverse futility pruning). Quiet moves searched fourth or later
+ * are searched to a reduced depth first, growing with the depth and the
+ * move index, and searched again to the full depth only if they beat alpha
+ * (late move reductions). Neither applies where a capture is forced: a
+ * node is pruned only if neither side can capture, and a move is reduced
+ * only if it neither allows nor threatens a capture, since in checkers
+ * every tactic is a capture.</p>
+ */
+public final class SearchEngine {
+  /**
+   * Bound above any score the search can return.
+   */
+  public static final int INFINITY = GameConstants.SCORE_WIN + 1;
+
+  /**
+   * Decision returned when there is no move to choose from.
+   */
+  private static final BotDecision NO_DECISION =
+      new BotDecision(-1, -1, -1, -1, -1);
+
+  /**
+   * The clock is read once every this many nodes plus one.
+   */
+  private static final int TIME_CHECK_MASK = 1023;
+
+  /**
+   * Size of the table of an engine created without one, in megabytes.
+   */
+  private static final int OWN_TABLE_SIZE_MB = 1;
+
+  /**
+   * Scores beyond this value are wins or losses at a known distance.
+   */
+  static final int WIN_THRESHOLD =
+      GameConstants.SCORE_WIN - SearchConfig.MAX_DEPTH;
+
+  /**
+   * Bound on the plies of a quiescence search: every capture removes a
+   * piece and there are fewer pieces than squares.
+   */
+  private static final int MAX_QUIESCENCE_PLIES = SquareIndex.SQUARE_COUNT;
+
+  /**
+   * Half width of the first aspiration window around the previous score.
+   */
+  private static final int ASPIRATION_WINDOW = GameConstants.SCORE_MAN / 2;
+
+  /**
+   * First depth searched with an aspiration window.
+   */
+  private static final int ASPIRATION_MIN_DEPTH = 3;
+
+  /**
+   * Deepest remaining depth at which a selective search prunes a node whose
+   * static score is far above beta.
+   */
+  private static final int FUTILITY_MAX_DEPTH = 3;
+
+  /**
+   * Margin per remaining ply by which the static score must exceed beta for
+   * the node to be pruned.
+   */
+  private static final int FUTILITY_MARGIN = GameConstants.SCORE_MAN;
+
+  /**
+   * Shallowest remaining depth at which a selective search reduces late
+   * moves.
+   */
+  private static final int REDUCTION_MIN_DEPTH = 3;
+
+  /**
+   * Index, in search order, of the first move a selective search reduces.
+   */
+  private static final int REDUCTION_FIRST_MOVE = 3;
+
+  /**
+   * Largest move index with a reduction of its own; later moves are reduced
+   * like this one.
+   */
+  private static final int REDUCTION_MAX_MOVE = 63;
+
+  /**
+   * Divisor of the logarithmic reduction; smaller values reduce more.
+   */
+  private static final double REDUCTION_DIVISOR = 1.5;
+
+  /**
+   * Plies by which a late quiet move is reduced, by remaining depth and
+   * index of the move in search order: the later the move and the deeper
+   * the search, the larger the reduction.
+   */
+  private static final int[][] REDUCTIONS = reductions();
+
+  /**
+   * Settings of this search.
+   */
+  private final SearchConfig searchConfig;
+
+  /**
+   * One reusable move list per ply.
+   */
+  private final MoveList[] moveLists;
+
+  /**
+   * Results of earlier searches.
+   */
+  private final TranspositionTable table;
+
+  /**
+   * Orders the moves of every node.
+   */
+  private final MoveOrderer orderer;
+
+  /**
+   * Source of the current time in nanoseconds.
+   */
+  private final LongSupplier clock;
+
+  /**
+   * Time the current search started, in clock nanoseconds.
+   */
+  private long startTime;
+
+  /**
+   * Time the current search may take, in nanoseconds.
+   */
+  private long budget = Long.MAX_VALUE;
+
+  /**
+   * Whether the current depth was cut short by the time budget or the stop
+   * signal.
+   */
+  private boolean stopped;
+
+  /**
+   * Signal that stops this engine at its next time check: the
+   * {@link CancellationToken} of a bot turn, or the signal the main engine
+   * of a multi-threaded search sets to stop its helpers.
+   */
+  private final AtomicBoolean stopSignal;
+
+  /**
+   * Further stop condition of the current {@link #searchWindow} call, polled
+   * with the stop signal.
+   */
+  private BooleanSupplier windowCancelled = () -> false;
+
+  /**
+   * Deepest search completed by the last call to {@link #searchRoot}.
+   */
+  private int completedDepth;
+
+  /**
+   * Number of positions visited since the engine was created, including
+   * those of its helper threads.
+   */
+  private long nodes;
+
+  /**
+   * Node count when the current search of the root started.
+   */
+  private long searchStartNodes;
+
+  /**
+   * Positions visited by the quiescence search in the current search of the
+   * root.
+   */
+  private long quiescenceNodes;
+
+  /**
+   * Deepest ply reached in the current search of the root.
+   */
+  private int selectiveDepth;
+
+  /**
+   * Transposition table lookups in the current search of the root.
+   */
+  private long ttProbes;
+
+  /**
+   * Lookups that found the position.
+   */
+  private long ttHits;
+
+  /**
+   * Lookups whose stored score ended the search of the position.
+   */
+  private long ttCutoffs;
+
+  /**
+   * Time from the start of the search to the end of each completed
+   * iteration, indexed by depth minus one.
+   */
+  private final long[] iterationEnds;
+
+  /**
+   * Nodes visited from the start of the search to the end of each completed
+   * iteration, indexed by depth minus one.
+   */
+  private final long[] iterationNodes;
+
+  /**
+   * Statistics of the last search of the root.
+   */
+  private SearchStats stats = SearchStats.EMPTY;
+
+  /**
+   * Creates an engine searching with the given settings and a small table
+   * of its own.
+   *
+   * @param searchConfigParam the search settings
+   */
+  public SearchEngine(final SearchConfig searchConfigParam) {
+    this(searchConfigParam, new TranspositionTable(OWN_TABLE_SIZE_MB));
+  }
+
+  /**
+   * Creates an engine searching with the given settings and table.
+   *
+   * @param searchConfigParam the search settings
+   * @param tableParam        the table to keep results in; it may be shared
+   *                          with other engines
+   */
+  public SearchEngine(final SearchConfig searchConfigParam,
+                      final TranspositionTable tableParam) {
+    this(searchConfigParam, tableParam, System::nanoTime);
+  }
+
+  /**
+   * Creates an engine searching with the given settings, table and clock.
+   *
+   * @param searchConfigParam the search settings
+   * @param tableParam        the table to keep results in
+   * @param clockParam        the source of the current time in nanoseconds
+   */
+  SearchEngine(final SearchConfig searchConfigParam,
+               final TranspositionTable tableParam,
+               final LongSupplier clockParam) {
+    this(searchConfigParam, tableParam, clockParam, new AtomicBoolean());
+  }
+
+  /**
+   * Creates an engine that also stops when the given signal is set.
+   *
+   * @param searchConfigParam the search settings
+   * @param tableParam        the table to keep results in
+   * @param clockParam        the source of the current time in nanoseconds
+   * @param stopSignalParam   the signal stopping the search
+   */
+  SearchEngine(final SearchConfig searchConfigParam,
+               final TranspositionTable tableParam,
+               final LongSupplier clockParam,
+               final AtomicBoolean stopSignalParam) {
+    this.searchConfig = searchConfigParam;
+    this.table = tableParam;
+    this.clock = clockParam;
+    this.stopSignal = stopSignalParam;
+    int maxPly = searchConfigParam.depth() + MAX_QUIESCENCE_PLIES;
+    this.orderer = new MoveOrderer(maxPly);
+    this.moveLists = new MoveList[maxPly + 1];
+    for (int i = 0; i < moveLists.length; i++) {
+      moveLists[i] = new MoveList();
+    }
+    this.iterationEnds = new long[searchConfigParam.depth()];
+    this.iterationNodes = new long[searchConfigParam.depth()];
+  }
+
+  /**
+   * Chooses the best of the given moves for the bot, searching with the
+   * settings of the player configuration.
+   *
+   * @param possibleMoves     the legal moves of the bot
+   * @param boardState        the current state of the game board; it is
+   *                          restored before the method returns
+   * @param playerConfigParam the configuration providing the bot's color,
+   *                          search settings and transposition table
+   * @return the best move, or a decision with all fields set to -1 if there
+   *     is no move
+   */
+  public static BotDecision chooseBestMove(
+      final ArrayList<BotDecision> possibleMoves,
+      final BoardState boardState,
+      final PlayerConfig playerConfigParam) {
+    return chooseBestMove(possibleMoves, boardState, playerConfigParam,
+        new CancellationToken());
+  }
+
+  /**
+   * Chooses the best of the given moves for the bot, searching with the
+   * settings of the player configuration until the search completes or the
+   * token is cancelled. The statistics of the search are left in the player
+   * configuration.
+   *
+   * <p>The search runs on a copy of the board, so the event thread may read
+   * the game board meanwhile without seeing positions of the search
+   * tree.</p>
+   *
+   * @param possibleMoves     the legal moves of the bot
+   * @param boardState        the current state of the game board; it is
+   *                          copied and not changed
+   * @param playerConfigParam the configuration providing the bot's color,
+   *                          search settings and transposition table
+   * @param cancellation      the token stopping the search; once it is
+   *                          cancelled the returned move is meaningless
+   * @return the best move, or a decision with all fields set to -1 if there
+   *     is no move
+   */
+  public static BotDecision chooseBestMove(
+      final ArrayList<BotDecision> possibleMoves,
+      final BoardState boardState,
+      final PlayerConfig playerConfigParam,
+      final CancellationToken cancellation) {
+    TranspositionTable sharedTable =
+        playerConfigParam.getTranspositionTable();
+    SearchEngine engine = new SearchEngine(
+        playerConfigParam.getSearchConfig(), sharedTable == null
+        ? new TranspositionTable(OWN_TABLE_SIZE_MB) : sharedTable,
+        System::nanoTime, cancellation.signal());
+    BotDecision decision = engine.searchRoot(possibleMoves,
+        boardState.copy(), playerConfigParam.getBotColor());
+    playerConfigParam.setSearchStats(engine.getStats());
+    return decision;
+  }
+
+  /**
+   * Searches the given moves deeper and deeper within the time budget and
+   * returns the best one of the last completed depth. Of equally good moves
+   * the one searched first is returned. A single move is returned without a
+   * search.
+   *
+   * @param possibleMoves the legal moves of the side to search for
+   * @param boardState    the current state of the game board; it is
+   *                      restored before the method returns
+   * @param color         {@link GameConstants#RED} or
+   *                      {@link GameConstants#BLACK}
+   * @return the best move, or a decision with all fields set to -1 if there
+   *     is no move
+   */
+  public BotDecision searchRoot(final ArrayList<BotDecision> possibleMoves,
+                                final BoardState boardState,
+                                final int color) {
+    completedDepth = 0;
+    if (possibleMoves.size() <= 1) {
+      stats = SearchStats.EMPTY;
+      return possibleMoves.isEmpty() ? NO_DECISION : possibleMoves.get(0);
+    }
+    table.newSearch();
+    ArrayList<BotDecision> rootMoves = new ArrayList<>(possibleMoves);
+    searchMoves(rootMoves, boardState, color, searchConfig.depth(),
+        searchConfig.timeBudgetMs());
+    return rootMoves.getFirst();
+  }
+
+  /**
+   * Finds the best moves of a position with their scores and principal
+   * variations, best first.
+   *
+   * <p>The first line is found like the move of {@link #searchRoot}, within
+   * the time budget. Every further line searches the root again without
+   * the moves already chosen, to the depth the first line completed, so
+   * the scores of all lines compare. The re-searches go through the same
+   * table and mostly hit the results stored by the searches before them,
+   * so each costs a fraction of the first.</p>
+   *
+   * @param possibleMoves the legal moves of the side to search for
+   * @param boardState    the current state of the game board; it is
+   *                      restored before the method returns
+   * @param color         {@link GameConstants#RED} or
+   *                      {@link GameConstants#BLACK}
+   * @param lineCount     the number of lines wanted
+   * @return at most {@code lineCount} lines, fewer if there are fewer moves
+   *     or the search was stopped
+   */
+  public List<AnalysisLine> analyze(
+      final ArrayList<BotDecision> possibleMoves,
+      final BoardState boardState, final int color, final int lineCount) {
+    completedDepth = 0;
+    table.newSearch();
+    List<AnalysisLine> lines = new ArrayList<>();
+    ArrayList<BotDecision> rootMoves = new ArrayList<>(possibleMoves);
+    int depth = searchConfig.depth();
+    long budgetMs = searchConfig.timeBudgetMs();
+    while (lines.size() < lineCount && !rootMoves.isEmpty()) {
+      int score = searchMoves(rootMoves, boardState, color, depth,
+          budgetMs);
+      if (completedDepth == 0 || stopped && !lines.isEmpty()) {
+        break;
+      }
+      BotDecision move = rootMoves.removeFirst();
+      lines.add(new AnalysisLine(move, score,
+          principalVariation(move, boardState, color, completedDepth)));
+      if (lines.size() == 1) {
+        depth = completedDepth;
+        budgetMs = SearchConfig.NO_TIME_LIMIT;
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Scores a position from the point of view of its side to move.
+   *
+   * @param boardState the position; it is restored before the method
+   *                   returns
+   * @param depth      the number of plies to search, at most the configured
+   *                   depth
+   * @return the score of the position
+   */
+  public int search(final BoardState boardState, final int depth) {
+    stopped = false;
+    return negamax(boardState, depth, -INFINITY, INFINITY, 0);
+  }
+
+  /**
+   * Searches a position inside a larger tree, in the given window. Used by
+   * searches that split the tree among threads themselves.
+   *
+   * @param boardState the position; it is restored before the method
+   *                   returns
+   * @param depth      the number of plies to search
+   * @param alpha      the lower bound of the window
+   * @param beta       the upper bound of the window
+   * @param ply        the distance of the position from the root
+   * @param cancelled  a condition stopping this search like the stop
+   *                   signal, polled at the same interval
+   * @return the score of the position, meaningless if the stop signal was
+   *     set or the condition became true
+   */
+  int searchWindow(final BoardState boardState, final int depth,
+                   final int alpha, final int beta, final int ply,
+                   final BooleanSupplier cancelled) {
+    stopped = false;
+    windowCancelled = cancelled;
+    try {
+      return negamax(boardState, depth, alpha, beta, ply);
+    } finally {
+      windowCancelled = () -> false;
+    }
+  }
+
+  /**
+   * Returns the number of positions visited since the engine was created.
+   *
+   * @return the node count
+   */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns the statistics of the last search of the root by
+   * {@link #searchRoot}, or of the last line found by {@link #analyze},
+   * including the work of the helper threads.
+   *
+   * @return the statistics; {@link SearchStats#EMPTY} if the move was
+   *     returned without a search
+   */
+  public SearchStats getStats() {
+    return stats;
+  }
+
+  /**
+   * Returns the share of beta cutoffs caused by the first move searched at
+   * a node, since the engine was created. A high rate means the moves are
+   * well ordered.
+   *
+   * @return a value between 0 and 1; 0 if there was no cutoff
+   */
+  public double getFirstMoveCutoffRate() {
+    return orderer.firstMoveCutoffRate();
+  }
+
+  /**
+   * Returns the deepest search completed by the last call to
+   * {@link #searchRoot}; 0 if that call returned without a search.
+   *
+   * @return the completed depth in plies
+   */
+  public int getCompletedDepth() {
+    return completedDepth;
+  }
+
+  /**
+   * Deepens the root moves for the given side up to the given depth within
+   * the given budget, together with the helper threads of a multi-threaded
+   * search. The best move ends up first in the list.
+   *
+   * @return the score of the best move at the last completed depth
+   */
+  private int searchMoves(final ArrayList<BotDecision> rootMoves,
+                          final BoardState boardState, final int color,
+                          final int lastDepth, final long budgetMs) {
+    int previousSide = boardState.getSideToMove();
+    boardState.setSideToMove(color);
+    completedDepth = 0;
+    startTime = clock.getAsLong();
+    budget = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+    stopped = false;
+    searchStartNodes = nodes;
+    quiescenceNodes = 0;
+    selectiveDepth = 0;
+    ttProbes = 0;
+    ttHits = 0;
+    ttCutoffs = 0;
+    AtomicBoolean helperStop = new AtomicBoolean();
+    SearchEngine[] helpers = new SearchEngine[searchConfig.threads() - 1];
+    Thread[] helperThreads =
+        startHelpers(helpers, helperStop, rootMoves, boardState, lastDepth);
+    int score;
+    try {
+      score = deepen(rootMoves, boardState, 1, lastDepth);
+    } finally {
+      helperStop.set(true);
+      for (int i = 0; i < helperThreads.length; i++) {
+        joinHelper(helperThreads[i]);
+        addCounts(helpers[i]);
+      }
+      budget = Long.MAX_VALUE;
+      boardState.setSideToMove(previousSide);
+    }
+    stats = collectStats();
+    return score;
+  }
+
+  /**
+   * Adds the counts of a helper that has finished to those of this engine.
+   */
+  private void addCounts(final SearchEngine helper) {
+    nodes += helper.nodes;
+    quiescenceNodes += helper.quiescenceNodes;
+    selectiveDepth = Math.max(selectiveDepth, helper.selectiveDepth);
+    ttProbes += helper.ttProbes;
+    ttHits += helper.ttHits;
+    ttCutoffs += helper.ttCutoffs;
+  }
+
+  private SearchStats collectStats() {
+    List<Long> ends = new ArrayList<>(completedDepth);
+    List<Long> iterations = new ArrayList<>(completedDepth);
+    long previousNodes = 0;
+    for (int i = 0; i < completedDepth; i++) {
+      ends.add(iterationEnds[i]);
+      iterations.add(iterationNodes[i] - previousNodes);
+      previousNodes = iterationNodes[i];
+    }
+    return new SearchStats(nodes - searchStartNodes, quiescenceNodes,
+        clock.getAsLong() - startTime, completedDepth,
+        Math.max(completedDepth, selectiveDepth), ttProbes, ttHits,
+        ttCutoffs, ends, iterations);
+  }
+
+  /**
+   * Searches the root moves one depth after another, from the first depth
+   * given, until the last one is completed, a win or loss is found or the
+   * search is stopped. The best move ends up first in the list.
+   *
+   * @return the score of the best move at the last completed depth
+   */
+  private int deepen(final ArrayList<BotDecision> rootMoves,
+                     final BoardState boardState, final int firstDepth,
+                     final int lastDepth) {
+    int previousScore = 0;
+    for (int depth = firstDepth; depth <= lastDepth; depth++) {
+      int score = aspirationSearch(rootMoves, boardState, depth,
+          previousScore);
+      if (stopped) {
+        break;
+      }
+      completedDepth = depth;
+      iterationEnds[depth - 1] = clock.getAsLong() - startTime;
+      iterationNodes[depth - 1] = nodes - searchStartNodes;
+      previousScore = score;
+      if (Math.abs(score) > WIN_THRESHOLD) {
+        break;
+      }
+    }
+    return previousScore;
+  }
+
+  /**
+   * Follows the best moves stored in the table from the position after the
+   * given move, for at most the given number of moves in all. The line ends
+   * early at a position without a stored move or one seen before.
+   */
+  private List<BotDecision> principalVariation(final BotDecision first,
+                                               final BoardState boardState,
+                                               final int color,
+                                               final int length) {
+    BoardState position = boardState.copy();
+    position.setSideToMove(color);
+    position.makeMove(first);
+    List<BotDecision> line = new ArrayList<>();
+    line.add(first);
+    Set<Long> seen = new HashSet<>();
+    MoveList moves = new MoveList();
+    while (line.size() < length && seen.add(position.getZobristKey())) {
+      long entry = table.probe(position.getZobristKey());
+      if (entry == TranspositionTable.MISS) {
+        break;
+      }
+      MoveGenerator.generateMoves(position.getSideToMove(), position, moves);
+      int index = indexOf(moves, TranspositionTable.move(entry));
+      if (index < 0) {
+        break;
+      }
+      line.add(MoveEncoding.toDecision(moves, index));
+      int move = moves.get(index);
+      position.makeMove(MoveEncoding.from(move), MoveEncoding.to(move),
+          moves.capturedMask(index));
+    }
+    return List.copyOf(line);
+  }
+
+  private static int indexOf(final MoveList moves, final int move) {
+    for (int i = 0; i < moves.size(); i++) {
+      if (moves.get(i) == move) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Starts one helper thread per search thread beyond the first. Every
+   * other helper starts a ply deeper, so the threads spread over two depths
+   * instead of all searching the same tree.
+   */
+  private Thread[] startHelpers(final SearchEngine[] helpers,
+                                final AtomicBoolean helperStop,
+                                final ArrayList<BotDecision> possibleMoves,
+                                final BoardState boardState,
+                                final int lastDepth) {
+    Thread[] threads = new Thread[helpers.length];
+    for (int i = 0; i < helpers.length; i++) {
+      SearchEngine helper =
+          new SearchEngine(searchConfig, table, clock, helperStop);
+      ArrayList<BotDecision> rootMoves = new ArrayList<>(possibleMoves);
+      BoardState board = boardState.copy();
+      int firstDepth = Math.min(lastDepth, 1 + (i + 1) % 2);
+      helpers[i] = helper;
+      threads[i] = new Thread(() -> helper.deepen(rootMoves, board,
+          firstDepth, lastDepth), "search-helper-" + (i + 1));
+      threads[i].setDaemon(true);
+      threads[i].start();
+    }
+    return threads;
+  }
+
+  private static void joinHelper(final Thread helper) {
+    try {
+      helper.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Searches the root moves to the given depth in a window around the score
+   * of the previous depth, widening the window on the failing side until
+   * the score falls inside it.
+   *
+   * @return the score of the best move, which is now first in the list
+   */
+  private int aspirationSearch(final ArrayList<BotDecision> rootMoves,
+                               final BoardState boardState, final int depth,
+                               final int previousScore) {
+    if (depth < ASPIRATION_MIN_DEPTH
+        || Math.abs(previousScore) > WIN_THRESHOLD) {
+      return searchRootMoves(rootMoves, boardState, depth, -INFINITY,
+          INFINITY);
+    }
+    int delta = ASPIRATION_WINDOW;
+    int alpha = previousScore - delta;
+    int beta = previousScore + delta;
+    while (true) {
+      int score = searchRootMoves(rootMoves, boardState, depth, alpha, beta);
+      if (stopped) {
+        return 0;
+      }
+      if (score <= alpha) {
+        alpha = Math.max(-INFINITY, alpha - delta);
+      } else if (score >= beta) {
+        beta = Math.min(INFINITY, beta + delta);
+      } else {
+        return score;
+      }
+      delta *= 2;
+    }
+  }
+
+  /**
+   * Searches the root moves in the given window. The first move gets the
+   * full window and the others a null window, re-searched only if they beat
+   * alpha. Unless the search fails low, the best move is moved to the front
+   * of the list.
+   *
+   * @return the score of the best move, or a bound if it falls outside the
+   *     window
+   */
+  private int searchRootMoves(final ArrayList<BotDecision> rootMoves,
+                              final BoardState boardState, final int depth,
+                              final int alphaParam, final int beta) {
+    int alpha = alphaParam;
+    int best = -INFINITY;
+    BotDecision bestMove = null;
+    for (int i = 0; i < rootMoves.size(); i++) {
+      BotDecision move = rootMoves.get(i);
+      long undo = boardState.makeMove(move);
+      int score;
+      if (i == 0) {
+        score = -negamax(boardState, depth - 1, -beta, -alpha, 1);
+      } else {
+        score = -negamax(boardState, depth - 1, -alpha - 1, -alpha, 1);
+        if (score > alpha && score < beta) {
+          score = -negamax(boardState, depth - 1, -beta, -alpha, 1);
+        }
+      }
+      boardState.unmakeMove(move, undo);
+      if (stopped) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = move;
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    if (best > alphaParam) {
+      rootMoves.remove(bestMove);
+      rootMoves.addFirst(bestMove);
+    }
+    return best;
+  }
+
+  private int negamax(final BoardState boardState, final int depth,
+                      final int alphaParam, final int beta, final int ply) {
+    if (!enterNode()) {
+      return 0;
+    }
+    if (depth <= 0) {
+      return quiesce(boardState, alphaParam, beta, ply);
+    }
+    long key = boardState.getZobristKey();
+    long entry = table.probe(key);
+    ttProbes++;
+    if (entry != TranspositionTable.MISS) {
+      ttHits++;
+      int score = fromTable(TranspositionTable.score(entry), ply);
+      int bound = TranspositionTable.bound(entry);
+      if (TranspositionTable.depth(entry) >= depth
+          && (bound == TranspositionTable.EXACT
+          || bound == TranspositionTable.LOWER_BOUND && score >= beta
+          || bound == TranspositionTable.UPPER_BOUND
+          && score <= alphaParam)) {
+        ttCutoffs++;
+        return score;
+      }
+    }
+    MoveList moves = moveLists[ply];
+    MoveGenerator.generateMoves(boardState.getSideToMove(), boardState,
+        moves);
+    if (moves.isEmpty()) {
+      return -GameConstants.SCORE_WIN + ply;
+    }
+    boolean selective = searchConfig.selective()
+        && !MoveEncoding.isCapture(moves.get(0));
+    if (selective && beta - alphaParam == 1 && depth <= FUTILITY_MAX_DEPTH
+        && Math.abs(beta) < WIN_THRESHOLD && isQuiet(boardState)) {
+      int staticScore = PositionEvaluator.evaluate(boardState);
+      if (staticScore - FUTILITY_MARGIN * depth >= beta) {
+        return staticScore;
+      }
+    }
+
+    orderer.scoreMoves(moves, boardState, entry == TranspositionTable.MISS
+        ? MoveEncoding.NO_MOVE : TranspositionTable.move(entry), ply);
+
+    int alpha = alphaParam;
+    int best = -INFINITY;
+    int bestMove = MoveEncoding.NO_MOVE;
+    for (int i = 0; i < moves.size(); i++) {
+      orderer.selectNext(moves, i, ply);
+      int move = moves.get(i);
+      long undo = boardState.makeMove(MoveEncoding.from(move),
+          MoveEncoding.to(move), moves.capturedMask(i));
+      int score;
+      if (i == 0) {
+        score = -negamax(boardState, depth - 1, -beta, -alpha, ply + 1);
+      } else {
+        int reduction = selective && i >= REDUCTION_FIRST_MOVE
+            && depth >= REDUCTION_MIN_DEPTH && !MoveEncoding.isPromotion(move)
+            && isQuiet(boardState)
+            ? REDUCTIONS[depth][Math.min(i, REDUCTION_MAX_MOVE)] : 0;
+        score = -negamax(boardState, depth - 1 - reduction, -alpha - 1,
+            -alpha, ply + 1);
+        if (reduction > 0 && score > alpha) {
+          score = -negamax(boardState, depth - 1, -alpha - 1, -alpha,
+              ply + 1);
+        }
+        if (score > alpha && score < beta) {
+          score = -negamax(boardState, depth - 1, -beta, -alpha, ply + 1);
+        }
+      }
+      boardState.unmakeMove(MoveEncoding.from(move), MoveEncoding.to(move),
+          undo);
+      if (stopped) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = move;
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            orderer.recordCutoff(move, i, depth, ply);
+            break;
+          }
+        }
+      }
+    }
+    int bound = best <= alphaParam ? TranspositionTable.UPPER_BOUND
+        : best >= beta ? TranspositionTable.LOWER_BOUND
+        : TranspositionTable.EXACT;
+    table.store(key, depth, bound, toTable(best, ply), bestMove);
+    return best;
+  }
+
+  private int quiesce(final BoardState boardState, final int alphaParam,
+                      final int beta, final int ply) {
+    quiescenceNodes++;
+    selectiveDepth = Math.max(selectiveDepth, ply);
+    int side = boardState.getSideToMove();
+    if (boardState.getCapturers(side) == 0) {
+      return MoveGenerator.hasMove(side, boardState)
+          ? PositionEvaluator.evaluate(boardState)
+          : -GameConstants.SCORE_WIN + ply;
+    }
+    MoveList moves = moveLists[ply];
+    MoveGenerator.generateMoves(side, boardState, moves);
+    orderer.scoreMoves(moves, boardState, MoveEncoding.NO_MOVE, ply);
+
+    int alpha = alphaParam;
+    int best = -INFINITY;
+    for (int i = 0; i < moves.size(); i++) {
+      orderer.selectNext(moves, i, ply);
+      int move = moves.get(i);
+      long undo = boardState.makeMove(MoveEncoding.from(move),
+          MoveEncoding.to(move), moves.capturedMask(i));
+      int score = enterNode()
+          ? -quiesce(boardState, -beta, -alpha, ply + 1) : 0;
+      boardState.unmakeMove(MoveEncoding.from(move), MoveEncoding.to(move),
+          undo);
+      if (stopped) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Fills the reduction table with {@code ln(depth) * ln(index)} divided by
+   * {@link #REDUCTION_DIVISOR} plies, at least one and leaving at least one
+   * ply to search.
+   */
+  private static int[][] reductions() {
+    int[][] table =
+        new int[SearchConfig.MAX_DEPTH + 1][REDUCTION_MAX_MOVE + 1];
+    for (int depth = REDUCTION_MIN_DEPTH; depth <= SearchConfig.MAX_DEPTH;
+         depth++) {
+      for (int i = 1; i <= REDUCTION_MAX_MOVE; i++) {
+        int reduction =
+            (int) (Math.log(depth) * Math.log(i) / REDUCTION_DIVISOR);
+        table[depth][i] = Math.max(1, Math.min(reduction, depth - 2));
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Returns whether neither side has a piece that can capture.
+   */
+  private static boolean isQuiet(final BoardState boardState) {
+    return boardState.getCapturers(GameConstants.RED) == 0
+        && boardState.getCapturers(GameConstants.BLACK) == 0;
+  }
+
+  /**
+   * Counts a node and checks the stop signal and the time budget.
+   *
+   * @return {@code false} if the search has been stopped
+   */
+  private boolean enterNode() {
+    if (stopped) {
+      return false;
+    }
+    nodes++;
+    if ((nodes & TIME_CHECK_MASK) == 0 && (stopSignal.get()
+        || windowCancelled.getAsBoolean()
+        || completedDepth > 0 && clock.getAsLong() - startTime >= budget)) {
+      stopped = true;
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Converts a score relative to the root into one relative to the node,
+   * for storing in the transposition table.
+   */
+  static int toTable(final int score, final int ply) {
+    if (score > WIN_THRESHOLD) {
+      return score + ply;
+    }
+    return score < -WIN_THRESHOLD ? score - ply : score;
+  }
+
+  /**
+   * Converts a score read from the transposition table back into one
+   * relative to the root.
+   */
+  static int fromTable(final int score, final int ply) {
+    if (score > WIN_THRESHOLD) {
+      return score - ply;
+    }
+    return score < -WIN_THRESHOLD ? score + ply : score;
+  }
+}
@@ -0,0 +1,126 @@
+package checkers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of one move search by {@link SearchEngine}.
+ *
+ * <p>Every search thread counts into plain fields of its own; the counts of
+ * the helper threads are added to those of the main thread when the search
+ * ends, so keeping statistics costs a few increments per node. The
+ * per-iteration figures are those of the main thread.</p>
+ *
+ * @param nodes           the positions visited, including those of the
+ *                        quiescence search
+ * @param quiescenceNodes the positions visited by the quiescence search
+ * @param elapsedNanos    the time the search took, in nanoseconds
+ * @param depth           the deepest iteration completed
+ * @param selectiveDepth  the deepest ply reached, quiescence included
+ * @param ttProbes        the transposition table lookups
+ * @param ttHits          the lookups that found the position
+ * @param ttCutoffs       the lookups whose stored score ended the search of
+ *                        the position
+ * @param iterationNanos  the time from the start of the search to the end
+ *                        of each completed iteration, shallowest first
+ * @param iterationNodes  the nodes the main thread visited in each completed
+ *                        iteration, shallowest first
+ */
+public record SearchStats(long nodes, long quiescenceNodes,
+                          long elapsedNanos, int depth, int selectiveDepth,
+                          long ttProbes, long ttHits, long ttCutoffs,
+                          List<Long> iterationNanos,
+                          List<Long> iterationNodes) {
+  /**
+   * Statistics of a move chosen without a search.
+   */
+  public static final SearchStats EMPTY =
+      new SearchStats(0, 0, 0, 0, 0, 0, 0, 0, List.of(), List.of());
+
+  /**
+   * Copies the iteration lists, so the statistics cannot change.
+   *
+   * @param nodes           the positions visited
+   * @param quiescenceNodes the positions visited by the quiescence search
+   * @param elapsedNanos    the time the search took, in nanoseconds
+   * @param depth           the deepest iteration completed
+   * @param selectiveDepth  the deepest ply reached
+   * @param ttProbes        the transposition table lookups
+   * @param ttHits          the lookups that found the position
+   * @param ttCutoffs       the lookups that ended the search of the position
+   * @param iterationNanos  the end time of each completed iteration
+   * @param iterationNodes  the nodes of each completed iteration
+   */
+  public SearchStats {
+    iterationNanos = List.copyOf(iterationNanos);
+    iterationNodes = List.copyOf(iterationNodes);
+  }
+
+  /**
+   * Returns the search speed.
+   *
+   * @return the nodes visited per second; 0 if no time was measured
+   */
+  public long nodesPerSecond() {
+    return elapsedNanos == 0 ? 0
+        : nodes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+  }
+
+  /**
+   * Returns the share of transposition table lookups that found the
+   * position.
+   *
+   * @return a value between 0 and 1; 0 if there was no lookup
+   */
+  public double ttHitRate() {
+    return ttProbes == 0 ? 0 : (double) ttHits / ttProbes;
+  }
+
+  /**
+   * Returns the share of transposition table lookups whose stored score
+   * ended the search of the position.
+   *
+   * @return a value between 0 and 1; 0 if there was no lookup
+   */
+  public double ttCutoffRate() {
+    return ttProbes == 0 ? 0 : (double) ttCutoffs / ttProbes;
+  }
+
+  /**
+   * Returns how many times more nodes the last completed iteration needed
+   * than the one before it. With good move ordering it approaches the
+   * square root of the number of legal moves.
+   *
+   * @return the effective branching factor; 0 if fewer than two iterations
+   *     completed
+   */
+  public double effectiveBranchingFactor() {
+    int last = iterationNodes.size() - 1;
+    if (last < 1 || iterationNodes.get(last - 1) == 0) {
+      return 0;
+    }
+    return (double) iterationNodes.get(last) / iterationNodes.get(last - 1);
+  }
+
+  /**
+   * Writes the statistics on one line, for a log.
+   *
+   * @return the statistics, e.g. {@code depth 9/15 nodes 412,345
+   *     (q 38.2%) 1,250,000 nps tt hits 41.0% cutoffs 17.3% ebf 2.81
+   *     time 330 ms iterations 0 1 3 8 21 52 110 190 330 ms}
+   */
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder(String.format(
+        "depth %d/%d nodes %,d (q %.1f%%) %,d nps tt hits %.1f%% cutoffs"
+            + " %.1f%% ebf %.2f time %d ms iterations",
+        depth, selectiveDepth, nodes,
+        nodes == 0 ? 0 : 100.0 * quiescenceNodes / nodes, nodesPerSecond(),
+        100 * ttHitRate(), 100 * ttCutoffRate(), effectiveBranchingFactor(),
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+    for (long nanos : iterationNanos) {
+      text.append(' ').append(TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+    return text.append(" ms").toString();
+  }
+}
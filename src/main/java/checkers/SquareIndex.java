@@ -0,0 +1,91 @@
+package checkers;
+
+/**
+ * Utility class for converting between board coordinates and playable
+ * square indices.
+ *
+ * <p>Only the dark squares ({@code (row + col) % 2 != 0}) of the board can
+ * ever hold a piece. They are numbered from 0 to 31 in reading order: four
+ * squares per row, starting at the top-left dark square. A square index
+ * doubles as a bit position in the 32-bit masks used by {@link BoardState}.
+ * </p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class SquareIndex {
+  /**
+   * Number of playable (dark) squares on the board.
+   */
+  public static final int SQUARE_COUNT = 32;
+  /**
+   * Number of playable squares in a single board row.
+   */
+  public static final int SQUARES_PER_ROW = GameConstants.BOARD_SIZE / 2;
+
+  private SquareIndex() {
+  }
+
+  /**
+   * Checks whether the given coordinates refer to a playable dark square.
+   *
+   * @param row the row index
+   * @param col the column index
+   * @return {@code true} if the square can hold a piece, {@code false}
+   *     otherwise
+   */
+  public static boolean isDarkSquare(final int row, final int col) {
+    return ((row + col) & 1) != 0;
+  }
+
+  /**
+   * Returns the playable square index of a dark square.
+   *
+   * @param row the row index of a dark square
+   * @param col the column index of a dark square
+   * @return the square index in the range {@code 0..31}
+   */
+  public static int toSquare(final int row, final int col) {
+    return row * SQUARES_PER_ROW + (col >> 1);
+  }
+
+  /**
+   * Returns the row of the given playable square.
+   *
+   * @param square the square index
+   * @return the row index
+   */
+  public static int rowOf(final int square) {
+    return square / SQUARES_PER_ROW;
+  }
+
+  /**
+   * Returns the column of the given playable square.
+   *
+   * @param square the square index
+   * @return the column index
+   */
+  public static int colOf(final int square) {
+    int row = rowOf(square);
+    return ((square % SQUARES_PER_ROW) << 1) + 1 - (row & 1);
+  }
+
+  /**
+   * Returns the single-bit mask of the given playable square.
+   *
+   * @param square the square index
+   * @return a mask with only the bit of {@code square} set
+   */
+  public static int bit(final int square) {
+    return 1 << square;
+  }
+
+  /**
+   * Returns the mask of all playable squares in the given row.
+   *
+   * @param row the row index
+   * @return a mask with the four squares of {@code row} set
+   */
+  public static int rowMask(final int row) {
+    return ((1 << SQUARES_PER_ROW) - 1) << (row * SQUARES_PER_ROW);
+  }
+}
@@ -0,0 +1,177 @@
+package checkers;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed lookup tables over the 32 playable squares.
+ *
+ * <p>Directions are numbered in the order of {@link GameConstants#DIRECTIONS}:
+ * {@link #UP_LEFT}, {@link #UP_RIGHT}, {@link #DOWN_LEFT} and
+ * {@link #DOWN_RIGHT}. For every direction and square the tables hold the
+ * diagonal neighbour, the square a jump lands on and the squares a king can
+ * see along the ray, so move generation can walk the board without bounds
+ * checks or allocations. A missing square is marked with {@link #NONE}.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class SquareTables {
+  /**
+   * Marks a square that would lie outside the board.
+   */
+  public static final int NONE = -1;
+  /**
+   * Index of the direction towards row 0 and column 0.
+   */
+  public static final int UP_LEFT = 0;
+  /**
+   * Index of the direction towards row 0 and the last column.
+   */
+  public static final int UP_RIGHT = 1;
+  /**
+   * Index of the direction towards the last row and column 0.
+   */
+  public static final int DOWN_LEFT = 2;
+  /**
+   * Index of the direction towards the last row and the last column.
+   */
+  public static final int DOWN_RIGHT = 3;
+  /**
+   * Number of diagonal directions.
+   */
+  public static final int DIRECTION_COUNT = 4;
+
+  /**
+   * Neighbouring square per direction and square, or {@link #NONE}.
+   */
+  private static final int[][] NEIGHBOUR =
+      new int[DIRECTION_COUNT][SquareIndex.SQUARE_COUNT];
+
+  /**
+   * Single-bit mask of the neighbouring square per direction and square, or
+   * 0 at the board edge.
+   */
+  private static final int[][] NEIGHBOUR_MASK =
+      new int[DIRECTION_COUNT][SquareIndex.SQUARE_COUNT];
+
+  /**
+   * Landing square of a jump per direction and square, or {@link #NONE}.
+   */
+  private static final int[][] JUMP_LANDING =
+      new int[DIRECTION_COUNT][SquareIndex.SQUARE_COUNT];
+
+  /**
+   * Squares along the ray per direction and square, nearest first.
+   */
+  private static final int[][][] RAY_SQUARES =
+      new int[DIRECTION_COUNT][SquareIndex.SQUARE_COUNT][];
+
+  /**
+   * Mask of the squares along the ray per direction and square.
+   */
+  private static final int[][] RAY_MASK =
+      new int[DIRECTION_COUNT][SquareIndex.SQUARE_COUNT];
+
+  static {
+    for (int dir = 0; dir < DIRECTION_COUNT; dir++) {
+      int dr = GameConstants.DIRECTIONS[dir][0];
+      int dc = GameConstants.DIRECTIONS[dir][1];
+      for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+        int row = SquareIndex.rowOf(square);
+        int col = SquareIndex.colOf(square);
+        NEIGHBOUR[dir][square] = squareAt(row + dr, col + dc);
+        NEIGHBOUR_MASK[dir][square] = NEIGHBOUR[dir][square] == NONE ? 0
+            : SquareIndex.bit(NEIGHBOUR[dir][square]);
+        JUMP_LANDING[dir][square] = squareAt(row + 2 * dr, col + 2 * dc);
+
+        int length = 0;
+        int[] ray = new int[GameConstants.BOARD_SIZE - 1];
+        for (int r = row + dr, c = col + dc; squareAt(r, c) != NONE;
+             r += dr, c += dc) {
+          ray[length++] = squareAt(r, c);
+          RAY_MASK[dir][square] |= SquareIndex.bit(squareAt(r, c));
+        }
+        RAY_SQUARES[dir][square] = Arrays.copyOf(ray, length);
+      }
+    }
+  }
+
+  private SquareTables() {
+  }
+
+  /**
+   * Returns the diagonal neighbour of a square.
+   *
+   * @param dir    the direction index
+   * @param square the square index
+   * @return the neighbouring square, or {@link #NONE} at the board edge
+   */
+  public static int neighbour(final int dir, final int square) {
+    return NEIGHBOUR[dir][square];
+  }
+
+  /**
+   * Returns the single-bit mask of the diagonal neighbour of a square.
+   *
+   * @param dir    the direction index
+   * @param square the square index
+   * @return the neighbour mask, or 0 at the board edge
+   */
+  public static int neighbourMask(final int dir, final int square) {
+    return NEIGHBOUR_MASK[dir][square];
+  }
+
+  /**
+   * Returns the square a jump from {@code square} lands on. The jumped
+   * square is {@link #neighbour(int, int)} in the same direction.
+   *
+   * @param dir    the direction index
+   * @param square the square index
+   * @return the landing square, or {@link #NONE} if the jump would leave
+   *     the board
+   */
+  public static int jumpLanding(final int dir, final int square) {
+    return JUMP_LANDING[dir][square];
+  }
+
+  /**
+   * Returns the squares along a diagonal ray, nearest first. The returned
+   * array is shared and must not be modified.
+   *
+   * @param dir    the direction index
+   * @param square the square index
+   * @return the squares of the ray, excluding {@code square} itself
+   */
+  public static int[] raySquares(final int dir, final int square) {
+    return RAY_SQUARES[dir][square];
+  }
+
+  /**
+   * Returns the mask of the squares along a diagonal ray.
+   *
+   * @param dir    the direction index
+   * @param square the square index
+   * @return the ray mask, excluding {@code square} itself
+   */
+  public static int rayMask(final int dir, final int square) {
+    return RAY_MASK[dir][square];
+  }
+
+  /**
+   * Returns the first direction index in which men of the given color move.
+   * Men move in this direction and the next one.
+   *
+   * @param color {@link GameConstants#RED} or {@link GameConstants#BLACK}
+   * @return {@link #UP_LEFT} for red, {@link #DOWN_LEFT} for black
+   */
+  public static int forwardDirection(final int color) {
+    return color == GameConstants.RED ? UP_LEFT : DOWN_LEFT;
+  }
+
+  private static int squareAt(final int row, final int col) {
+    if (row < 0 || row >= GameConstants.BOARD_SIZE || col < 0
+        || col >= GameConstants.BOARD_SIZE) {
+      return NONE;
+    }
+    return SquareIndex.toSquare(row, col);
+  }
+}
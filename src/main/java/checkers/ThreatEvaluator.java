@@ -32,7 +32,29 @@ public final class ThreatEvaluator {
       throw new NullPointerException("decision is null");
     }
 
-    if (!playerCanCaptureAfterMove(boardState, playerConfig)) {
+    return evaluatePlayerThreats(decision, boardState,
+        playerCanCaptureAfterMove(boardState, playerConfig));
+  }
+
+  /**
+   * Evaluates the threat to the moved piece when it is already known
+   * whether the player can capture after the move, for example from
+   * {@link BoardState#getCapturers(int)}.
+   *
+   * @param decision         the move decision made by the bot
+   * @param boardState       the board after the move
+   * @param playerCanCapture whether the human player has a capture
+   * @return a negative score if the player can capture, otherwise 0
+   * @throws NullPointerException if {@code decision} is null
+   */
+  public static int evaluatePlayerThreats(final BotDecision decision,
+                                          final BoardState boardState,
+                                          final boolean playerCanCapture) {
+    if (decision == null) {
+      throw new NullPointerException("decision is null");
+    }
+
+    if (!playerCanCapture) {
       return 0;
     }
 
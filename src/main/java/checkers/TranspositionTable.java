@@ -0,0 +1,294 @@
+package checkers;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size table of search results keyed by {@link Zobrist} position keys.
+ *
+ * <p>The table is one preallocated {@code long[]} of buckets of
+ * {@link #BUCKET_ENTRIES} entries; a bucket fills one 64-byte cache line.
+ * An entry takes two longs: the packed data and the position key XORed with
+ * that data. A probe accepts an entry only if XORing the two words gives
+ * back the probed key, so an entry torn by two threads writing it at once
+ * is rejected like any other miss. Several search threads can therefore
+ * share one table without locks.</p>
+ *
+ * <p>The data packs, from the least significant bit: the score (bits
+ * 0-19, signed), the searched depth (bits 20-27), the bound type (bits
+ * 28-29), the search generation that wrote the entry (bits 30-37) and the
+ * best move plus one (bits 38-57), see {@link MoveEncoding}. Empty entries
+ * hold 0.</p>
+ *
+ * <p>An entry for the same position is always overwritten. Otherwise the
+ * entry replaced is the one with the lowest depth, where each search since
+ * the entry was written counts as {@link #AGE_WEIGHT} plies less, so
+ * results of earlier moves give way to current ones.</p>
+ */
+public final class TranspositionTable {
+  /**
+   * Table size used by the game, in megabytes.
+   */
+  public static final int DEFAULT_SIZE_MB = 16;
+
+  /**
+   * Largest supported table size, in megabytes.
+   */
+  public static final int MAX_SIZE_MB = 1024;
+
+  /**
+   * Returned by {@link #probe(long)} when the position is not stored.
+   */
+  public static final long MISS = 0L;
+
+  /**
+   * Bound type of a score that is exact.
+   */
+  public static final int EXACT = 1;
+
+  /**
+   * Bound type of a score that is a lower bound, from a beta cutoff.
+   */
+  public static final int LOWER_BOUND = 2;
+
+  /**
+   * Bound type of a score that is an upper bound, as no move raised alpha.
+   */
+  public static final int UPPER_BOUND = 3;
+
+  /**
+   * Number of entries per bucket.
+   */
+  public static final int BUCKET_ENTRIES = 4;
+
+  /**
+   * Plies of depth an entry loses for every search since it was written.
+   */
+  static final int AGE_WEIGHT = 4;
+
+  /**
+   * Longs per entry: the XORed key and the data.
+   */
+  private static final int ENTRY_LONGS = 2;
+
+  /**
+   * Longs per bucket.
+   */
+  private static final int BUCKET_LONGS = BUCKET_ENTRIES * ENTRY_LONGS;
+
+  /**
+   * Bytes per megabyte.
+   */
+  private static final long BYTES_PER_MB = 1L << 20;
+
+  /**
+   * Bits of the score field.
+   */
+  private static final int SCORE_BITS = 20;
+
+  /**
+   * Position of the depth field.
+   */
+  private static final int DEPTH_SHIFT = 20;
+
+  /**
+   * Position of the bound type field.
+   */
+  private static final int BOUND_SHIFT = 28;
+
+  /**
+   * Position of the generation field.
+   */
+  private static final int AGE_SHIFT = 30;
+
+  /**
+   * Position of the move field.
+   */
+  private static final int MOVE_SHIFT = 38;
+
+  /**
+   * Mask of the score field.
+   */
+  private static final long SCORE_MASK = (1L << SCORE_BITS) - 1;
+
+  /**
+   * Mask of the depth and generation fields.
+   */
+  private static final int BYTE_MASK = 0xFF;
+
+  /**
+   * Mask of the bound type field.
+   */
+  private static final int BOUND_MASK = 0x3;
+
+  /**
+   * Mask of the move field.
+   */
+  private static final long MOVE_MASK = (1L << 20) - 1;
+
+  /**
+   * Buckets of entries, {@link #BUCKET_LONGS} longs each.
+   */
+  private final long[] table;
+
+  /**
+   * Mask selecting a bucket from a key.
+   */
+  private final int bucketMask;
+
+  /**
+   * Generation of the current search, written into new entries.
+   */
+  private int generation;
+
+  /**
+   * Creates an empty table of at most the given size.
+   *
+   * @param sizeMb the table size in megabytes, rounded down to a power of
+   *               two number of buckets
+   * @throws IllegalArgumentException if the size is below 1 or above
+   *                                  {@link #MAX_SIZE_MB}
+   */
+  public TranspositionTable(final int sizeMb) {
+    if (sizeMb < 1 || sizeMb > MAX_SIZE_MB) {
+      throw new IllegalArgumentException("Table size out of range: "
+          + sizeMb + " MB");
+    }
+    long buckets = sizeMb * BYTES_PER_MB / (BUCKET_LONGS * Long.BYTES);
+    int bucketCount = Integer.highestOneBit((int) buckets);
+    this.table = new long[bucketCount * BUCKET_LONGS];
+    this.bucketMask = bucketCount - 1;
+  }
+
+  /**
+   * Returns the number of entries the table holds.
+   *
+   * @return the entry count
+   */
+  public int capacity() {
+    return table.length / ENTRY_LONGS;
+  }
+
+  /**
+   * Starts a new search, so that entries of earlier searches are replaced
+   * first.
+   */
+  public void newSearch() {
+    generation = (generation + 1) & BYTE_MASK;
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public void clear() {
+    Arrays.fill(table, 0L);
+  }
+
+  /**
+   * Looks up a position.
+   *
+   * @param key the position key, see {@link BoardState#getZobristKey()}
+   * @return the packed data of the entry, or {@link #MISS}
+   */
+  public long probe(final long key) {
+    int base = bucket(key);
+    for (int i = base; i < base + BUCKET_LONGS; i += ENTRY_LONGS) {
+      long data = table[i + 1];
+      if (data != MISS && (table[i] ^ data) == key) {
+        return data;
+      }
+    }
+    return MISS;
+  }
+
+  /**
+   * Stores the result of searching a position.
+   *
+   * @param key   the position key, see {@link BoardState#getZobristKey()}
+   * @param depth the searched depth in plies, 0 to 255
+   * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or
+   *              {@link #UPPER_BOUND}
+   * @param score the score, within plus or minus
+   *              {@link SearchEngine#INFINITY}
+   * @param move  the best move packed with {@link MoveEncoding}, or
+   *              {@link MoveEncoding#NO_MOVE}
+   */
+  public void store(final long key, final int depth, final int bound,
+                    final int score, final int move) {
+    int base = bucket(key);
+    int victim = base;
+    int victimValue = Integer.MAX_VALUE;
+    long previous = MISS;
+    for (int i = base; i < base + BUCKET_LONGS; i += ENTRY_LONGS) {
+      long data = table[i + 1];
+      if (data == MISS || (table[i] ^ data) == key) {
+        victim = i;
+        previous = data;
+        break;
+      }
+      int value = depth(data) - AGE_WEIGHT * age(data);
+      if (value < victimValue) {
+        victim = i;
+        victimValue = value;
+      }
+    }
+    int storedMove = move == MoveEncoding.NO_MOVE && previous != MISS
+        ? move(previous) : move;
+    long data = (score & SCORE_MASK)
+        | (long) depth << DEPTH_SHIFT
+        | (long) bound << BOUND_SHIFT
+        | (long) generation << AGE_SHIFT
+        | ((storedMove + 1L) & MOVE_MASK) << MOVE_SHIFT;
+    table[victim] = key ^ data;
+    table[victim + 1] = data;
+  }
+
+  /**
+   * Returns the score of an entry.
+   *
+   * @param data the entry data returned by {@link #probe(long)}
+   * @return the stored score
+   */
+  public static int score(final long data) {
+    return (int) (data << (Long.SIZE - SCORE_BITS) >> (Long.SIZE
+        - SCORE_BITS));
+  }
+
+  /**
+   * Returns the searched depth of an entry.
+   *
+   * @param data the entry data returned by {@link #probe(long)}
+   * @return the depth in plies
+   */
+  public static int depth(final long data) {
+    return (int) (data >>> DEPTH_SHIFT) & BYTE_MASK;
+  }
+
+  /**
+   * Returns the bound type of an entry.
+   *
+   * @param data the entry data returned by {@link #probe(long)}
+   * @return {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+   */
+  public static int bound(final long data) {
+    return (int) (data >>> BOUND_SHIFT) & BOUND_MASK;
+  }
+
+  /**
+   * Returns the best move of an entry.
+   *
+   * @param data the entry data returned by {@link #probe(long)}
+   * @return the move packed with {@link MoveEncoding}, or
+   *     {@link MoveEncoding#NO_MOVE}
+   */
+  public static int move(final long data) {
+    return (int) ((data >>> MOVE_SHIFT) & MOVE_MASK) - 1;
+  }
+
+  private int age(final long data) {
+    return (generation - (int) (data >>> AGE_SHIFT)) & BYTE_MASK;
+  }
+
+  private int bucket(final long key) {
+    return ((int) key & bucketMask) * BUCKET_LONGS;
+  }
+}
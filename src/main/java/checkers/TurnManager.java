@@ -17,14 +17,15 @@ public final class TurnManager {
   private final PlayerConfig playerConfig;
 
   /**
-   * The color of the current player.
+   * The color of the current player; switched by the bot's thread and read
+   * by the event thread.
    */
-  private int currentColor;
+  private volatile int currentColor;
 
   /**
    * The color representing the king of the current player.
    */
-  private int currentKingColor;
+  private volatile int currentKingColor;
 
   /**
    * Constructs a TurnManager with the specified player configuration,
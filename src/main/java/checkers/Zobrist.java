@@ -0,0 +1,82 @@
+package checkers;
+
+import java.util.SplittableRandom;
+
+/**
+ * Utility class holding the random keys used to hash board positions.
+ *
+ * <p>A position key is the XOR of one key per occupied square, chosen by the
+ * piece on that square, and of {@link #SIDE_KEY} when black is to move.
+ * Because XOR is its own inverse, {@link BoardState} keeps its key up to date
+ * in constant time whenever a square changes. The keys are generated from a
+ * fixed seed, so the same position always hashes to the same value.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class Zobrist {
+  /**
+   * Key toggled into a position key when black is to move.
+   */
+  public static final long SIDE_KEY;
+
+  /**
+   * Seed of the key generator. Changing it invalidates stored keys.
+   */
+  private static final long SEED = 0x5DEECE66DL;
+
+  /**
+   * Number of distinct piece codes, including {@link GameConstants#EMPTY}.
+   */
+  private static final int PIECE_CODES = GameConstants.BLACK_KING + 1;
+
+  /**
+   * Keys indexed by piece code and square; the row of
+   * {@link GameConstants#EMPTY} stays zero.
+   */
+  private static final long[][] PIECE_KEYS =
+      new long[PIECE_CODES][SquareIndex.SQUARE_COUNT];
+
+  static {
+    SplittableRandom random = new SplittableRandom(SEED);
+    for (int piece = GameConstants.RED; piece < PIECE_CODES; piece++) {
+      for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+        PIECE_KEYS[piece][square] = random.nextLong();
+      }
+    }
+    SIDE_KEY = random.nextLong();
+  }
+
+  private Zobrist() {
+  }
+
+  /**
+   * Returns the key of a piece standing on a square.
+   *
+   * @param piece  the piece code, see {@link GameConstants}
+   * @param square the square index, see {@link SquareIndex}
+   * @return the key, or 0 for {@link GameConstants#EMPTY}
+   */
+  public static long pieceKey(final int piece, final int square) {
+    return PIECE_KEYS[piece][square];
+  }
+
+  /**
+   * Computes the key of a position from scratch.
+   *
+   * @param board the board to hash
+   * @return the position key, including the side to move
+   */
+  public static long hash(final BoardState board) {
+    long key = 0;
+    int occupied = board.getOccupiedMask();
+    while (occupied != 0) {
+      int square = Integer.numberOfTrailingZeros(occupied);
+      key ^= pieceKey(board.getPieceAt(square), square);
+      occupied &= occupied - 1;
+    }
+    if (board.getSideToMove() == GameConstants.BLACK) {
+      key ^= SIDE_KEY;
+    }
+    return key;
+  }
+}
@@ -13,10 +13,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 class BestMoveSelectorTest {
 
+  private static final long NO_UNDO = 0L;
+
   private ArrayList<BotDecision> possibleMoves;
   private BoardState mockBoardState;
   private PlayerConfig mockPlayerConfig;
@@ -41,19 +42,16 @@ class BestMoveSelectorTest {
     possibleMoves.add(move2);
     possibleMoves.add(move3);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class)) {
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(5);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move2, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move2,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(10);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move3, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move3,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(3);
 
       BotDecision result =
@@ -61,7 +59,9 @@ class BestMoveSelectorTest {
               mockPlayerConfig);
 
       assertEquals(move2, result);
-      verify(mockBoardState, times(3)).copy();
+      verify(mockBoardState, times(3)).makeMove(any(BotDecision.class));
+      verify(mockBoardState, times(3)).unmakeMove(any(BotDecision.class),
+          eq(NO_UNDO));
     }
   }
 
@@ -72,15 +72,12 @@ class BestMoveSelectorTest {
     possibleMoves.add(move2);
     possibleMoves.add(move3);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class)) {
       moveEvaluatorMock.when(
-              () -> MoveEvaluator.evaluateMove(any(BotDecision.class),
-                  eq(mockCopy),
-                  eq(mockPlayerConfig)))
+              () -> MoveEvaluator.evaluateMadeMove(any(BotDecision.class),
+                  eq(mockBoardState),
+                  eq(mockPlayerConfig), eq(NO_UNDO)))
           .thenReturn(7);
 
       BotDecision result =
@@ -98,19 +95,16 @@ class BestMoveSelectorTest {
     possibleMoves.add(move2);
     possibleMoves.add(move3);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class)) {
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(8);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move2, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move2,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(8);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move3, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move3,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(5);
 
       BotDecision result =
@@ -126,13 +120,10 @@ class BestMoveSelectorTest {
 
     possibleMoves.add(move1);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class)) {
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(15);
 
       BotDecision result =
@@ -140,7 +131,9 @@ class BestMoveSelectorTest {
               mockPlayerConfig);
 
       assertEquals(move1, result);
-      verify(mockBoardState, times(1)).copy();
+      verify(mockBoardState, times(1)).makeMove(any(BotDecision.class));
+      verify(mockBoardState, times(1)).unmakeMove(any(BotDecision.class),
+          eq(NO_UNDO));
     }
   }
 
@@ -151,19 +144,16 @@ class BestMoveSelectorTest {
     possibleMoves.add(move2);
     possibleMoves.add(move3);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class)) {
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(-10);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move2, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move2,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(-5);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move3, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move3,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(-15);
 
       BotDecision result =
@@ -181,22 +171,19 @@ class BestMoveSelectorTest {
     possibleMoves.add(move2);
     possibleMoves.add(move3);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class);
          MockedStatic<GameConstants> _ = Mockito.mockStatic(
              GameConstants.class)) {
 
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(100);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move2, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move2,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(500);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move3, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move3,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(200);
 
       BotDecision result =
@@ -213,19 +200,16 @@ class BestMoveSelectorTest {
     possibleMoves.add(move1);
     possibleMoves.add(move2);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class);
          MockedStatic<GameConstants> _ = Mockito.mockStatic(
              GameConstants.class)) {
 
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(Integer.MAX_VALUE - 1);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move2, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move2,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(Integer.MAX_VALUE);
 
       BotDecision result =
@@ -237,28 +221,27 @@ class BestMoveSelectorTest {
   }
 
   @Test
-  void shouldCreateBoardCopyForEachMove() {
+  void shouldMakeAndUnmakeEachMove() {
 
     possibleMoves.add(move1);
     possibleMoves.add(move2);
     possibleMoves.add(move3);
     possibleMoves.add(move4);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class)) {
       moveEvaluatorMock.when(
-              () -> MoveEvaluator.evaluateMove(any(BotDecision.class),
-                  eq(mockCopy),
-                  eq(mockPlayerConfig)))
+              () -> MoveEvaluator.evaluateMadeMove(any(BotDecision.class),
+                  eq(mockBoardState),
+                  eq(mockPlayerConfig), eq(NO_UNDO)))
           .thenReturn(1);
 
       BestMoveSelector.chooseBestMove(possibleMoves, mockBoardState,
           mockPlayerConfig);
 
-      verify(mockBoardState, times(4)).copy();
+      verify(mockBoardState, times(4)).makeMove(any(BotDecision.class));
+      verify(mockBoardState, times(4)).unmakeMove(any(BotDecision.class),
+          eq(NO_UNDO));
     }
   }
 
@@ -269,7 +252,7 @@ class BestMoveSelectorTest {
         () -> BestMoveSelector.chooseBestMove(possibleMoves, mockBoardState,
             mockPlayerConfig));
 
-    verify(mockBoardState, never()).copy();
+    verify(mockBoardState, never()).makeMove(any(BotDecision.class));
   }
 
   @Test
@@ -279,22 +262,19 @@ class BestMoveSelectorTest {
     possibleMoves.add(move2);
     possibleMoves.add(move3);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class);
          MockedStatic<GameConstants> _ = Mockito.mockStatic(
              GameConstants.class)) {
 
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(100);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move2, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move2,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(150);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move3, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move3,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(50);
 
       BotDecision result =
@@ -312,19 +292,16 @@ class BestMoveSelectorTest {
     possibleMoves.add(null);
     possibleMoves.add(move2);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class)) {
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(5);
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(null, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(null,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenThrow(new NullPointerException());
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move2, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move2,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(10);
 
       assertThrows(NullPointerException.class,
@@ -339,16 +316,13 @@ class BestMoveSelectorTest {
     possibleMoves.add(move1);
     possibleMoves.add(move2);
 
-    BoardState mockCopy = mock(BoardState.class);
-    when(mockBoardState.copy()).thenReturn(mockCopy);
-
     try (MockedStatic<MoveEvaluator> moveEvaluatorMock = Mockito.mockStatic(
         MoveEvaluator.class)) {
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move1, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move1,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenThrow(new RuntimeException("Evaluation Error"));
-      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMove(move2, mockCopy,
-              mockPlayerConfig))
+      moveEvaluatorMock.when(() -> MoveEvaluator.evaluateMadeMove(move2,
+              mockBoardState, mockPlayerConfig, NO_UNDO))
           .thenReturn(10);
 
       assertThrows(RuntimeException.class,
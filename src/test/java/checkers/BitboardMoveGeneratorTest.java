@@ -0,0 +1,355 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BitboardMoveGeneratorTest {
+
+  private static final int RANDOM_POSITIONS = 2000;
+
+  static BoardState randomBoard(final SplittableRandom random) {
+    int[] pieces = {GameConstants.EMPTY, GameConstants.EMPTY,
+        GameConstants.EMPTY, GameConstants.RED, GameConstants.BLACK,
+        GameConstants.RED_KING, GameConstants.BLACK_KING};
+    BoardState board = new BoardState();
+    for (int sq = 0; sq < SquareIndex.SQUARE_COUNT; sq++) {
+      int piece = pieces[random.nextInt(pieces.length)];
+      if (!MoveEncoding.promotes(piece, sq)) {
+        board.setPieceAt(sq, piece);
+      }
+    }
+    return board;
+  }
+
+  static BotDecision firstHop(final MoveList moves, final int index) {
+    int move = moves.get(index);
+    int to = MoveEncoding.isCapture(move)
+        ? MoveEncoding.pathSquare(moves.path(index), 0) : MoveEncoding.to(move);
+    return new BotDecision(SquareIndex.rowOf(MoveEncoding.from(move)),
+        SquareIndex.colOf(MoveEncoding.from(move)), SquareIndex.rowOf(to),
+        SquareIndex.colOf(to), MoveEncoding.type(move));
+  }
+
+  private static Set<BotDecision> generate(final int color,
+                                           final BoardState board) {
+    MoveList moves = new MoveList();
+    BitboardMoveGenerator.generateMoves(color, board, moves);
+    Set<BotDecision> decisions = new HashSet<>();
+    for (int i = 0; i < moves.size(); i++) {
+      decisions.add(firstHop(moves, i));
+    }
+    return decisions;
+  }
+
+  /**
+   * Checks generated moves against the single-hop legacy generator. Capture
+   * sequences are compared by their first hop; sequences that capture the
+   * same pieces in another order are listed once, so only their source
+   * squares must match.
+   */
+  static void assertMatchesLegacy(final Set<BotDecision> legacy,
+                                  final Set<BotDecision> firstHops,
+                                  final BoardState board) {
+    if (legacy.stream().noneMatch(d -> d.moveType() != GameConstants.MOVE)) {
+      assertEquals(legacy, firstHops, board::toString);
+      return;
+    }
+    assertTrue(legacy.containsAll(firstHops), board::toString);
+    assertEquals(sources(legacy), sources(firstHops), board::toString);
+  }
+
+  private static Set<Integer> sources(final Set<BotDecision> decisions) {
+    Set<Integer> sources = new HashSet<>();
+    for (BotDecision decision : decisions) {
+      sources.add(SquareIndex.toSquare(decision.fromRow(),
+          decision.fromCol()));
+    }
+    return sources;
+  }
+
+  private static MoveList generateList(final int color,
+                                       final BoardState board) {
+    MoveList moves = new MoveList();
+    BitboardMoveGenerator.generateMoves(color, board, moves);
+    return moves;
+  }
+
+  private static int mask(final int... squares) {
+    int mask = 0;
+    for (int i = 0; i < squares.length; i += 2) {
+      mask |= SquareIndex.bit(SquareIndex.toSquare(squares[i],
+          squares[i + 1]));
+    }
+    return mask;
+  }
+
+  /**
+   * Lists the moves of a side with the row/column rules, one hop per
+   * capture.
+   */
+  static Set<BotDecision> legacy(final int color, final BoardState board) {
+    int king = color == GameConstants.RED ? GameConstants.RED_KING
+        : GameConstants.BLACK_KING;
+    boolean mustTake =
+        CaptureRules.checkAllPiecesPossibleCaptures(color, king, board);
+    ArrayList<BotDecision> moves = new ArrayList<>();
+    for (int row = 0; row < GameConstants.BOARD_SIZE; row++) {
+      for (int col = 0; col < GameConstants.BOARD_SIZE; col++) {
+        int piece = board.getPiece(row, col);
+        if (piece != color && piece != king) {
+          continue;
+        }
+        if (mustTake && CaptureRules.canCapture(col, row, board)) {
+          if (piece == king) {
+            ScanMoveGenerator.findKingCaptures(row, col, piece, moves, board);
+          } else {
+            ScanMoveGenerator.findRegularCaptures(row, col, piece, moves,
+                board);
+          }
+        } else if (!mustTake && MoveRules.canMove(col, row, board)) {
+          if (piece == king) {
+            ScanMoveGenerator.findKingMoves(row, col, piece, moves, board);
+          } else {
+            ScanMoveGenerator.findRegularPieceMoves(row, col, piece, moves,
+                board);
+          }
+        }
+      }
+    }
+    return new HashSet<>(moves);
+  }
+
+  @Nested
+  class ShiftTest {
+
+    @Test
+    void shiftShouldMatchNeighbourTables() {
+      for (int dir = 0; dir < SquareTables.DIRECTION_COUNT; dir++) {
+        for (int sq = 0; sq < SquareIndex.SQUARE_COUNT; sq++) {
+          assertEquals(SquareTables.neighbourMask(dir, sq),
+              BitboardMoveGenerator.shift(dir, SquareIndex.bit(sq)),
+              "dir " + dir + " square " + sq);
+        }
+      }
+    }
+
+    @Test
+    void shiftShouldMoveWholeMaskAtOnce() {
+      int mask = SquareIndex.bit(9) | SquareIndex.bit(22);
+
+      assertEquals(SquareTables.neighbourMask(SquareTables.DOWN_RIGHT, 9)
+              | SquareTables.neighbourMask(SquareTables.DOWN_RIGHT, 22),
+          BitboardMoveGenerator.shift(SquareTables.DOWN_RIGHT, mask));
+    }
+
+    @Test
+    void shiftShouldRejectUnknownDirection() {
+      assertThrows(IllegalArgumentException.class,
+          () -> BitboardMoveGenerator.shift(SquareTables.DIRECTION_COUNT, 1));
+    }
+  }
+
+  @Nested
+  class HasMoveTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {GameConstants.RED, GameConstants.BLACK})
+    void shouldMatchGeneratedMovesOnRandomPositions(final int color) {
+      SplittableRandom random = new SplittableRandom(color);
+      MoveList moves = new MoveList();
+      for (int i = 0; i < RANDOM_POSITIONS; i++) {
+        BoardState board = randomBoard(random);
+        BitboardMoveGenerator.generateMoves(color, board, moves);
+
+        assertEquals(!moves.isEmpty(),
+            BitboardMoveGenerator.hasMove(color, board), board::toString);
+      }
+    }
+
+    @Test
+    void shouldFindNoMoveForBlockedMan() {
+      BoardState board = new BoardState();
+      board.setPiece(6, 3, GameConstants.BLACK);
+      board.setPiece(7, 2, GameConstants.RED);
+      board.setPiece(7, 4, GameConstants.RED);
+
+      assertFalse(BitboardMoveGenerator.hasMove(GameConstants.BLACK, board));
+      assertTrue(BitboardMoveGenerator.hasMove(GameConstants.RED, board));
+    }
+
+    @Test
+    void shouldFindNoMoveWithoutPieces() {
+      BoardState board = new BoardState();
+      board.setPiece(5, 2, GameConstants.RED);
+
+      assertFalse(BitboardMoveGenerator.hasMove(GameConstants.BLACK, board));
+    }
+
+    @Test
+    void kingShouldMoveBackwards() {
+      BoardState board = new BoardState();
+      board.setPiece(7, 2, GameConstants.BLACK_KING);
+
+      assertTrue(BitboardMoveGenerator.hasMove(GameConstants.BLACK, board));
+    }
+  }
+
+  @Nested
+  class EquivalenceTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {GameConstants.RED, GameConstants.BLACK})
+    void shouldMatchLegacyGeneratorOnInitialPosition(final int color) {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+
+      Set<BotDecision> moves = generate(color, board);
+
+      assertEquals(7, moves.size());
+      assertEquals(legacy(color, board), moves);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {GameConstants.RED, GameConstants.BLACK})
+    void shouldMatchLegacyGeneratorOnRandomPositions(final int color) {
+      SplittableRandom random = new SplittableRandom(color);
+      for (int i = 0; i < RANDOM_POSITIONS; i++) {
+        BoardState board = randomBoard(random);
+
+        assertMatchesLegacy(legacy(color, board), generate(color, board),
+            board);
+      }
+    }
+
+    @Test
+    void shouldGenerateOnlyCapturesWhenCaptureIsAvailable() {
+      BoardState board = new BoardState();
+      board.setPiece(5, 0, GameConstants.RED);
+      board.setPiece(5, 4, GameConstants.RED);
+      board.setPiece(4, 5, GameConstants.BLACK);
+
+      Set<BotDecision> moves = generate(GameConstants.RED, board);
+
+      assertEquals(Set.of(new BotDecision(5, 4, 3, 6, GameConstants.TAKE)),
+          moves);
+    }
+
+    @Test
+    void kingShouldStopAtFirstPieceOnRay() {
+      BoardState board = new BoardState();
+      board.setPiece(7, 0, GameConstants.BLACK_KING);
+      board.setPiece(4, 3, GameConstants.BLACK);
+
+      Set<BotDecision> moves = generate(GameConstants.BLACK, board);
+
+      assertTrue(moves.contains(
+          new BotDecision(7, 0, 5, 2, GameConstants.MOVE)));
+      assertEquals(legacy(GameConstants.BLACK, board), moves);
+    }
+  }
+
+  @Nested
+  class CaptureChainTest {
+
+    @Test
+    void manShouldCaptureWholeChainInOneMove() {
+      BoardState board = new BoardState();
+      board.setPiece(5, 0, GameConstants.RED);
+      board.setPiece(4, 1, GameConstants.BLACK);
+      board.setPiece(2, 3, GameConstants.BLACK);
+
+      MoveList moves = generateList(GameConstants.RED, board);
+
+      assertEquals(1, moves.size());
+      assertEquals(new BotDecision(5, 0, 1, 4, GameConstants.TAKE),
+          MoveEncoding.toDecision(moves.get(0)));
+      assertEquals(mask(4, 1, 2, 3), moves.capturedMask(0));
+      assertEquals(SquareIndex.toSquare(4, 1),
+          MoveEncoding.capturedSquare(moves.get(0)));
+      assertEquals(SquareIndex.toSquare(3, 2),
+          MoveEncoding.pathSquare(moves.path(0), 0));
+      assertEquals(SquareIndex.toSquare(1, 4),
+          MoveEncoding.pathSquare(moves.path(0), 1));
+    }
+
+    @Test
+    void shouldListEveryBranchOfChain() {
+      BoardState board = new BoardState();
+      board.setPiece(5, 2, GameConstants.RED);
+      board.setPiece(4, 3, GameConstants.BLACK);
+      board.setPiece(2, 3, GameConstants.BLACK);
+      board.setPiece(2, 5, GameConstants.BLACK);
+
+      MoveList moves = generateList(GameConstants.RED, board);
+
+      Set<BotDecision> decisions = new HashSet<>();
+      for (int i = 0; i < moves.size(); i++) {
+        decisions.add(MoveEncoding.toDecision(moves, i));
+      }
+      assertEquals(Set.of(
+          new BotDecision(5, 2, 1, 2, GameConstants.TAKE,
+              mask(4, 3, 2, 3)),
+          new BotDecision(5, 2, 1, 6, GameConstants.TAKE,
+              mask(4, 3, 2, 5))), decisions);
+    }
+
+    @Test
+    void manShouldStopWhenPromoted() {
+      BoardState board = new BoardState();
+      board.setPiece(2, 1, GameConstants.RED);
+      board.setPiece(1, 2, GameConstants.BLACK);
+      board.setPiece(1, 4, GameConstants.BLACK);
+
+      MoveList moves = generateList(GameConstants.RED, board);
+
+      assertEquals(1, moves.size());
+      assertEquals(new BotDecision(2, 1, 0, 3, GameConstants.TAKE),
+          MoveEncoding.toDecision(moves.get(0)));
+      assertTrue(MoveEncoding.isPromotion(moves.get(0)));
+      assertEquals(mask(1, 2), moves.capturedMask(0));
+    }
+
+    @Test
+    void kingShouldContinueChainAfterLanding() {
+      BoardState board = new BoardState();
+      board.setPiece(0, 1, GameConstants.BLACK_KING);
+      board.setPiece(2, 3, GameConstants.RED);
+      board.setPiece(5, 2, GameConstants.RED);
+
+      MoveList moves = generateList(GameConstants.BLACK, board);
+
+      assertEquals(1, moves.size());
+      assertEquals(new BotDecision(0, 1, 6, 1, GameConstants.KING_TAKE,
+          mask(2, 3, 5, 2)), MoveEncoding.toDecision(moves, 0));
+    }
+
+    @Test
+    void chainShouldRemoveAllCapturedPiecesWhenMade() {
+      BoardState board = new BoardState();
+      board.setPiece(5, 0, GameConstants.RED);
+      board.setPiece(4, 1, GameConstants.BLACK);
+      board.setPiece(2, 3, GameConstants.BLACK);
+      BoardState before = board.copy();
+      MoveList moves = generateList(GameConstants.RED, board);
+      int move = moves.get(0);
+
+      long undo = board.makeMove(MoveEncoding.from(move),
+          MoveEncoding.to(move), moves.capturedMask(0));
+
+      assertEquals(0, board.getColorMask(GameConstants.BLACK));
+      assertEquals(GameConstants.RED, board.getPiece(1, 4));
+      board.unmakeMove(MoveEncoding.from(move), MoveEncoding.to(move), undo);
+      assertEquals(before, board);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package checkers;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoardNotationTest {
+
+  private static final String START =
+      "r:bbbbbbbbbbbb........rrrrrrrrrrrr";
+
+  @Nested
+  class PositionTest {
+
+    @Test
+    void shouldFormatStartingPosition() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+
+      assertEquals(START, BoardNotation.format(board));
+    }
+
+    @Test
+    void shouldParseStartingPosition() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+
+      assertEquals(board, BoardNotation.parse(START));
+    }
+
+    @Test
+    void shouldRoundTripKingsAndSideToMove() {
+      String notation = "b:R..............................B";
+
+      BoardState board = BoardNotation.parse(notation);
+
+      assertEquals(GameConstants.BLACK, board.getSideToMove());
+      assertEquals(GameConstants.RED_KING, board.getPieceAt(0));
+      assertEquals(GameConstants.BLACK_KING, board.getPieceAt(31));
+      assertEquals(notation, BoardNotation.format(board));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "r:", "rbbbbbbbbbbbb........rrrrrrrrrrrr",
+        "x:bbbbbbbbbbbb........rrrrrrrrrrrr",
+        "r:bbbbbbbbbbbb........rrrrrrrrrrrx",
+        ".:bbbbbbbbbbbb........rrrrrrrrrrrr"})
+    void shouldRejectMalformedPosition(final String notation) {
+      assertThrows(IllegalArgumentException.class,
+          () -> BoardNotation.parse(notation));
+    }
+  }
+
+  @Nested
+  class MoveTest {
+
+    @Test
+    void shouldFormatStep() {
+      MoveList moves = new MoveList();
+      moves.add(MoveEncoding.encode(21, 17, GameConstants.MOVE, 0, false));
+
+      assertEquals("22-18", BoardNotation.formatMove(moves, 0));
+    }
+
+    @Test
+    void shouldFormatEveryHopOfCapture() {
+      MoveList moves = new MoveList();
+      MoveGenerator.generateMoves(GameConstants.RED, BoardNotation.parse(
+          "r:...b....b.......b....r.........."), moves);
+
+      assertEquals("22x13x6", BoardNotation.formatMove(moves, 0));
+    }
+
+    @Test
+    void shouldFormatDecisionWithFirstAndLastSquare() {
+      MoveList moves = new MoveList();
+      MoveGenerator.generateMoves(GameConstants.RED, BoardNotation.parse(
+          "r:...b....b.......b....r.........."), moves);
+
+      assertEquals("22x6", BoardNotation.formatDecision(
+          MoveEncoding.toDecision(moves, 0)));
+      assertEquals("22-18", BoardNotation.formatDecision(
+          MoveEncoding.toDecision(MoveEncoding.encode(21, 17,
+              GameConstants.MOVE, 0, false))));
+    }
+  }
+}
@@ -5,14 +5,21 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BoardStateTest {
 
   private BoardState boardState;
 
+  private static int[][] emptyPieces() {
+    return new int[GameConstants.BOARD_SIZE][GameConstants.BOARD_SIZE];
+  }
+
   @Nested
   class DefaultConstructorTest {
 
@@ -40,6 +47,17 @@ class BoardStateTest {
         }
       }
     }
+
+    @Test
+    void shouldHaveEmptyMasks() {
+      boardState = new BoardState();
+
+      assertEquals(0, boardState.getRedMask());
+      assertEquals(0, boardState.getBlackMask());
+      assertEquals(0, boardState.getKingMask());
+      assertEquals(0, boardState.getOccupiedMask());
+      assertEquals(-1, boardState.getEmptyMask());
+    }
   }
 
   @Nested
@@ -47,12 +65,11 @@ class BoardStateTest {
 
     @Test
     void shouldCreateCopyOfGivenBoard() {
-      int[][] originalPieces = {
-          {1, 0, 1, 0},
-          {0, 1, 0, 1},
-          {1, 0, 1, 0},
-          {0, 1, 0, 1}
-      };
+      int[][] originalPieces = emptyPieces();
+      originalPieces[0][1] = GameConstants.BLACK;
+      originalPieces[1][0] = GameConstants.BLACK_KING;
+      originalPieces[6][1] = GameConstants.RED;
+      originalPieces[7][6] = GameConstants.RED_KING;
 
       boardState = new BoardState(originalPieces);
 
@@ -63,50 +80,50 @@ class BoardStateTest {
 
     @Test
     void shouldCreateIndependentCopy() {
-      int[][] originalPieces = {
-          {1, 0, 1, 0},
-          {0, 1, 0, 1},
-          {1, 0, 1, 0},
-          {0, 1, 0, 1}
-      };
+      int[][] originalPieces = emptyPieces();
+      originalPieces[0][1] = GameConstants.BLACK;
 
       boardState = new BoardState(originalPieces);
 
-      originalPieces[0][0] = 999;
-      originalPieces[1] = new int[]{5, 5, 5, 5};
+      originalPieces[0][1] = GameConstants.RED;
+      originalPieces[1] = new int[GameConstants.BOARD_SIZE];
 
-      assertEquals(1, boardState.getPiece(0, 0));
-      assertEquals(1, boardState.getPiece(1, 1));
+      assertEquals(GameConstants.BLACK, boardState.getPiece(0, 1));
     }
 
     @Test
-    void shouldHandleEmptyArray() {
-      int[][] emptyPieces = {};
+    void shouldRejectArrayWithWrongRowCount() {
+      int[][] pieces = new int[4][GameConstants.BOARD_SIZE];
 
-      boardState = new BoardState(emptyPieces);
+      assertThrows(IllegalArgumentException.class,
+          () -> new BoardState(pieces));
+    }
 
-      assertNotNull(boardState.getPieces());
-      assertEquals(0, boardState.getPieces().length);
+    @Test
+    void shouldRejectJaggedArray() {
+      int[][] pieces = emptyPieces();
+      pieces[3] = new int[3];
+
+      assertThrows(IllegalArgumentException.class,
+          () -> new BoardState(pieces));
     }
 
     @Test
-    void shouldHandleJaggedArray() {
-      int[][] jaggedPieces = {
-          {1, 2},
-          {3, 4, 5},
-          {6}
-      };
+    void shouldRejectPieceOnLightSquare() {
+      int[][] pieces = emptyPieces();
+      pieces[0][0] = GameConstants.RED;
 
-      boardState = new BoardState(jaggedPieces);
+      assertThrows(IllegalArgumentException.class,
+          () -> new BoardState(pieces));
+    }
 
-      assertEquals(3, boardState.getPieces().length);
-      assertEquals(2, boardState.getPiecesRows(0).length);
-      assertEquals(3, boardState.getPiecesRows(1).length);
-      assertEquals(1, boardState.getPiecesRows(2).length);
+    @Test
+    void shouldRejectUnknownPiece() {
+      int[][] pieces = emptyPieces();
+      pieces[0][1] = 999;
 
-      assertEquals(1, boardState.getPiece(0, 0));
-      assertEquals(5, boardState.getPiece(1, 2));
-      assertEquals(6, boardState.getPiece(2, 0));
+      assertThrows(IllegalArgumentException.class,
+          () -> new BoardState(pieces));
     }
   }
 
@@ -115,20 +132,35 @@ class BoardStateTest {
 
     @BeforeEach
     void setUp() {
-      int[][] testPieces = {
-          {1, 2, 3},
-          {4, 5, 6},
-          {7, 8, 9}
-      };
+      int[][] testPieces = emptyPieces();
+      testPieces[0][1] = GameConstants.BLACK;
+      testPieces[2][3] = GameConstants.BLACK_KING;
+      testPieces[5][4] = GameConstants.RED;
+      testPieces[7][0] = GameConstants.RED_KING;
       boardState = new BoardState(testPieces);
     }
 
     @Test
     void shouldReturnCorrectValueForDifferentPositions() {
-      assertEquals(1, boardState.getPiece(0, 0));
-      assertEquals(5, boardState.getPiece(1, 1));
-      assertEquals(9, boardState.getPiece(2, 2));
-      assertEquals(6, boardState.getPiece(1, 2));
+      assertEquals(GameConstants.BLACK, boardState.getPiece(0, 1));
+      assertEquals(GameConstants.BLACK_KING, boardState.getPiece(2, 3));
+      assertEquals(GameConstants.RED, boardState.getPiece(5, 4));
+      assertEquals(GameConstants.RED_KING, boardState.getPiece(7, 0));
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(3, 4));
+    }
+
+    @Test
+    void shouldReturnEmptyForLightSquares() {
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(0, 0));
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(7, 7));
+    }
+
+    @Test
+    void shouldReturnSamePieceBySquareIndex() {
+      assertEquals(GameConstants.BLACK_KING,
+          boardState.getPieceAt(SquareIndex.toSquare(2, 3)));
+      assertEquals(GameConstants.RED,
+          boardState.getPieceAt(SquareIndex.toSquare(5, 4)));
     }
 
     @Test
@@ -136,7 +168,7 @@ class BoardStateTest {
       assertThrows(ArrayIndexOutOfBoundsException.class,
           () -> boardState.getPiece(-1, 0));
       assertThrows(ArrayIndexOutOfBoundsException.class,
-          () -> boardState.getPiece(3, 0));
+          () -> boardState.getPiece(GameConstants.BOARD_SIZE, 0));
     }
 
     @Test
@@ -144,7 +176,7 @@ class BoardStateTest {
       assertThrows(ArrayIndexOutOfBoundsException.class,
           () -> boardState.getPiece(0, -1));
       assertThrows(ArrayIndexOutOfBoundsException.class,
-          () -> boardState.getPiece(0, 3));
+          () -> boardState.getPiece(0, GameConstants.BOARD_SIZE));
     }
   }
 
@@ -158,31 +190,61 @@ class BoardStateTest {
 
     @Test
     void shouldSetValueAtSpecificPosition() {
-      boardState.setPiece(0, 0, 1);
-      boardState.setPiece(1, 1, 2);
-      boardState.setPiece(7, 7, 3);
+      boardState.setPiece(0, 1, GameConstants.BLACK);
+      boardState.setPiece(1, 2, GameConstants.RED);
+      boardState.setPiece(7, 6, GameConstants.RED_KING);
 
-      assertEquals(1, boardState.getPiece(0, 0));
-      assertEquals(2, boardState.getPiece(1, 1));
-      assertEquals(3, boardState.getPiece(7, 7));
+      assertEquals(GameConstants.BLACK, boardState.getPiece(0, 1));
+      assertEquals(GameConstants.RED, boardState.getPiece(1, 2));
+      assertEquals(GameConstants.RED_KING, boardState.getPiece(7, 6));
     }
 
     @Test
     void shouldOverwriteExistingValues() {
-      boardState.setPiece(2, 2, 10);
-      assertEquals(10, boardState.getPiece(2, 2));
+      boardState.setPiece(2, 1, GameConstants.BLACK_KING);
+      assertEquals(GameConstants.BLACK_KING, boardState.getPiece(2, 1));
+
+      boardState.setPiece(2, 1, GameConstants.RED);
+      assertEquals(GameConstants.RED, boardState.getPiece(2, 1));
+
+      boardState.setPiece(2, 1, GameConstants.EMPTY);
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(2, 1));
+    }
+
+    @Test
+    void shouldUpdateMasks() {
+      boardState.setPiece(0, 1, GameConstants.BLACK_KING);
+      boardState.setPiece(7, 0, GameConstants.RED);
+
+      int blackBit = SquareIndex.bit(SquareIndex.toSquare(0, 1));
+      int redBit = SquareIndex.bit(SquareIndex.toSquare(7, 0));
+
+      assertEquals(blackBit, boardState.getBlackMask());
+      assertEquals(redBit, boardState.getRedMask());
+      assertEquals(blackBit, boardState.getKingMask());
+      assertEquals(blackBit | redBit, boardState.getOccupiedMask());
+      assertEquals(~(blackBit | redBit), boardState.getEmptyMask());
+    }
+
+    @Test
+    void shouldAcceptEmptyOnLightSquare() {
+      boardState.setPiece(0, 0, GameConstants.EMPTY);
 
-      boardState.setPiece(2, 2, 20);
-      assertEquals(20, boardState.getPiece(2, 2));
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(0, 0));
     }
 
     @Test
-    void shouldHandleNegativeValues() {
-      boardState.setPiece(0, 0, -1);
-      boardState.setPiece(1, 1, -100);
+    void shouldRejectPieceOnLightSquare() {
+      assertThrows(IllegalArgumentException.class,
+          () -> boardState.setPiece(0, 0, GameConstants.RED));
+    }
 
-      assertEquals(-1, boardState.getPiece(0, 0));
-      assertEquals(-100, boardState.getPiece(1, 1));
+    @Test
+    void shouldRejectUnknownPieces() {
+      assertThrows(IllegalArgumentException.class,
+          () -> boardState.setPiece(0, 1, -1));
+      assertThrows(IllegalArgumentException.class,
+          () -> boardState.setPiece(0, 1, Integer.MAX_VALUE));
     }
 
     @Test
@@ -207,13 +269,8 @@ class BoardStateTest {
 
     @BeforeEach
     void setUp() {
-      int[][] testPieces = {
-          {1, 2, 3, 4},
-          {5, 6, 7, 8},
-          {9, 10, 11, 12},
-          {13, 14, 15, 16}
-      };
-      boardState = new BoardState(testPieces);
+      boardState = new BoardState();
+      BoardInitializer.setUpPawns(boardState);
     }
 
     @Test
@@ -228,8 +285,8 @@ class BoardStateTest {
     void copyShouldHaveIdenticalValues() {
       BoardState copy = boardState.copy();
 
-      for (int row = 0; row < 4; row++) {
-        for (int col = 0; col < 4; col++) {
+      for (int row = 0; row < GameConstants.BOARD_SIZE; row++) {
+        for (int col = 0; col < GameConstants.BOARD_SIZE; col++) {
           assertEquals(boardState.getPiece(row, col), copy.getPiece(row, col));
         }
       }
@@ -239,10 +296,10 @@ class BoardStateTest {
     void copyShouldBeIndependent() {
       BoardState copy = boardState.copy();
 
-      boardState.setPiece(0, 0, 999);
+      boardState.setPiece(0, 1, GameConstants.EMPTY);
 
-      assertEquals(1, copy.getPiece(0, 0));
-      assertEquals(999, boardState.getPiece(0, 0));
+      assertEquals(GameConstants.BLACK, copy.getPiece(0, 1));
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(0, 1));
     }
 
     @Test
@@ -253,11 +310,11 @@ class BoardStateTest {
       assertNotSame(copy1, copy2);
       assertNotSame(boardState, copy2);
 
-      copy1.setPiece(1, 1, 888);
+      copy1.setPiece(3, 2, GameConstants.RED_KING);
 
-      assertEquals(6, boardState.getPiece(1, 1));
-      assertEquals(888, copy1.getPiece(1, 1));
-      assertEquals(6, copy2.getPiece(1, 1));
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(3, 2));
+      assertEquals(GameConstants.RED_KING, copy1.getPiece(3, 2));
+      assertEquals(GameConstants.EMPTY, copy2.getPiece(3, 2));
     }
 
     @Test
@@ -276,18 +333,401 @@ class BoardStateTest {
     }
   }
 
+  @Nested
+  class MakeMoveTest {
+
+    @BeforeEach
+    void setUp() {
+      boardState = new BoardState();
+    }
+
+    @Test
+    void shouldMakeAndUnmakeNormalMove() {
+      boardState.setPiece(5, 2, GameConstants.RED);
+      BoardState before = boardState.copy();
+      BotDecision move = new BotDecision(5, 2, 4, 3, GameConstants.MOVE);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(5, 2));
+      assertEquals(GameConstants.RED, boardState.getPiece(4, 3));
+      assertEquals(0, MoveUndo.capturedSquares(undo));
+
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(before, boardState);
+    }
+
+    @Test
+    void shouldMakeAndUnmakeCaptureChain() {
+      boardState.setPiece(5, 0, GameConstants.RED);
+      boardState.setPiece(4, 1, GameConstants.BLACK);
+      boardState.setPiece(2, 3, GameConstants.BLACK_KING);
+      BoardState before = boardState.copy();
+      int captured = SquareIndex.bit(SquareIndex.toSquare(4, 1))
+          | SquareIndex.bit(SquareIndex.toSquare(2, 3));
+      BotDecision move = new BotDecision(5, 0, 1, 4, GameConstants.TAKE,
+          captured);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.RED, boardState.getPiece(1, 4));
+      assertEquals(0, boardState.getColorMask(GameConstants.BLACK));
+      assertEquals(captured, MoveUndo.capturedSquares(undo));
+
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(before, boardState);
+      assertEquals(before.getZobristKey(), boardState.getZobristKey());
+    }
+
+    @Test
+    void shouldRecordAndRestoreCapturedKing() {
+      boardState.setPiece(2, 1, GameConstants.BLACK);
+      boardState.setPiece(3, 2, GameConstants.RED_KING);
+      BoardState before = boardState.copy();
+      BotDecision move = new BotDecision(2, 1, 4, 3, GameConstants.TAKE);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(3, 2));
+      assertEquals(GameConstants.BLACK, boardState.getPiece(4, 3));
+      int capturedBit = SquareIndex.bit(SquareIndex.toSquare(3, 2));
+      assertEquals(capturedBit, MoveUndo.capturedSquares(undo));
+      assertEquals(capturedBit, MoveUndo.capturedKings(undo));
+
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(before, boardState);
+    }
+
+    @Test
+    void shouldMakeAndUnmakeKingCapture() {
+      boardState.setPiece(7, 0, GameConstants.BLACK_KING);
+      boardState.setPiece(3, 4, GameConstants.RED);
+      BoardState before = boardState.copy();
+      BotDecision move =
+          new BotDecision(7, 0, 2, 5, GameConstants.KING_TAKE);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(3, 4));
+      assertEquals(GameConstants.BLACK_KING, boardState.getPiece(2, 5));
+      assertFalse(MoveUndo.isPromotion(undo));
+
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(before, boardState);
+    }
+
+    @Test
+    void shouldPromoteAndDemoteOnUnmake() {
+      boardState.setPiece(1, 2, GameConstants.RED);
+      BoardState before = boardState.copy();
+      BotDecision move = new BotDecision(1, 2, 0, 1, GameConstants.MOVE);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.RED_KING, boardState.getPiece(0, 1));
+      assertTrue(MoveUndo.isPromotion(undo));
+
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(before, boardState);
+      assertEquals(GameConstants.RED, boardState.getPiece(1, 2));
+    }
+
+    @Test
+    void shouldPromoteBlackPieceAfterCapture() {
+      boardState.setPiece(5, 2, GameConstants.BLACK);
+      boardState.setPiece(6, 3, GameConstants.RED);
+      BotDecision move = new BotDecision(5, 2, 7, 4, GameConstants.TAKE);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.BLACK_KING, boardState.getPiece(7, 4));
+      assertTrue(MoveUndo.isPromotion(undo));
+    }
+
+    @Test
+    void shouldMakeAndUnmakePackedMove() {
+      boardState.setPiece(5, 2, GameConstants.RED);
+      boardState.setPiece(4, 3, GameConstants.BLACK);
+      BoardState before = boardState.copy();
+      int move = MoveEncoding.encode(SquareIndex.toSquare(5, 2),
+          SquareIndex.toSquare(3, 4), GameConstants.TAKE,
+          SquareIndex.toSquare(4, 3), false);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.EMPTY, boardState.getPiece(4, 3));
+      assertEquals(GameConstants.RED, boardState.getPiece(3, 4));
+
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(before, boardState);
+    }
+
+    @Test
+    void shouldUndoNestedMovesInReverseOrder() {
+      BoardInitializer.setUpPawns(boardState);
+      BoardState before = boardState.copy();
+      BotDecision first = new BotDecision(5, 0, 4, 1, GameConstants.MOVE);
+      BotDecision second = new BotDecision(2, 3, 3, 2, GameConstants.MOVE);
+
+      long firstUndo = boardState.makeMove(first);
+      long secondUndo = boardState.makeMove(second);
+      boardState.unmakeMove(second, secondUndo);
+      boardState.unmakeMove(first, firstUndo);
+
+      assertEquals(before, boardState);
+    }
+  }
+
+  @Nested
+  class SnapshotTest {
+
+    @Test
+    void getPiecesShouldNotExposeInternalState() {
+      boardState = new BoardState();
+      boardState.setPiece(0, 1, GameConstants.BLACK);
+
+      int[][] snapshot = boardState.getPieces();
+      snapshot[0][1] = GameConstants.RED;
+
+      assertEquals(GameConstants.BLACK, boardState.getPiece(0, 1));
+    }
+
+    @Test
+    void getPiecesRowsShouldThrowForInvalidRow() {
+      boardState = new BoardState();
+
+      assertThrows(ArrayIndexOutOfBoundsException.class,
+          () -> boardState.getPiecesRows(GameConstants.BOARD_SIZE));
+    }
+  }
+
+  @Nested
+  class ZobristKeyTest {
+
+    @BeforeEach
+    void setUp() {
+      boardState = new BoardState();
+      BoardInitializer.setUpPawns(boardState);
+    }
+
+    @Test
+    void emptyBoardShouldHaveZeroKey() {
+      assertEquals(0L, new BoardState().getZobristKey());
+    }
+
+    @Test
+    void shouldMatchKeyComputedFromScratch() {
+      assertEquals(Zobrist.hash(boardState), boardState.getZobristKey());
+
+      boardState.setPiece(5, 0, GameConstants.EMPTY);
+      boardState.setPiece(4, 1, GameConstants.RED_KING);
+
+      assertEquals(Zobrist.hash(boardState), boardState.getZobristKey());
+    }
+
+    @Test
+    void shouldRestoreKeyWhenPieceIsPutBack() {
+      long key = boardState.getZobristKey();
+
+      boardState.setPiece(2, 1, GameConstants.EMPTY);
+      assertNotEquals(key, boardState.getZobristKey());
+
+      boardState.setPiece(2, 1, GameConstants.BLACK);
+      assertEquals(key, boardState.getZobristKey());
+    }
+
+    @Test
+    void shouldIncludeSideToMove() {
+      long key = boardState.getZobristKey();
+
+      boardState.setSideToMove(GameConstants.BLACK);
+
+      assertEquals(GameConstants.BLACK, boardState.getSideToMove());
+      assertEquals(key ^ Zobrist.SIDE_KEY, boardState.getZobristKey());
+      assertEquals(Zobrist.hash(boardState), boardState.getZobristKey());
+    }
+
+    @Test
+    void shouldRejectUnknownSide() {
+      assertThrows(IllegalArgumentException.class,
+          () -> boardState.setSideToMove(GameConstants.RED_KING));
+    }
+
+    @Test
+    void makeMoveShouldUpdateKeyAndSide() {
+      long key = boardState.getZobristKey();
+      BotDecision move = new BotDecision(5, 0, 4, 1, GameConstants.MOVE);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.BLACK, boardState.getSideToMove());
+      assertEquals(Zobrist.hash(boardState), boardState.getZobristKey());
+
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(GameConstants.RED, boardState.getSideToMove());
+      assertEquals(key, boardState.getZobristKey());
+    }
+
+    @Test
+    void makeMoveShouldUpdateKeyForCaptureAndPromotion() {
+      boardState = new BoardState();
+      boardState.setPiece(2, 3, GameConstants.RED);
+      boardState.setPiece(1, 2, GameConstants.BLACK_KING);
+      long key = boardState.getZobristKey();
+      BotDecision move = new BotDecision(2, 3, 0, 1, GameConstants.TAKE);
+
+      long undo = boardState.makeMove(move);
+
+      assertEquals(GameConstants.RED_KING, boardState.getPiece(0, 1));
+      assertEquals(Zobrist.hash(boardState), boardState.getZobristKey());
+
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(key, boardState.getZobristKey());
+    }
+
+    @Test
+    void transposedMoveOrdersShouldReachSameKey() {
+      BoardState other = boardState.copy();
+
+      boardState.setPiece(5, 0, GameConstants.EMPTY);
+      boardState.setPiece(4, 1, GameConstants.RED);
+      boardState.setPiece(5, 2, GameConstants.EMPTY);
+      boardState.setPiece(4, 3, GameConstants.RED);
+
+      other.setPiece(5, 2, GameConstants.EMPTY);
+      other.setPiece(4, 3, GameConstants.RED);
+      other.setPiece(5, 0, GameConstants.EMPTY);
+      other.setPiece(4, 1, GameConstants.RED);
+
+      assertEquals(boardState.getZobristKey(), other.getZobristKey());
+    }
+  }
+
+  @Nested
+  class CapturersTest {
+
+    @Test
+    void shouldReturnCapturersOfEachSide() {
+      boardState = new BoardState();
+      boardState.setPiece(4, 3, GameConstants.RED);
+      boardState.setPiece(3, 4, GameConstants.BLACK);
+
+      int red = SquareIndex.bit(SquareIndex.toSquare(4, 3));
+      int black = SquareIndex.bit(SquareIndex.toSquare(3, 4));
+      assertEquals(red, boardState.getCapturers(GameConstants.RED));
+      assertEquals(black, boardState.getCapturers(GameConstants.BLACK_KING));
+    }
+
+    @Test
+    void shouldRecomputeAfterBoardChanges() {
+      boardState = new BoardState();
+      boardState.setPiece(4, 3, GameConstants.RED);
+      boardState.setPiece(3, 4, GameConstants.BLACK);
+      assertNotEquals(0, boardState.getCapturers(GameConstants.RED));
+
+      boardState.setPiece(2, 5, GameConstants.BLACK);
+
+      assertEquals(0, boardState.getCapturers(GameConstants.RED));
+    }
+
+    @Test
+    void shouldFollowMakeAndUnmake() {
+      boardState = new BoardState();
+      boardState.setPiece(5, 2, GameConstants.RED);
+      boardState.setPiece(2, 5, GameConstants.BLACK);
+      BotDecision move = new BotDecision(5, 2, 4, 3, GameConstants.MOVE);
+      assertEquals(0, boardState.getCapturers(GameConstants.RED));
+
+      long undo = boardState.makeMove(move);
+      boardState.setPiece(2, 5, GameConstants.EMPTY);
+      boardState.setPiece(3, 4, GameConstants.BLACK);
+
+      assertNotEquals(0, boardState.getCapturers(GameConstants.RED));
+      assertNotEquals(0, boardState.getCapturers(GameConstants.BLACK));
+
+      boardState.setPiece(3, 4, GameConstants.EMPTY);
+      boardState.setPiece(2, 5, GameConstants.BLACK);
+      boardState.unmakeMove(move, undo);
+
+      assertEquals(0, boardState.getCapturers(GameConstants.RED));
+    }
+  }
+
+  @Nested
+  class EqualityTest {
+
+    @Test
+    void boardsWithSamePiecesShouldBeEqual() {
+      BoardState first = new BoardState();
+      BoardState second = new BoardState();
+      BoardInitializer.setUpPawns(first);
+      BoardInitializer.setUpPawns(second);
+
+      assertEquals(first, second);
+      assertEquals(first.hashCode(), second.hashCode());
+      assertEquals(first, first.copy());
+    }
+
+    @Test
+    void boardsWithDifferentPiecesShouldNotBeEqual() {
+      BoardState first = new BoardState();
+      BoardState second = new BoardState();
+      second.setPiece(0, 1, GameConstants.BLACK);
+
+      assertNotEquals(first, second);
+    }
+
+    @Test
+    void kingShouldDifferFromMan() {
+      BoardState first = new BoardState();
+      BoardState second = new BoardState();
+      first.setPiece(0, 1, GameConstants.BLACK);
+      second.setPiece(0, 1, GameConstants.BLACK_KING);
+
+      assertNotEquals(first, second);
+    }
+
+    @Test
+    void boardsWithDifferentSideToMoveShouldNotBeEqual() {
+      BoardState first = new BoardState();
+      BoardState second = new BoardState();
+      second.setSideToMove(GameConstants.BLACK);
+
+      assertNotEquals(first, second);
+    }
+
+    @Test
+    void copyShouldKeepSideToMoveAndKey() {
+      BoardState original = new BoardState();
+      BoardInitializer.setUpPawns(original);
+      original.setSideToMove(GameConstants.BLACK);
+
+      BoardState copy = original.copy();
+
+      assertEquals(GameConstants.BLACK, copy.getSideToMove());
+      assertEquals(original.getZobristKey(), copy.getZobristKey());
+    }
+  }
+
   @Nested
   class IntegrationTest {
 
     @Test
     void complexUsageScenario() {
 
-      int[][] initialState =
-          new int[GameConstants.BOARD_SIZE][GameConstants.BOARD_SIZE];
-      initialState[0][1] = 1;
-      initialState[0][3] = 1;
-      initialState[7][0] = 2;
-      initialState[7][2] = 2;
+      int[][] initialState = emptyPieces();
+      initialState[0][1] = GameConstants.RED;
+      initialState[0][3] = GameConstants.RED;
+      initialState[7][0] = GameConstants.BLACK;
+      initialState[7][2] = GameConstants.BLACK;
 
       boardState = new BoardState(initialState);
 
@@ -295,7 +735,7 @@ class BoardStateTest {
       assertEquals(1, boardState.getPiece(0, 3));
       assertEquals(2, boardState.getPiece(7, 0));
       assertEquals(2, boardState.getPiece(7, 2));
-      assertEquals(0, boardState.getPiece(3, 3));
+      assertEquals(0, boardState.getPiece(3, 4));
 
       boardState.setPiece(0, 1, 0);
       boardState.setPiece(1, 2, 1);
@@ -314,39 +754,4 @@ class BoardStateTest {
       assertEquals(2, boardState.getPiece(6, 1));
     }
   }
-
-  @Nested
-  class EdgeCaseTest {
-
-    @Test
-    void shouldHandleLargeValues() {
-      boardState = new BoardState();
-
-      boardState.setPiece(0, 0, Integer.MAX_VALUE);
-      boardState.setPiece(1, 1, Integer.MIN_VALUE);
-
-      assertEquals(Integer.MAX_VALUE, boardState.getPiece(0, 0));
-      assertEquals(Integer.MIN_VALUE, boardState.getPiece(1, 1));
-    }
-
-    @Test
-    void multipleCopying() {
-      int[][] testPieces = {{1, 2}, {3, 4}};
-      boardState = new BoardState(testPieces);
-
-      BoardState copy1 = boardState.copy();
-      BoardState copy2 = copy1.copy();
-      BoardState copy3 = copy2.copy();
-
-      assertEquals(1, copy3.getPiece(0, 0));
-      assertEquals(4, copy3.getPiece(1, 1));
-
-      copy2.setPiece(0, 0, 999);
-
-      assertEquals(1, boardState.getPiece(0, 0));
-      assertEquals(1, copy1.getPiece(0, 0));
-      assertEquals(999, copy2.getPiece(0, 0));
-      assertEquals(1, copy3.getPiece(0, 0));
-    }
-  }
-}
\ No newline at end of file
+}
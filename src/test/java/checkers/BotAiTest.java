@@ -1,6 +1,7 @@
 package checkers;
 
 import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -119,9 +120,9 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           possibleMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 possibleMoves, mockBoardState, mockPlayerConfig))
             .thenReturn(mockBestDecision);
 
@@ -140,30 +141,82 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           possibleMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 possibleMoves, mockBoardState, mockPlayerConfig))
             .thenReturn(mockBestDecision);
 
         botAI.makeMove(mockBotState);
 
-        mockedSelector.verify(() -> BestMoveSelector.chooseBestMove(
+        mockedSelector.verify(() -> SearchEngine.chooseBestMove(
             possibleMoves, mockBoardState, mockPlayerConfig));
       }
     }
 
     @Test
-    void shouldReturnBestMoveSelectedByBestMoveSelector() {
+    void shouldPlayPonderedMoveWithoutSearch() {
+
+      ArrayList<BotDecision> possibleMoves = new ArrayList<>();
+      possibleMoves.add(mockBotDecision1);
+      possibleMoves.add(mockBotDecision2);
+      when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
+          possibleMoves);
+      Ponderer ponderer = mock(Ponderer.class);
+      when(mockPlayerConfig.getPonderer()).thenReturn(ponderer);
+      when(ponderer.takeMove(mockBoardState, possibleMoves)).thenReturn(
+          mockBotDecision2);
+      SearchStats stats = new SearchStats(100, 40, 1000, 4, 9, 50, 20, 5,
+          List.of(), List.of());
+      when(ponderer.getSearchStats()).thenReturn(stats);
+
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        BotDecision result =
+            botAI.makeMove(mockBotState, new CancellationToken());
+
+        assertSame(mockBotDecision2, result);
+        mockedSelector.verifyNoInteractions();
+        verify(mockPlayerConfig).setSearchStats(stats);
+      }
+    }
+
+    @Test
+    void shouldPassCancellationTokenToSearchEngine() {
+
+      ArrayList<BotDecision> possibleMoves = new ArrayList<>();
+      possibleMoves.add(mockBotDecision1);
+      possibleMoves.add(mockBotDecision2);
+      when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
+          possibleMoves);
+      CancellationToken cancellation = new CancellationToken();
+
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
+                possibleMoves, mockBoardState, mockPlayerConfig,
+                cancellation))
+            .thenReturn(mockBestDecision);
+
+        BotDecision result = botAI.makeMove(mockBotState, cancellation);
+
+        assertSame(mockBestDecision, result);
+        mockedSelector.verify(() -> SearchEngine.chooseBestMove(
+            possibleMoves, mockBoardState, mockPlayerConfig, cancellation));
+      }
+    }
+
+    @Test
+    void shouldReturnBestMoveSelectedBySearchEngine() {
 
       ArrayList<BotDecision> possibleMoves = new ArrayList<>();
       possibleMoves.add(mockBotDecision1);
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           possibleMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 possibleMoves, mockBoardState, mockPlayerConfig))
             .thenReturn(mockBestDecision);
 
@@ -180,9 +233,9 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           emptyMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 emptyMoves, mockBoardState, mockPlayerConfig))
             .thenReturn(null);
 
@@ -190,7 +243,7 @@ class BotAiTest {
 
         assertNull(result);
         verify(mockMoveService).getPossibleMoves(mockBoardState);
-        mockedSelector.verify(() -> BestMoveSelector.chooseBestMove(
+        mockedSelector.verify(() -> SearchEngine.chooseBestMove(
             emptyMoves, mockBoardState, mockPlayerConfig));
       }
     }
@@ -203,9 +256,9 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           singleMove);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 singleMove, mockBoardState, mockPlayerConfig))
             .thenReturn(mockBotDecision1);
 
@@ -225,9 +278,9 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           multipleMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 multipleMoves, mockBoardState, mockPlayerConfig))
             .thenReturn(mockBotDecision2);
 
@@ -238,7 +291,7 @@ class BotAiTest {
     }
 
     @Test
-    void shouldPassExactSameListToBestMoveSelector() {
+    void shouldPassExactSameListToSearchEngine() {
 
       ArrayList<BotDecision> possibleMoves = new ArrayList<>();
       possibleMoves.add(mockBotDecision1);
@@ -246,9 +299,9 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           possibleMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 (ArrayList<BotDecision>) ArgumentMatchers.<BotDecision>anyList(),
                 eq(mockBoardState),
                 eq(mockPlayerConfig)))
@@ -256,7 +309,7 @@ class BotAiTest {
 
         botAI.makeMove(mockBotState);
 
-        mockedSelector.verify(() -> BestMoveSelector.chooseBestMove(
+        mockedSelector.verify(() -> SearchEngine.chooseBestMove(
             same(possibleMoves), eq(mockBoardState),
             eq(mockPlayerConfig)));
       }
@@ -277,7 +330,7 @@ class BotAiTest {
     }
 
     @Test
-    void shouldThrowExceptionWhenBestMoveSelectorThrowsException() {
+    void shouldThrowExceptionWhenSearchEngineThrowsException() {
 
       ArrayList<BotDecision> possibleMoves = new ArrayList<>();
       possibleMoves.add(mockBotDecision1);
@@ -285,11 +338,11 @@ class BotAiTest {
           possibleMoves);
 
       RuntimeException expectedException =
-          new RuntimeException("BestMoveSelector error");
+          new RuntimeException("SearchEngine error");
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 possibleMoves, mockBoardState, mockPlayerConfig))
             .thenThrow(expectedException);
 
@@ -308,9 +361,9 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           possibleMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 possibleMoves, mockBoardState, mockPlayerConfig))
             .thenReturn(mockBestDecision);
 
@@ -339,9 +392,9 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           possibleMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 possibleMoves, mockBoardState, mockPlayerConfig))
             .thenReturn(mockBotDecision2);
 
@@ -350,7 +403,7 @@ class BotAiTest {
         verify(mockBotState, times(2)).board();
         verify(mockMoveService).getPossibleMoves(mockBoardState);
         verify(mockBotState).playerConfig();
-        mockedSelector.verify(() -> BestMoveSelector.chooseBestMove(
+        mockedSelector.verify(() -> SearchEngine.chooseBestMove(
             possibleMoves, mockBoardState, mockPlayerConfig));
 
         assertSame(mockBotDecision2, result);
@@ -389,16 +442,16 @@ class BotAiTest {
       when(mockMoveService.getPossibleMoves(mockBoardState)).thenReturn(
           possibleMoves);
 
-      try (MockedStatic<BestMoveSelector> mockedSelector = mockStatic(
-          BestMoveSelector.class)) {
-        mockedSelector.when(() -> BestMoveSelector.chooseBestMove(
+      try (MockedStatic<SearchEngine> mockedSelector = mockStatic(
+          SearchEngine.class)) {
+        mockedSelector.when(() -> SearchEngine.chooseBestMove(
                 possibleMoves, mockBoardState, null))
             .thenReturn(mockBestDecision);
 
         BotDecision result = botAI.makeMove(mockBotState);
 
         assertSame(mockBestDecision, result);
-        mockedSelector.verify(() -> BestMoveSelector.chooseBestMove(
+        mockedSelector.verify(() -> SearchEngine.chooseBestMove(
             possibleMoves, mockBoardState, null));
       }
     }
@@ -6,6 +6,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.SwingUtilities;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -33,7 +34,7 @@ import static org.mockito.Mockito.when;
 
 class BotControllerTest {
 
-  private static final long BOT_MOVE_DELAY_MS = GameConstants.BOT_MOVE_DELAY_MS;
+  private static final long DECISION_TIME_MS = 500;
   @Mock
   private BotDecisionService mockDecisionService;
   @Mock
@@ -51,7 +52,8 @@ class BotControllerTest {
     botController =
         new BotController(mockDecisionService, mockMoveExecutor, mockUIHandler);
 
-    when(mockDecisionService.getBotDecision()).thenReturn(mockBotDecision);
+    when(mockDecisionService.getBotDecision(any()))
+        .thenReturn(mockBotDecision);
   }
 
   @AfterEach
@@ -99,6 +101,85 @@ class BotControllerTest {
       assertSame(mockDecisionService, botController.decisionService());
       assertSame(mockMoveExecutor, botController.moveExecutor());
       assertSame(mockUIHandler, botController.uiHandler());
+      assertNotNull(botController.cancellation());
+    }
+  }
+
+  @Nested
+  class CancelTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldNotPlayMoveOfCancelledTurn() throws InterruptedException {
+
+      CountDownLatch searchStarted = new CountDownLatch(1);
+      CountDownLatch searchReturned = new CountDownLatch(1);
+      doAnswer(invocation -> {
+        CancellationToken token = invocation.getArgument(0);
+        searchStarted.countDown();
+        while (!token.isCancelled()) {
+          Thread.onSpinWait();
+        }
+        searchReturned.countDown();
+        return mockBotDecision;
+      }).when(mockDecisionService).getBotDecision(any());
+
+      botController.executeTurn();
+      assertTrue(searchStarted.await(3, TimeUnit.SECONDS));
+      botController.cancel();
+
+      assertTrue(searchReturned.await(3, TimeUnit.SECONDS));
+      Thread.sleep(50);
+      verify(mockMoveExecutor, never()).executeMove(any());
+      verify(mockUIHandler, never()).updateUiAndSwitchTurn();
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldNotApplyDecisionCancelledBeforeItReachesBoard()
+        throws Exception {
+
+      BoardState board = new BoardState();
+      board.setPiece(5, 0, GameConstants.RED);
+      BotController controller = new BotController(mockDecisionService,
+          new BotMoveExecutor(board), mockUIHandler);
+      AtomicReference<Thread> worker = new AtomicReference<>();
+      CountDownLatch decided = new CountDownLatch(1);
+      doAnswer(_ -> {
+        worker.set(Thread.currentThread());
+        decided.countDown();
+        return new BotDecision(5, 0, 4, 1, GameConstants.MOVE);
+      }).when(mockDecisionService).getBotDecision(any());
+      CountDownLatch release = new CountDownLatch(1);
+      SwingUtilities.invokeLater(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+
+      controller.executeTurn();
+      assertTrue(decided.await(3, TimeUnit.SECONDS));
+      worker.get().join();
+      controller.cancel();
+      release.countDown();
+      SwingUtilities.invokeAndWait(() -> { });
+
+      assertEquals(GameConstants.RED, board.getPiece(5, 0));
+      assertEquals(GameConstants.EMPTY, board.getPiece(4, 1));
+      verify(mockDecisionService, never()).startPondering();
+      verify(mockUIHandler, never()).updateUiAndSwitchTurn();
+    }
+
+    @Test
+    void shouldNotStartTurnOnceCancelled() {
+
+      botController.cancel();
+      botController.executeTurn();
+
+      assertTrue(botController.cancellation().isCancelled());
+      verify(mockDecisionService, never()).getBotDecision(any());
     }
   }
 
@@ -127,6 +208,25 @@ class BotControllerTest {
       assertNotEquals(mainThreadName, threadName.get());
     }
 
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldApplyMoveOnEventDispatchThread() throws InterruptedException {
+
+      CountDownLatch latch = new CountDownLatch(1);
+      AtomicBoolean onEventThread = new AtomicBoolean();
+
+      doAnswer(_ -> {
+        onEventThread.set(SwingUtilities.isEventDispatchThread());
+        latch.countDown();
+        return null;
+      }).when(mockMoveExecutor).executeMove(mockBotDecision);
+
+      botController.executeTurn();
+
+      assertTrue(latch.await(3, TimeUnit.SECONDS));
+      assertTrue(onEventThread.get());
+    }
+
     @Test
 
     @Timeout(value = 5, unit = TimeUnit.SECONDS)
@@ -144,8 +244,9 @@ class BotControllerTest {
       botController.executeTurn();
 
       assertTrue(latch.await(3, TimeUnit.SECONDS));
-      inOrder.verify(mockDecisionService).getBotDecision();
+      inOrder.verify(mockDecisionService).getBotDecision(any());
       inOrder.verify(mockMoveExecutor).executeMove(mockBotDecision);
+      inOrder.verify(mockDecisionService).startPondering();
       inOrder.verify(mockUIHandler).updateUiAndSwitchTurn();
     }
 
@@ -156,7 +257,8 @@ class BotControllerTest {
 
       CountDownLatch latch = new CountDownLatch(1);
       BotDecision specificDecision = mock(BotDecision.class);
-      when(mockDecisionService.getBotDecision()).thenReturn(specificDecision);
+      when(mockDecisionService.getBotDecision(any()))
+          .thenReturn(specificDecision);
 
       doAnswer(_ -> {
         latch.countDown();
@@ -172,7 +274,7 @@ class BotControllerTest {
     @Test
 
     @Timeout(value = 5, unit = TimeUnit.SECONDS)
-    void shouldWaitBotMoveDelayBeforeExecution() throws InterruptedException {
+    void shouldRequestDecisionWithoutFixedDelay() throws InterruptedException {
 
       CountDownLatch latch = new CountDownLatch(1);
       long startTime = System.currentTimeMillis();
@@ -182,13 +284,13 @@ class BotControllerTest {
         executionTime.set(System.currentTimeMillis());
         latch.countDown();
         return null;
-      }).when(mockDecisionService).getBotDecision();
+      }).when(mockDecisionService).getBotDecision(any());
 
       botController.executeTurn();
 
       assertTrue(latch.await(3, TimeUnit.SECONDS));
       long actualDelay = executionTime.get() - startTime;
-      assertTrue(actualDelay >= BOT_MOVE_DELAY_MS - 50);
+      assertTrue(actualDelay < DECISION_TIME_MS);
     }
 
     @Test
@@ -212,14 +314,14 @@ class BotControllerTest {
           threadStartedLatch.countDown();
 
           try {
-            Thread.sleep(GameConstants.BOT_MOVE_DELAY_MS);
+            Thread.sleep(DECISION_TIME_MS);
           } catch (InterruptedException e) {
             System.err.println("Thread was interrupted: " + e.getMessage());
           }
 
           turnCompletedLatch.countDown();
           return null;
-        }).when(mockDecisionService).getBotDecision();
+        }).when(mockDecisionService).getBotDecision(any());
 
         botController.executeTurn();
 
@@ -256,7 +358,7 @@ class BotControllerTest {
         workerThread.set(Thread.currentThread());
         interruptLatch.countDown();
         return mockBotDecision;
-      }).when(mockDecisionService).getBotDecision();
+      }).when(mockDecisionService).getBotDecision(any());
 
       doAnswer(_ -> {
         completionLatch.countDown();
@@ -271,7 +373,7 @@ class BotControllerTest {
       }
 
       assertTrue(completionLatch.await(3, TimeUnit.SECONDS));
-      verify(mockDecisionService).getBotDecision();
+      verify(mockDecisionService).getBotDecision(any());
       verify(mockMoveExecutor).executeMove(mockBotDecision);
       verify(mockUIHandler).updateUiAndSwitchTurn();
     }
@@ -287,7 +389,8 @@ class BotControllerTest {
           new RuntimeException("Decision service error");
       AtomicReference<Throwable> caughtException = new AtomicReference<>();
 
-      when(mockDecisionService.getBotDecision()).thenThrow(expectedException);
+      when(mockDecisionService.getBotDecision(any()))
+          .thenThrow(expectedException);
 
       Thread.UncaughtExceptionHandler originalHandler =
           Thread.getDefaultUncaughtExceptionHandler();
@@ -302,7 +405,7 @@ class BotControllerTest {
 
         assertTrue(latch.await(3, TimeUnit.SECONDS));
         assertSame(expectedException, caughtException.get());
-        verify(mockDecisionService).getBotDecision();
+        verify(mockDecisionService).getBotDecision(any());
         verify(mockMoveExecutor, never()).executeMove(any());
         verify(mockUIHandler, never()).updateUiAndSwitchTurn();
 
@@ -337,7 +440,7 @@ class BotControllerTest {
 
         assertTrue(latch.await(3, TimeUnit.SECONDS));
         assertSame(expectedException, caughtException.get());
-        verify(mockDecisionService).getBotDecision();
+        verify(mockDecisionService).getBotDecision(any());
         verify(mockMoveExecutor).executeMove(mockBotDecision);
         verify(mockUIHandler, never()).updateUiAndSwitchTurn();
 
@@ -371,7 +474,7 @@ class BotControllerTest {
 
         assertTrue(latch.await(3, TimeUnit.SECONDS));
         assertSame(expectedException, caughtException.get());
-        verify(mockDecisionService).getBotDecision();
+        verify(mockDecisionService).getBotDecision(any());
         verify(mockMoveExecutor).executeMove(mockBotDecision);
         verify(mockUIHandler).updateUiAndSwitchTurn();
 
@@ -397,7 +500,7 @@ class BotControllerTest {
       botController.executeTurn();
 
       assertTrue(latch.await(5, TimeUnit.SECONDS));
-      verify(mockDecisionService, times(3)).getBotDecision();
+      verify(mockDecisionService, times(3)).getBotDecision(any());
       verify(mockMoveExecutor, times(3)).executeMove(mockBotDecision);
       verify(mockUIHandler, times(3)).updateUiAndSwitchTurn();
     }
@@ -405,7 +508,7 @@ class BotControllerTest {
     @Test
 
     @Timeout(value = 10, unit = TimeUnit.SECONDS)
-    void differentCallsShouldRunInDifferentThreads()
+    void differentCallsShouldSearchInDifferentThreads()
         throws InterruptedException {
 
       CountDownLatch latch = new CountDownLatch(2);
@@ -420,8 +523,8 @@ class BotControllerTest {
           thread2Name.set(Thread.currentThread().getName());
         }
         latch.countDown();
-        return null;
-      }).when(mockUIHandler).updateUiAndSwitchTurn();
+        return mockBotDecision;
+      }).when(mockDecisionService).getBotDecision(any());
 
       botController.executeTurn();
       botController.executeTurn();
@@ -530,12 +633,13 @@ class BotControllerTest {
     @Test
     void shouldBeEqualToAnotherControllerWithSameDependencies() {
 
+      CancellationToken cancellation = new CancellationToken();
       BotController controller1 =
           new BotController(mockDecisionService, mockMoveExecutor,
-              mockUIHandler);
+              mockUIHandler, cancellation);
       BotController controller2 =
           new BotController(mockDecisionService, mockMoveExecutor,
-              mockUIHandler);
+              mockUIHandler, cancellation);
 
       assertEquals(controller1, controller2);
       assertEquals(controller1.hashCode(), controller2.hashCode());
@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.same;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -245,6 +246,37 @@ class BotDecisionServiceTest {
 
   }
 
+  @Nested
+  class StartPonderingTest {
+
+    @Test
+    void shouldStartPondererOfPlayerConfig() {
+
+      BoardState board = new BoardState();
+      PlayerConfig config = new PlayerConfig();
+      config.setBotColor(GameConstants.BLACK);
+      Ponderer ponderer = mock(Ponderer.class);
+      config.setPonderer(ponderer);
+      when(mockBotState.board()).thenReturn(board);
+      when(mockBotState.playerConfig()).thenReturn(config);
+
+      botDecisionService.startPondering();
+
+      verify(ponderer).start(board, GameConstants.BLACK,
+          config.getSearchConfig());
+    }
+
+    @Test
+    void shouldDoNothingWithoutPonderer() {
+
+      when(mockBotState.playerConfig()).thenReturn(new PlayerConfig());
+
+      botDecisionService.startPondering();
+
+      verify(mockBotState, never()).board();
+    }
+  }
+
   @Nested
   class IntegrationTest {
 
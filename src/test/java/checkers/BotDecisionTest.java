@@ -33,6 +33,16 @@ class BotDecisionTest {
       assertEquals(moveType, decision.moveType());
     }
 
+    @Test
+    void shortConstructorShouldLeaveCapturedMaskEmpty() {
+
+      BotDecision decision = new BotDecision(5, 0, 3, 2, GameConstants.TAKE);
+
+      assertEquals(0, decision.capturedMask());
+      assertEquals(new BotDecision(5, 0, 3, 2, GameConstants.TAKE, 0),
+          decision);
+    }
+
     @Test
     void shouldAcceptZeroValues() {
 
@@ -14,71 +14,46 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 class BotMoveExecutorTest {
 
   private static final int RED = GameConstants.RED;
   private static final int BLACK = GameConstants.BLACK;
-  private static final int RED_KING = GameConstants.RED_KING;
-  private static final int BLACK_KING = GameConstants.BLACK_KING;
-  final PromotionService promotionService = mock(PromotionService.class);
   final BoardState boardState = mock(BoardState.class);
-  final PlayerConfig playerConfig = mock(PlayerConfig.class);
-  final BotMoveExecutor executor =
-      new BotMoveExecutor(promotionService, boardState, playerConfig);
+  final BotMoveExecutor executor = new BotMoveExecutor(boardState);
 
   @Nested
   class ConstructorTest {
 
     @Test
-    void shouldCreateInstanceWithGivenDependencies() {
-      BotMoveExecutor localExecutor =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
+    void shouldCreateInstanceWithGivenBoard() {
+      BotMoveExecutor localExecutor = new BotMoveExecutor(boardState);
 
       assertNotNull(localExecutor);
-      assertEquals(promotionService, localExecutor.promotionService());
       assertEquals(boardState, localExecutor.boardState());
-      assertEquals(playerConfig, localExecutor.playerConfig());
     }
 
     @Test
-    void shouldAcceptNullDependencies() {
-      BotMoveExecutor localExecutor = new BotMoveExecutor(null, null, null);
+    void shouldAcceptNullBoard() {
+      BotMoveExecutor localExecutor = new BotMoveExecutor(null);
 
-      assertNull(localExecutor.promotionService());
       assertNull(localExecutor.boardState());
-      assertNull(localExecutor.playerConfig());
     }
   }
 
   @Nested
   class AccessorMethodsTest {
 
-    @Test
-    void accessorsShouldReturnCorrectValues() {
-      BotMoveExecutor localExecutor =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-
-      assertEquals(promotionService, localExecutor.promotionService());
-      assertEquals(boardState, localExecutor.boardState());
-      assertEquals(playerConfig, localExecutor.playerConfig());
-    }
-
     @Test
     void eachInstanceShouldMaintainItsOwnValues() {
-      PromotionService ps2 = mock(PromotionService.class);
       BoardState bs2 = mock(BoardState.class);
-      PlayerConfig pc2 = mock(PlayerConfig.class);
 
-      BotMoveExecutor exec1 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-      BotMoveExecutor exec2 = new BotMoveExecutor(ps2, bs2, pc2);
+      BotMoveExecutor exec1 = new BotMoveExecutor(boardState);
+      BotMoveExecutor exec2 = new BotMoveExecutor(bs2);
 
       assertNotEquals(exec1, exec2);
-      assertEquals(promotionService, exec1.promotionService());
-      assertEquals(ps2, exec2.promotionService());
+      assertEquals(boardState, exec1.boardState());
+      assertEquals(bs2, exec2.boardState());
     }
   }
 
@@ -86,46 +61,17 @@ class BotMoveExecutorTest {
   class EqualsTest {
 
     @Test
-    void shouldBeEqualToAnotherWithSameDependencies() {
-      BotMoveExecutor exec1 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-      BotMoveExecutor exec2 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-
-      assertEquals(exec1, exec2);
-    }
-
-    @Test
-    void shouldNotBeEqualIfDifferentPromotionService() {
-      PromotionService otherPs = mock(PromotionService.class);
-      BotMoveExecutor exec1 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-      BotMoveExecutor exec2 =
-          new BotMoveExecutor(otherPs, boardState, playerConfig);
-
-      assertNotEquals(exec1, exec2);
+    void shouldBeEqualToAnotherWithSameBoard() {
+      assertEquals(new BotMoveExecutor(boardState),
+          new BotMoveExecutor(boardState));
     }
 
     @Test
     void shouldNotBeEqualIfDifferentBoardState() {
       BoardState otherBs = mock(BoardState.class);
-      BotMoveExecutor exec1 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-      BotMoveExecutor exec2 =
-          new BotMoveExecutor(promotionService, otherBs, playerConfig);
 
-      assertNotEquals(exec1, exec2);
-    }
-
-    @Test
-    void shouldNotBeEqualIfDifferentPlayerConfig() {
-      PlayerConfig otherPc = mock(PlayerConfig.class);
-      BotMoveExecutor exec1 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-      BotMoveExecutor exec2 =
-          new BotMoveExecutor(promotionService, boardState, otherPc);
-
-      assertNotEquals(exec1, exec2);
+      assertNotEquals(new BotMoveExecutor(boardState),
+          new BotMoveExecutor(otherBs));
     }
   }
 
@@ -134,82 +80,36 @@ class BotMoveExecutorTest {
 
     @Test
     void shouldReturnSameHashCodeForEqualObjects() {
-      BotMoveExecutor exec1 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-      BotMoveExecutor exec2 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-
-      assertEquals(exec1.hashCode(), exec2.hashCode());
+      assertEquals(new BotMoveExecutor(boardState).hashCode(),
+          new BotMoveExecutor(boardState).hashCode());
     }
 
     @Test
     void shouldReturnConsistentHashCode() {
-      BotMoveExecutor exec =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-
-      int h1 = exec.hashCode();
-      int h2 = exec.hashCode();
+      int h1 = executor.hashCode();
+      int h2 = executor.hashCode();
 
       assertEquals(h1, h2);
     }
-
-    @Test
-    void shouldReturnDifferentHashCodeForDifferentObjects() {
-      PromotionService ps2 = mock(PromotionService.class);
-      BotMoveExecutor exec1 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-      BotMoveExecutor exec2 =
-          new BotMoveExecutor(ps2, boardState, playerConfig);
-
-      assertNotEquals(exec1.hashCode(), exec2.hashCode());
-    }
   }
 
   @Nested
   class ToStringTest {
 
     @Test
-    void shouldContainClassNameAndFieldNames() {
-      BotMoveExecutor exec =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-
-      String text = exec.toString();
-
-      assertTrue(text.contains("BotMoveExecutor"));
-      assertTrue(text.contains("promotionService"));
-      assertTrue(text.contains("boardState"));
-      assertTrue(text.contains("playerConfig"));
-    }
-
-    @Test
-    void shouldNotBeNullOrEmpty() {
-      BotMoveExecutor exec =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-
-      String text = exec.toString();
+    void shouldContainClassNameAndFieldName() {
+      String text = executor.toString();
 
       assertNotNull(text);
       assertFalse(text.isEmpty());
+      assertTrue(text.contains("BotMoveExecutor"));
+      assertTrue(text.contains("boardState"));
     }
   }
 
   @Nested
   class ExecuteMoveTest {
 
-    @Test
-    void shouldApplyMoveAndThenPromote() {
-      BotDecision decision = new BotDecision(2, 1, 3, 2, 1);
-      when(playerConfig.getBotColor()).thenReturn(RED);
-
-      try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(decision);
-
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(3, 2, RED);
-      }
-    }
-
     @ParameterizedTest
     @CsvSource({
         "0,0,1,1,1",
@@ -217,18 +117,16 @@ class BotMoveExecutorTest {
         "3,4,4,5,3",
         "5,5,0,0,4"
     })
-    void shouldCallPromotionWithCorrectCoordinatesAndColor(
-        int fromRow, int fromCol, int toRow, int toCol, int color) {
-
-      BotDecision decision = new BotDecision(fromRow, fromCol, toRow, toCol, 1);
-      when(playerConfig.getBotColor()).thenReturn(color);
+    void shouldApplyMoveToBoard(int fromRow, int fromCol, int toRow,
+                                int toCol, int type) {
+      BotDecision decision =
+          new BotDecision(fromRow, fromCol, toRow, toCol, type);
 
       try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
         executor.executeMove(decision);
 
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(toRow, toCol, color);
+        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision,
+            boardState));
       }
     }
 
@@ -236,28 +134,12 @@ class BotMoveExecutorTest {
     void shouldHandleVeryLargeCoordinates() {
       int max = Integer.MAX_VALUE;
       BotDecision decision = new BotDecision(max, max, max, max, max);
-      when(playerConfig.getBotColor()).thenReturn(BLACK);
 
       try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
         assertDoesNotThrow(() -> executor.executeMove(decision));
 
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(max, max, BLACK);
-      }
-    }
-
-    @Test
-    void shouldHandleNegativeCoordinates() {
-      BotDecision decision = new BotDecision(-1, -2, -3, -4, -5);
-      when(playerConfig.getBotColor()).thenReturn(RED);
-
-      try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(decision);
-
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(-3, -4, RED);
+        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision,
+            boardState));
       }
     }
   }
@@ -266,145 +148,39 @@ class BotMoveExecutorTest {
   class BusinessScenariosTest {
 
     @Test
-    void shouldRepresentRegularRedMove() {
-      BotDecision decision = new BotDecision(2, 1, 3, 2, 1);
-      when(playerConfig.getBotColor()).thenReturn(RED);
+    void shouldPromoteBlackPieceToKingOnLastRow() {
+      BoardState board = new BoardState();
+      board.setPiece(6, 1, BLACK);
 
-      try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(decision);
+      new BotMoveExecutor(board).executeMove(
+          new BotDecision(6, 1, 7, 0, GameConstants.MOVE));
 
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(3, 2, RED);
-      }
-    }
-
-    @Test
-    void shouldRepresentCaptureBlackMove() {
-      BotDecision decision = new BotDecision(5, 2, 3, 4, 2);
-      when(playerConfig.getBotColor()).thenReturn(BLACK);
-
-      try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(decision);
-
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(3, 4, BLACK);
-      }
-    }
-
-    @Test
-    void shouldPromoteRedPieceToKingOnLastRow() {
-      BotDecision decision = new BotDecision(6, 1, 7, 0, 1);
-      when(playerConfig.getBotColor()).thenReturn(RED);
-
-      try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(decision);
-
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(7, 0, RED);
-      }
-    }
-
-    @Test
-    void shouldPromoteBlackPieceToKingOnFirstRow() {
-      BotDecision decision = new BotDecision(1, 2, 0, 3, 1);
-      when(playerConfig.getBotColor()).thenReturn(BLACK);
-
-      try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(decision);
-
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(0, 3, BLACK);
-      }
-    }
-
-    @Test
-    void shouldHandleAlreadyRedKingMove() {
-      BotDecision decision = new BotDecision(4, 4, 5, 5, 3);
-      when(playerConfig.getBotColor()).thenReturn(RED_KING);
-
-      try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(decision);
-
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(5, 5, RED_KING);
-      }
-    }
-
-    @Test
-    void shouldHandleAlreadyBlackKingMove() {
-      BotDecision decision = new BotDecision(2, 2, 1, 1, 3);
-      when(playerConfig.getBotColor()).thenReturn(BLACK_KING);
-
-      try (MockedStatic<MoveExecutor> mocked = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(decision);
-
-        mocked.verify(() -> MoveExecutor.applyMoveToBoard(decision, boardState,
-            playerConfig));
-        verify(promotionService).promoteIfNeeded(1, 1, BLACK_KING);
-      }
+      assertEquals(GameConstants.BLACK_KING, board.getPiece(7, 0));
+      assertEquals(GameConstants.EMPTY, board.getPiece(6, 1));
     }
 
     @Test
-    void shouldHandleMovesOnBoardEdges() {
-      BotDecision topLeft = new BotDecision(0, 0, 1, 1, 1);
-      BotDecision topRight = new BotDecision(0, 7, 1, 6, 1);
-      BotDecision bottomLeft = new BotDecision(7, 0, 6, 1, 1);
-      BotDecision bottomRight = new BotDecision(7, 7, 6, 6, 1);
-
-      when(playerConfig.getBotColor()).thenReturn(RED);
-
-      try (MockedStatic<MoveExecutor> _ = mockStatic(MoveExecutor.class)) {
-        executor.executeMove(topLeft);
-        executor.executeMove(topRight);
-        executor.executeMove(bottomLeft);
-        executor.executeMove(bottomRight);
-
-        verify(promotionService).promoteIfNeeded(1, 1, RED);
-        verify(promotionService).promoteIfNeeded(1, 6, RED);
-        verify(promotionService).promoteIfNeeded(6, 1, RED);
-        verify(promotionService).promoteIfNeeded(6, 6, RED);
-      }
-    }
-  }
+    void shouldPromoteRedPieceToKingAfterCapture() {
+      BoardState board = new BoardState();
+      board.setPiece(2, 3, RED);
+      board.setPiece(1, 2, BLACK);
 
-  @Nested
-  class ImmutabilityTest {
+      new BotMoveExecutor(board).executeMove(
+          new BotDecision(2, 3, 0, 1, GameConstants.TAKE));
 
-    @Test
-    void recordShouldBeImmutableMultipleCallsShouldReturnSameValues() {
-      BotMoveExecutor exec =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-
-      for (int i = 0; i < 5; i++) {
-        assertEquals(promotionService, exec.promotionService());
-        assertEquals(boardState, exec.boardState());
-        assertEquals(playerConfig, exec.playerConfig());
-      }
+      assertEquals(GameConstants.RED_KING, board.getPiece(0, 1));
+      assertEquals(GameConstants.EMPTY, board.getPiece(1, 2));
     }
 
     @Test
-    void differentInstancesShouldRemainIndependent() {
-      PromotionService ps2 = mock(PromotionService.class);
-      BoardState bs2 = mock(BoardState.class);
-      PlayerConfig pc2 = mock(PlayerConfig.class);
-
-      BotMoveExecutor exec1 =
-          new BotMoveExecutor(promotionService, boardState, playerConfig);
-      BotMoveExecutor exec2 = new BotMoveExecutor(ps2, bs2, pc2);
+    void shouldNotPromoteBeforeLastRow() {
+      BoardState board = new BoardState();
+      board.setPiece(5, 2, RED);
 
-      assertEquals(promotionService, exec1.promotionService());
-      assertEquals(ps2, exec2.promotionService());
-
-      assertEquals(boardState, exec1.boardState());
-      assertEquals(bs2, exec2.boardState());
+      new BotMoveExecutor(board).executeMove(
+          new BotDecision(5, 2, 4, 3, GameConstants.MOVE));
 
-      assertEquals(playerConfig, exec1.playerConfig());
-      assertEquals(pc2, exec2.playerConfig());
+      assertEquals(RED, board.getPiece(4, 3));
     }
   }
 }
@@ -0,0 +1,27 @@
+package checkers;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CancellationTokenTest {
+
+  @Test
+  void shouldStartNotCancelled() {
+    CancellationToken token = new CancellationToken();
+
+    assertFalse(token.isCancelled());
+    assertFalse(token.signal().get());
+  }
+
+  @Test
+  void shouldStayCancelled() {
+    CancellationToken token = new CancellationToken();
+
+    token.cancel();
+    token.cancel();
+
+    assertTrue(token.isCancelled());
+    assertTrue(token.signal().get());
+  }
+}
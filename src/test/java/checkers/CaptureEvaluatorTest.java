@@ -299,4 +299,19 @@ class CaptureEvaluatorTest {
       }
     }
   }
+
+  @Nested
+  class KnownCaptureTests {
+
+    @Test
+    void shouldScoreKnownCaptureWithoutScanningBoard() {
+      try (var mocked = mockStatic(CaptureRules.class)) {
+        assertEquals(GameConstants.SCORE_TAKE_POSSIBLE,
+            CaptureEvaluator.evaluateCaptureOpportunities(true));
+        assertEquals(0, CaptureEvaluator.evaluateCaptureOpportunities(false));
+
+        mocked.verifyNoInteractions();
+      }
+    }
+  }
 }
@@ -53,11 +53,67 @@ class CaptureHandlerTest {
                   TO_ROW, TO_COL, PIECE_COLOR))
           .thenReturn(true);
 
-      captureHandler.handleCapture(FROM_ROW, FROM_COL, TO_ROW, TO_COL);
+      int result = captureHandler.handleCapture(FROM_ROW, FROM_COL, TO_ROW,
+          TO_COL);
+
+      verify(executor).execute(boardState, FROM_ROW, FROM_COL, TO_ROW, TO_COL,
+          PIECE_COLOR, turnManager);
+      verify(turnFlow).afterMove();
+      assertEquals(CaptureHandler.COMPLETED, result);
+    }
+  }
+
+  @Test
+  void shouldKeepTurnWhenPieceCanCaptureAgain() {
+
+    when(boardState.getPiece(FROM_ROW, FROM_COL)).thenReturn(PIECE_COLOR);
+    when(boardState.getPiece(TO_ROW, TO_COL)).thenReturn(PIECE_COLOR);
+    when(turnFlow.turnManager()).thenReturn(turnManager);
+
+    try (MockedStatic<CaptureValidator> captureValidator = mockStatic(
+        CaptureValidator.class);
+         MockedStatic<CaptureRules> captureRules = mockStatic(
+             CaptureRules.class)) {
+      captureValidator.when(() ->
+              CaptureValidator.isValidCapture(boardState, FROM_ROW, FROM_COL,
+                  TO_ROW, TO_COL, PIECE_COLOR))
+          .thenReturn(true);
+      captureRules.when(() -> CaptureRules.canCapture(TO_COL, TO_ROW,
+          boardState)).thenReturn(true);
+
+      int result = captureHandler.handleCapture(FROM_ROW, FROM_COL, TO_ROW,
+          TO_COL);
 
       verify(executor).execute(boardState, FROM_ROW, FROM_COL, TO_ROW, TO_COL,
           PIECE_COLOR, turnManager);
+      verify(turnFlow, never()).afterMove();
+      assertEquals(CaptureHandler.CONTINUES, result);
+    }
+  }
+
+  @Test
+  void shouldEndTurnWhenPieceIsPromoted() {
+
+    when(boardState.getPiece(FROM_ROW, FROM_COL)).thenReturn(PIECE_COLOR);
+    when(boardState.getPiece(TO_ROW, TO_COL))
+        .thenReturn(GameConstants.RED_KING);
+    when(turnFlow.turnManager()).thenReturn(turnManager);
+
+    try (MockedStatic<CaptureValidator> captureValidator = mockStatic(
+        CaptureValidator.class);
+         MockedStatic<CaptureRules> captureRules = mockStatic(
+             CaptureRules.class)) {
+      captureValidator.when(() ->
+              CaptureValidator.isValidCapture(boardState, FROM_ROW, FROM_COL,
+                  TO_ROW, TO_COL, PIECE_COLOR))
+          .thenReturn(true);
+
+      int result = captureHandler.handleCapture(FROM_ROW, FROM_COL, TO_ROW,
+          TO_COL);
+
+      captureRules.verifyNoInteractions();
       verify(turnFlow).afterMove();
+      assertEquals(CaptureHandler.COMPLETED, result);
     }
   }
 
@@ -73,11 +129,13 @@ class CaptureHandlerTest {
                   TO_ROW, TO_COL, PIECE_COLOR))
           .thenReturn(false);
 
-      captureHandler.handleCapture(FROM_ROW, FROM_COL, TO_ROW, TO_COL);
+      int result = captureHandler.handleCapture(FROM_ROW, FROM_COL, TO_ROW,
+          TO_COL);
 
       verify(executor, never()).execute(any(), anyInt(), anyInt(), anyInt(),
           anyInt(), anyInt(), any());
       verify(turnFlow, never()).afterMove();
+      assertEquals(CaptureHandler.REJECTED, result);
     }
   }
 
@@ -0,0 +1,104 @@
+package checkers;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaptureMasksTest {
+
+  private static int bit(final int row, final int col) {
+    return SquareIndex.bit(SquareIndex.toSquare(row, col));
+  }
+
+  private static int scanCapturers(final int color, final BoardState board) {
+    int mask = 0;
+    for (int pieces = board.getColorMask(color); pieces != 0;
+         pieces &= pieces - 1) {
+      int sq = Integer.numberOfTrailingZeros(pieces);
+      if (CaptureRules.canCapture(SquareIndex.colOf(sq),
+          SquareIndex.rowOf(sq), board)) {
+        mask |= SquareIndex.bit(sq);
+      }
+    }
+    return mask;
+  }
+
+  @Test
+  void menShouldNotCaptureBackwards() {
+    BoardState board = new BoardState();
+    board.setPiece(4, 3, GameConstants.RED);
+    board.setPiece(5, 4, GameConstants.BLACK);
+
+    assertEquals(0, CaptureMasks.capturers(GameConstants.RED, board));
+    assertEquals(0, CaptureMasks.capturers(GameConstants.BLACK, board));
+
+    board.setPiece(5, 4, GameConstants.BLACK_KING);
+
+    assertEquals(bit(5, 4),
+        CaptureMasks.capturers(GameConstants.BLACK, board));
+  }
+
+  @Test
+  void shouldFindManCaptureForward() {
+    BoardState board = new BoardState();
+    board.setPiece(4, 3, GameConstants.RED);
+    board.setPiece(3, 2, GameConstants.BLACK);
+
+    assertEquals(bit(4, 3), CaptureMasks.capturers(GameConstants.RED, board));
+  }
+
+  @Test
+  void shouldNotCaptureWhenLandingIsBlocked() {
+    BoardState board = new BoardState();
+    board.setPiece(4, 3, GameConstants.RED);
+    board.setPiece(3, 4, GameConstants.BLACK);
+    board.setPiece(2, 5, GameConstants.BLACK);
+
+    assertFalse(CaptureMasks.hasCapture(GameConstants.RED, board));
+  }
+
+  @Test
+  void shouldFindDistantKingCapture() {
+    BoardState board = new BoardState();
+    board.setPiece(7, 0, GameConstants.BLACK_KING);
+    board.setPiece(2, 5, GameConstants.RED);
+
+    assertEquals(bit(7, 0),
+        CaptureMasks.capturers(GameConstants.BLACK_KING, board));
+  }
+
+  @Test
+  void kingShouldNotCaptureBehindOwnPiece() {
+    BoardState board = new BoardState();
+    board.setPiece(7, 0, GameConstants.BLACK_KING);
+    board.setPiece(5, 2, GameConstants.BLACK);
+    board.setPiece(2, 5, GameConstants.RED);
+
+    assertFalse(CaptureMasks.hasCapture(GameConstants.BLACK, board));
+  }
+
+  @Test
+  void shouldMatchRowColumnRulesOnRandomPositions() {
+    SplittableRandom random = new SplittableRandom(5);
+    for (int i = 0; i < 2000; i++) {
+      BoardState board = BitboardMoveGeneratorTest.randomBoard(random);
+
+      assertEquals(scanCapturers(GameConstants.RED, board),
+          CaptureMasks.capturers(GameConstants.RED, board), board::toString);
+      assertEquals(scanCapturers(GameConstants.BLACK, board),
+          CaptureMasks.capturers(GameConstants.BLACK, board),
+          board::toString);
+    }
+  }
+
+  @Test
+  void oppositeShouldPairDirections() {
+    assertEquals(SquareTables.DOWN_RIGHT,
+        CaptureMasks.opposite(SquareTables.UP_LEFT));
+    assertEquals(SquareTables.DOWN_LEFT,
+        CaptureMasks.opposite(SquareTables.UP_RIGHT));
+    assertTrue(CaptureMasks.opposite(CaptureMasks.opposite(1)) == 1);
+  }
+}
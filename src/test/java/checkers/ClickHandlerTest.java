@@ -4,13 +4,16 @@ import java.awt.event.MouseEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.intThat;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -180,4 +183,46 @@ class ClickHandlerTest {
 
     verify(mouseInputHandler).handleMouseInput(anyInt(), anyInt());
   }
-}
\ No newline at end of file
+
+  @Test
+  void mouseReleased_shouldStopPonderingBeforeHandlingClick(
+      @Mock final Ponderer ponderer) {
+
+    when(mouseEvent.getX()).thenReturn(0);
+    when(mouseEvent.getY()).thenReturn(0);
+
+    new ClickHandler(mouseInputHandler, ponderer).mouseReleased(mouseEvent);
+
+    InOrder inOrder = inOrder(ponderer, mouseInputHandler);
+    inOrder.verify(ponderer).stop();
+    inOrder.verify(mouseInputHandler).handleMouseInput(0, 0);
+  }
+
+  @Test
+  void mouseReleased_shouldIgnoreClickDuringBotsTurn(
+      @Mock final Ponderer ponderer, @Mock final TurnManager turnManager) {
+
+    when(mouseEvent.getX()).thenReturn(0);
+    when(mouseEvent.getY()).thenReturn(0);
+    when(turnManager.isCurrentPlayerBot()).thenReturn(true);
+
+    new ClickHandler(mouseInputHandler, ponderer, turnManager)
+        .mouseReleased(mouseEvent);
+
+    verifyNoInteractions(mouseInputHandler, ponderer);
+  }
+
+  @Test
+  void mouseReleased_shouldHandleClickDuringHumansTurn(
+      @Mock final TurnManager turnManager) {
+
+    when(mouseEvent.getX()).thenReturn(0);
+    when(mouseEvent.getY()).thenReturn(0);
+    when(turnManager.isCurrentPlayerBot()).thenReturn(false);
+
+    new ClickHandler(mouseInputHandler, null, turnManager)
+        .mouseReleased(mouseEvent);
+
+    verify(mouseInputHandler).handleMouseInput(0, 0);
+  }
+}
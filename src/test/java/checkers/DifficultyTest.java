@@ -0,0 +1,39 @@
+package checkers;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DifficultyTest {
+
+  @Test
+  void mediumShouldUseDefaultSearchConfig() {
+    assertEquals(SearchConfig.DEFAULT, Difficulty.MEDIUM.searchConfig());
+  }
+
+  @Test
+  void harderLevelsShouldSearchAtLeastAsLong() {
+    Difficulty[] levels = Difficulty.values();
+    for (int i = 1; i < levels.length; i++) {
+      SearchConfig easier = levels[i - 1].searchConfig();
+      SearchConfig harder = levels[i].searchConfig();
+      assertTrue(harder.depth() >= easier.depth());
+      assertTrue(harder.timeBudgetMs() > easier.timeBudgetMs());
+    }
+  }
+
+  @Test
+  void shouldShowLabel() {
+    assertEquals("Easy", Difficulty.EASY.toString());
+    assertEquals("Hard", Difficulty.HARD.toString());
+  }
+
+  @Test
+  void onlyHardShouldUseSeveralThreads() {
+    assertEquals(1, Difficulty.EASY.searchConfig().threads());
+    assertEquals(1, Difficulty.MEDIUM.searchConfig().threads());
+    assertEquals(Math.min(SearchConfig.MAX_THREADS,
+            Runtime.getRuntime().availableProcessors()),
+        Difficulty.HARD.searchConfig().threads());
+  }
+}
@@ -0,0 +1,183 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ForkJoinSearchTest {
+
+  private static final int RANDOM_POSITIONS = 50;
+
+  private static final int THREADS = 4;
+
+  private static void assertMatchesPlainNegamax(final int depth,
+                                                final int threads) {
+    SplittableRandom random = new SplittableRandom(depth);
+    TranspositionTable table = new TranspositionTable(1);
+    try (ForkJoinSearch search = new ForkJoinSearch(
+        SearchEngineTest.fullWidth(depth, threads), table)) {
+      for (int i = 0; i < RANDOM_POSITIONS; i++) {
+        table.clear();
+        BoardState board = BitboardMoveGeneratorTest.randomBoard(random);
+        board.setSideToMove(random.nextBoolean() ? GameConstants.RED
+            : GameConstants.BLACK);
+
+        assertEquals(SearchEngineTest.plainNegamax(board, depth, 0),
+            search.search(board, depth), board::toString);
+      }
+    }
+  }
+
+  private static BoardState startPosition() {
+    BoardState board = new BoardState();
+    BoardInitializer.setUpPawns(board);
+    return board;
+  }
+
+  @Nested
+  class SearchTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4, 5})
+    void sequentialSearchShouldMatchPlainNegamax(final int depth) {
+      assertMatchesPlainNegamax(depth, 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4, 5})
+    void parallelSearchShouldMatchPlainNegamax(final int depth) {
+      assertMatchesPlainNegamax(depth, THREADS);
+    }
+
+    @Test
+    void shouldRestoreBoard() {
+      BoardState board = startPosition();
+      BoardState before = board.copy();
+
+      try (ForkJoinSearch search = new ForkJoinSearch(
+          new SearchConfig(7, SearchConfig.NO_TIME_LIMIT, THREADS),
+          new TranspositionTable(1))) {
+        search.search(board, 7);
+      }
+
+      assertEquals(before, board);
+      assertEquals(before.getZobristKey(), board.getZobristKey());
+    }
+
+    @Test
+    void sequentialFallbackShouldBeDeterministic() {
+      SearchConfig config = new SearchConfig(8);
+      TranspositionTable firstTable = new TranspositionTable(1);
+      TranspositionTable secondTable = new TranspositionTable(1);
+
+      try (ForkJoinSearch first = new ForkJoinSearch(config, firstTable);
+           ForkJoinSearch second = new ForkJoinSearch(config, secondTable)) {
+        assertEquals(first.search(startPosition(), 8),
+            second.search(startPosition(), 8));
+        assertEquals(first.getNodes(), second.getNodes());
+        assertTrue(first.getSplitNodes() > 0);
+      }
+    }
+  }
+
+  @Nested
+  class SearchRootTest {
+
+    @Test
+    void shouldCompleteEveryDepthWithoutTimeLimit() {
+      BoardState board = startPosition();
+      BoardState before = board.copy();
+      ArrayList<BotDecision> moves =
+          SearchEngineTest.rootMoves(GameConstants.RED, board);
+
+      try (ForkJoinSearch search = new ForkJoinSearch(
+          new SearchConfig(7, SearchConfig.NO_TIME_LIMIT, THREADS),
+          new TranspositionTable(1))) {
+        BotDecision decision = search.searchRoot(moves, board,
+            GameConstants.RED);
+
+        assertTrue(moves.contains(decision), decision::toString);
+        assertEquals(7, search.getCompletedDepth());
+      }
+      assertEquals(before, board);
+    }
+
+    @Test
+    void shouldStopWhenBudgetRunsOut() {
+      BoardState board = startPosition();
+      ArrayList<BotDecision> moves =
+          SearchEngineTest.rootMoves(GameConstants.RED, board);
+
+      try (ForkJoinSearch search = new ForkJoinSearch(
+          new SearchConfig(SearchConfig.MAX_DEPTH, 50, THREADS),
+          new TranspositionTable(1))) {
+        BotDecision decision = search.searchRoot(moves, board,
+            GameConstants.RED);
+
+        assertTrue(moves.contains(decision), decision::toString);
+        assertTrue(search.getCompletedDepth() > 0);
+        assertTrue(search.getCompletedDepth() < SearchConfig.MAX_DEPTH);
+      }
+    }
+
+    @Test
+    void shouldReturnSingleMoveWithoutSearch() {
+      BoardState board = startPosition();
+      ArrayList<BotDecision> moves = new ArrayList<>(
+          SearchEngineTest.rootMoves(GameConstants.RED, board).subList(0, 1));
+
+      try (ForkJoinSearch search = new ForkJoinSearch(
+          new SearchConfig(6), new TranspositionTable(1))) {
+        assertEquals(moves.get(0), search.searchRoot(moves, board,
+            GameConstants.RED));
+        assertEquals(0, search.getNodes());
+      }
+    }
+  }
+
+  @Nested
+  class CutoffTest {
+
+    private static final int DEPTH = 30;
+
+    private static final int BETA = 500;
+
+    private static final int REFUTATION = 1000;
+
+    private static final int CUTOFF_THREADS = 8;
+
+    private void store(final TranspositionTable table, final BoardState board,
+                       final int move, final int score) {
+      BoardState child = board.copy();
+      child.makeMove(move);
+      table.store(child.getZobristKey(), DEPTH, TranspositionTable.EXACT,
+          score, MoveEncoding.NO_MOVE);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS,
+        threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void failHighShouldStopRunningSiblings() {
+      BoardState board = startPosition();
+      MoveList moves = new MoveList();
+      MoveGenerator.generateMoves(GameConstants.RED, board, moves);
+      TranspositionTable table = new TranspositionTable(16);
+      store(table, board, moves.get(0), 0);
+      store(table, board, moves.get(moves.size() - 1), -REFUTATION);
+
+      try (ForkJoinSearch search = new ForkJoinSearch(
+          new SearchConfig(DEPTH, SearchConfig.NO_TIME_LIMIT, CUTOFF_THREADS),
+          table)) {
+        assertEquals(REFUTATION, search.searchWindow(board, DEPTH,
+            -SearchEngine.INFINITY, BETA));
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package checkers;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HintServiceTest {
+
+  private PlayerConfig config;
+  private BoardState board;
+
+  @BeforeEach
+  void setUp() {
+    config = new PlayerConfig();
+    config.setHumanColor(GameConstants.BLACK);
+    config.setBotColor(GameConstants.RED);
+    config.setSearchConfig(new SearchConfig(4));
+    board = new BoardState();
+    BoardInitializer.setUpPawns(board);
+  }
+
+  @Nested
+  class GetHintsTest {
+
+    @Test
+    void shouldSuggestMovesOfHumanColor() {
+      BoardState before = board.copy();
+
+      List<AnalysisLine> hints = new HintService(config).getHints(board,
+          GameConstants.HINT_LINES);
+
+      assertEquals(GameConstants.HINT_LINES, hints.size());
+      for (AnalysisLine hint : hints) {
+        assertTrue(SearchEngineTest.rootMoves(GameConstants.BLACK, board)
+            .contains(hint.move()), hint::toString);
+      }
+      assertEquals(before, board);
+    }
+
+    @Test
+    void shouldSuggestMandatoryCaptureOnly() {
+      BoardState position = BoardNotation.parse(
+          "b:.....b...r......................");
+      config.setTranspositionTable(new TranspositionTable(1));
+
+      List<AnalysisLine> hints = new HintService(config).getHints(position,
+          GameConstants.HINT_LINES);
+
+      assertEquals(1, hints.size());
+      assertEquals("6x15", BoardNotation.formatDecision(
+          hints.getFirst().move()));
+    }
+
+    @Test
+    void shouldStopPondering() throws InterruptedException {
+      Ponderer ponderer = new Ponderer(new TranspositionTable(1));
+      config.setPonderer(ponderer);
+      ponderer.start(board, GameConstants.RED, new SearchConfig(
+          SearchConfig.MAX_DEPTH, SearchConfig.NO_TIME_LIMIT));
+
+      new HintService(config).getHints(board, 1);
+
+      assertFalse(ponderer.isPondering());
+    }
+  }
+
+  @Nested
+  class FormatTest {
+
+    @Test
+    void shouldWriteMoveScoreAndVariation() {
+      BotDecision first = new BotDecision(5, 0, 4, 1, GameConstants.MOVE);
+      BotDecision reply = new BotDecision(2, 1, 3, 2, GameConstants.MOVE);
+
+      String text = HintService.format(List.of(
+          new AnalysisLine(first, 20, List.of(first, reply))));
+
+      assertEquals("1. 21-17 (+0.20) 9-14\n", text);
+    }
+
+    @Test
+    void shouldReportMissingMoves() {
+      assertEquals("No moves available", HintService.format(List.of()));
+    }
+
+    @Test
+    void shouldWriteWinsAndLossesInMoves() {
+      assertEquals("win in 1",
+          HintService.formatScore(GameConstants.SCORE_WIN - 1));
+      assertEquals("win in 2",
+          HintService.formatScore(GameConstants.SCORE_WIN - 3));
+      assertEquals("loss in 1",
+          HintService.formatScore(-GameConstants.SCORE_WIN + 2));
+      assertEquals("-1.50", HintService.formatScore(-150));
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package checkers;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KingRaysTest {
+
+  private static int bit(final int row, final int col) {
+    return SquareIndex.bit(SquareIndex.toSquare(row, col));
+  }
+
+  @Test
+  void emptyBoardShouldReachWholeRay() {
+    int square = SquareIndex.toSquare(7, 0);
+
+    assertEquals(SquareTables.rayMask(SquareTables.UP_RIGHT, square),
+        KingRays.reachable(SquareTables.UP_RIGHT, square, 0));
+    assertEquals(SquareTables.NONE,
+        KingRays.firstBlocker(SquareTables.UP_RIGHT, square, 0));
+  }
+
+  @Test
+  void shouldStopAtFirstBlocker() {
+    int square = SquareIndex.toSquare(7, 0);
+    int occupied = bit(4, 3) | bit(2, 5);
+
+    assertEquals(bit(6, 1) | bit(5, 2),
+        KingRays.reachable(SquareTables.UP_RIGHT, square, occupied));
+    assertEquals(SquareIndex.toSquare(4, 3),
+        KingRays.firstBlocker(SquareTables.UP_RIGHT, square, occupied));
+  }
+
+  @Test
+  void shouldIgnorePiecesOutsideTheRay() {
+    int square = SquareIndex.toSquare(7, 0);
+
+    assertEquals(SquareTables.rayMask(SquareTables.UP_RIGHT, square),
+        KingRays.reachable(SquareTables.UP_RIGHT, square, ~SquareTables
+            .rayMask(SquareTables.UP_RIGHT, square)));
+  }
+
+  @Test
+  void shouldFindCaptureLandingBehindEnemy() {
+    int square = SquareIndex.toSquare(7, 0);
+    int enemy = bit(4, 3);
+
+    assertEquals(SquareIndex.toSquare(3, 4), KingRays.captureLanding(
+        SquareTables.UP_RIGHT, square, enemy, enemy));
+    assertEquals(SquareTables.NONE, KingRays.captureLanding(
+        SquareTables.UP_RIGHT, square, enemy, enemy | bit(3, 4)));
+    assertEquals(SquareTables.NONE, KingRays.captureLanding(
+        SquareTables.UP_RIGHT, square, 0, enemy));
+  }
+
+  @Test
+  void shouldMatchRayWalkForRandomOccupancies() {
+    SplittableRandom random = new SplittableRandom(13);
+    for (int i = 0; i < 5000; i++) {
+      int occupied = random.nextInt() & random.nextInt();
+      int enemies = occupied & random.nextInt();
+      int square = random.nextInt(SquareIndex.SQUARE_COUNT);
+      occupied &= ~SquareIndex.bit(square);
+      int moves = 0;
+      int captures = 0;
+      for (int dir = 0; dir < SquareTables.DIRECTION_COUNT; dir++) {
+        for (int target : SquareTables.raySquares(dir, square)) {
+          int targetBit = SquareIndex.bit(target);
+          if ((occupied & targetBit) == 0) {
+            moves |= targetBit;
+            continue;
+          }
+          int landing = SquareTables.neighbourMask(dir, target);
+          if ((enemies & targetBit) != 0) {
+            captures |= landing & ~occupied;
+          }
+          break;
+        }
+      }
+
+      assertEquals(moves, KingRays.moveTargets(square, occupied));
+      assertEquals(captures,
+          KingRays.captureTargets(square, enemies, occupied));
+    }
+  }
+}
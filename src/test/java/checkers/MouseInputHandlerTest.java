@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -228,4 +230,76 @@ class MouseInputHandlerTest {
 
     verify(moveValidator).canSelectPiece(row, col);
   }
-}
\ No newline at end of file
+
+  @Test
+  void handleMouseInput_CaptureContinues_ShouldKeepPieceSelected() {
+
+    when(moveValidator.isValidPosition(anyInt(), anyInt())).thenReturn(true);
+    when(moveValidator.canSelectPiece(5, 0)).thenReturn(true);
+    when(moveValidator.mustTake()).thenReturn(true);
+    when(captureHandler.handleCapture(5, 0, 3, 2))
+        .thenReturn(CaptureHandler.CONTINUES);
+    when(captureHandler.handleCapture(3, 2, 1, 4))
+        .thenReturn(CaptureHandler.COMPLETED);
+
+    mouseInputHandler.handleMouseInput(5, 0);
+    mouseInputHandler.handleMouseInput(3, 2);
+
+    verify(selectionState).setSelectedColumn(2);
+    verify(selectionState).setSelectedRow(3);
+
+    mouseInputHandler.handleMouseInput(1, 4);
+
+    verify(captureHandler).handleCapture(3, 2, 1, 4);
+    verify(moveValidator).mustTake();
+    verify(selectionState, times(2))
+        .setSelectedColumn(GameConstants.BOARD_SIZE);
+    verifyNoInteractions(moveCoordinator);
+  }
+
+  @Test
+  void isContinuingCapture_ShouldHoldUntilCaptureIsCompleted() {
+
+    when(moveValidator.isValidPosition(anyInt(), anyInt())).thenReturn(true);
+    when(moveValidator.canSelectPiece(5, 0)).thenReturn(true);
+    when(moveValidator.mustTake()).thenReturn(true);
+    when(captureHandler.handleCapture(5, 0, 3, 2))
+        .thenReturn(CaptureHandler.CONTINUES);
+    when(captureHandler.handleCapture(3, 2, 1, 4))
+        .thenReturn(CaptureHandler.COMPLETED);
+
+    mouseInputHandler.handleMouseInput(5, 0);
+    assertFalse(mouseInputHandler.isContinuingCapture());
+    mouseInputHandler.handleMouseInput(3, 2);
+    assertTrue(mouseInputHandler.isContinuingCapture());
+    mouseInputHandler.handleMouseInput(1, 4);
+    assertFalse(mouseInputHandler.isContinuingCapture());
+  }
+
+  @Test
+  void handleMouseInput_InvalidClickDuringCapture_ShouldKeepSelection() {
+
+    when(moveValidator.isValidPosition(anyInt(), anyInt())).thenReturn(true);
+    when(moveValidator.isValidPosition(0, 0)).thenReturn(false);
+    when(moveValidator.canSelectPiece(5, 0)).thenReturn(true);
+    when(moveValidator.mustTake()).thenReturn(true);
+    when(captureHandler.handleCapture(5, 0, 3, 2))
+        .thenReturn(CaptureHandler.CONTINUES);
+    when(captureHandler.handleCapture(3, 2, 3, 4))
+        .thenReturn(CaptureHandler.REJECTED);
+
+    mouseInputHandler.handleMouseInput(5, 0);
+    mouseInputHandler.handleMouseInput(3, 2);
+    mouseInputHandler.handleMouseInput(0, 0);
+    mouseInputHandler.handleMouseInput(3, 4);
+
+    verify(selectionState, times(2)).setSelectedColumn(2);
+    verify(selectionState, times(2)).setSelectedRow(3);
+
+    mouseInputHandler.handleMouseInput(1, 4);
+
+    verify(captureHandler).handleCapture(3, 2, 1, 4);
+    verify(moveValidator).mustTake();
+    verify(moveValidator, never()).canSelectPiece(3, 4);
+  }
+}
@@ -0,0 +1,125 @@
+package checkers;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveEncodingTest {
+
+  @Nested
+  class PackingTest {
+
+    @Test
+    void shouldRoundTripAllFields() {
+      int move = MoveEncoding.encode(31, 22, GameConstants.KING_TAKE, 26,
+          true);
+
+      assertEquals(31, MoveEncoding.from(move));
+      assertEquals(22, MoveEncoding.to(move));
+      assertEquals(GameConstants.KING_TAKE, MoveEncoding.type(move));
+      assertEquals(26, MoveEncoding.capturedSquare(move));
+      assertEquals(SquareIndex.bit(26), MoveEncoding.capturedMask(move));
+      assertTrue(MoveEncoding.isCapture(move));
+      assertTrue(MoveEncoding.isPromotion(move));
+    }
+
+    @Test
+    void normalMoveShouldHaveNoCapturedMask() {
+      int move = MoveEncoding.encode(0, 4, GameConstants.MOVE, 9, false);
+
+      assertFalse(MoveEncoding.isCapture(move));
+      assertFalse(MoveEncoding.isPromotion(move));
+      assertEquals(0, MoveEncoding.capturedMask(move));
+    }
+
+    @Test
+    void encodedMovesShouldNeverEqualNoMove() {
+      int move = MoveEncoding.encode(31, 31, GameConstants.KING_TAKE, 31,
+          true);
+
+      assertTrue(move >= 0);
+      assertTrue(move != MoveEncoding.NO_MOVE);
+    }
+  }
+
+  @Nested
+  class PathTest {
+
+    @Test
+    void shouldStoreLongestPath() {
+      long path = 0;
+      for (int hop = 0; hop < MoveEncoding.MAX_PATH_LENGTH; hop++) {
+        path = MoveEncoding.appendToPath(path, hop, 31 - hop);
+      }
+
+      for (int hop = 0; hop < MoveEncoding.MAX_PATH_LENGTH; hop++) {
+        assertEquals(31 - hop, MoveEncoding.pathSquare(path, hop));
+      }
+    }
+
+    @Test
+    void shouldConvertListEntryWithAllCapturedSquares() {
+      MoveList moves = new MoveList();
+      int captured = SquareIndex.bit(SquareIndex.toSquare(4, 1))
+          | SquareIndex.bit(SquareIndex.toSquare(2, 3));
+      moves.add(MoveEncoding.encode(SquareIndex.toSquare(5, 0),
+          SquareIndex.toSquare(1, 4), GameConstants.TAKE,
+          SquareIndex.toSquare(4, 1), false), captured, 0);
+
+      assertEquals(new BotDecision(5, 0, 1, 4, GameConstants.TAKE, captured),
+          MoveEncoding.toDecision(moves, 0));
+    }
+  }
+
+  @Nested
+  class DecisionTest {
+
+    @Test
+    void shouldConvertToDecision() {
+      int move = MoveEncoding.encode(SquareIndex.toSquare(5, 2),
+          SquareIndex.toSquare(3, 4), GameConstants.TAKE,
+          SquareIndex.toSquare(4, 3), false);
+
+      assertEquals(new BotDecision(5, 2, 3, 4, GameConstants.TAKE),
+          MoveEncoding.toDecision(move));
+    }
+
+    @Test
+    void shouldPackDecisionWithCapturedSquareAndPromotion() {
+      BoardState board = new BoardState();
+      board.setPiece(2, 1, GameConstants.RED);
+      BotDecision decision = new BotDecision(2, 1, 0, 3, GameConstants.TAKE);
+
+      int move = MoveEncoding.fromDecision(decision, board);
+
+      assertEquals(SquareIndex.toSquare(1, 2),
+          MoveEncoding.capturedSquare(move));
+      assertTrue(MoveEncoding.isPromotion(move));
+      assertEquals(decision, MoveEncoding.toDecision(move));
+    }
+
+    @Test
+    void shouldPackKingCaptureWithSquareBeforeLanding() {
+      BoardState board = new BoardState();
+      board.setPiece(7, 0, GameConstants.BLACK_KING);
+      BotDecision decision =
+          new BotDecision(7, 0, 2, 5, GameConstants.KING_TAKE);
+
+      int move = MoveEncoding.fromDecision(decision, board);
+
+      assertEquals(SquareIndex.toSquare(3, 4),
+          MoveEncoding.capturedSquare(move));
+      assertFalse(MoveEncoding.isPromotion(move));
+    }
+  }
+
+  @Test
+  void promotesShouldOnlyCrownMenOnTheirLastRow() {
+    assertTrue(MoveEncoding.promotes(GameConstants.RED, 2));
+    assertFalse(MoveEncoding.promotes(GameConstants.RED, 30));
+    assertTrue(MoveEncoding.promotes(GameConstants.BLACK, 30));
+    assertFalse(MoveEncoding.promotes(GameConstants.BLACK_KING, 30));
+  }
+}
@@ -13,6 +13,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class MoveEvaluatorTest {
@@ -78,8 +79,8 @@ class MoveEvaluatorTest {
     assertEquals(expectedTotalScore, actualScore);
 
     moveExecutorMock.verify(() ->
-        MoveExecutor.applyMoveToBoard(testDecision, testBoardState,
-            testPlayerConfig), times(1));
+        MoveExecutor.applyMoveToBoard(testDecision, testBoardState),
+        times(1));
     threatEvaluatorMock.verify(() ->
         ThreatEvaluator.evaluatePlayerThreats(testDecision, testBoardState,
             testPlayerConfig), times(1));
@@ -260,8 +261,7 @@ class MoveEvaluatorTest {
         testPlayerConfig);
 
     moveExecutorMock.verify(
-        () -> MoveExecutor.applyMoveToBoard(testDecision, testBoardState,
-            testPlayerConfig));
+        () -> MoveExecutor.applyMoveToBoard(testDecision, testBoardState));
     threatEvaluatorMock.verify(
         () -> ThreatEvaluator.evaluatePlayerThreats(testDecision,
             testBoardState, testPlayerConfig));
@@ -291,7 +291,7 @@ class MoveEvaluatorTest {
     RuntimeException expectedException =
         new RuntimeException("MoveExecutor failed");
     moveExecutorMock.when(() ->
-            MoveExecutor.applyMoveToBoard(any(), any(), any()))
+            MoveExecutor.applyMoveToBoard(any(), any()))
         .thenThrow(expectedException);
 
     RuntimeException actualException =
@@ -338,8 +338,7 @@ class MoveEvaluatorTest {
         testPlayerConfig);
 
     moveExecutorMock.verify(() ->
-        MoveExecutor.applyMoveToBoard(testDecision, testBoardState,
-            testPlayerConfig));
+        MoveExecutor.applyMoveToBoard(testDecision, testBoardState));
 
     threatEvaluatorMock.verify(() ->
         ThreatEvaluator.evaluatePlayerThreats(testDecision, testBoardState,
@@ -351,4 +350,55 @@ class MoveEvaluatorTest {
         PromotionEvaluator.evaluatePromotionChance(testDecision, testBoardState,
             testPlayerConfig));
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldEvaluateMadeMoveWithoutApplyingItAgain() {
+
+    long undo = MoveUndo.of(0, 0, 1);
+    when(testPlayerConfig.getHumanColor()).thenReturn(GameConstants.RED);
+    when(testPlayerConfig.getBotColor()).thenReturn(GameConstants.BLACK);
+    when(testBoardState.getCapturers(GameConstants.RED)).thenReturn(1);
+    when(testBoardState.getCapturers(GameConstants.BLACK)).thenReturn(2);
+
+    threatEvaluatorMock.when(() ->
+            ThreatEvaluator.evaluatePlayerThreats(testDecision, testBoardState,
+                true))
+        .thenReturn(-20);
+
+    captureEvaluatorMock.when(() ->
+            CaptureEvaluator.evaluateCaptureOpportunities(true))
+        .thenReturn(10);
+
+    promotionEvaluatorMock.when(() ->
+            PromotionEvaluator.evaluatePromotion(undo))
+        .thenReturn(15);
+
+    int actualScore = MoveEvaluator.evaluateMadeMove(testDecision,
+        testBoardState, testPlayerConfig, undo);
+
+    assertEquals(5, actualScore);
+    moveExecutorMock.verifyNoInteractions();
+    promotionEvaluatorMock.verify(() ->
+        PromotionEvaluator.evaluatePromotionChance(any(), any(), any()),
+        times(0));
+  }
+
+  @Test
+  void shouldPassCachedCaptureInformationToEvaluators() {
+
+    when(testPlayerConfig.getHumanColor()).thenReturn(GameConstants.RED);
+    when(testPlayerConfig.getBotColor()).thenReturn(GameConstants.BLACK);
+    when(testBoardState.getCapturers(GameConstants.RED)).thenReturn(0);
+    when(testBoardState.getCapturers(GameConstants.BLACK)).thenReturn(0);
+
+    MoveEvaluator.evaluateMadeMove(testDecision, testBoardState,
+        testPlayerConfig, 0L);
+
+    threatEvaluatorMock.verify(() -> ThreatEvaluator.evaluatePlayerThreats(
+        testDecision, testBoardState, false));
+    captureEvaluatorMock.verify(() ->
+        CaptureEvaluator.evaluateCaptureOpportunities(false));
+    threatEvaluatorMock.verify(() -> ThreatEvaluator.evaluatePlayerThreats(
+        any(), any(), any(PlayerConfig.class)), times(0));
+  }
+}
@@ -1,10 +1,12 @@
 package checkers;
 
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.reset;
@@ -19,9 +21,6 @@ class MoveExecutorTest {
   @Mock
   private BoardState mockBoard;
 
-  @Mock
-  private PlayerConfig mockPlayerConfig;
-
   @Mock
   private BotDecision mockDecision;
 
@@ -157,7 +156,7 @@ class MoveExecutorTest {
     when(mockDecision.toCol()).thenReturn(2);
     when(mockBoard.getPiece(2, 1)).thenReturn(GameConstants.RED);
 
-    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard, mockPlayerConfig);
+    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard);
 
     verify(mockBoard).getPiece(2, 1);
     verify(mockBoard).setPiece(2, 1, GameConstants.EMPTY);
@@ -172,9 +171,9 @@ class MoveExecutorTest {
     when(mockDecision.fromCol()).thenReturn(0);
     when(mockDecision.toRow()).thenReturn(3);
     when(mockDecision.toCol()).thenReturn(2);
-    when(mockPlayerConfig.getBotColor()).thenReturn(GameConstants.BLACK);
+    when(mockBoard.getPiece(1, 0)).thenReturn(GameConstants.BLACK);
 
-    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard, mockPlayerConfig);
+    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard);
 
     verify(mockBoard).setPiece(1, 0, GameConstants.EMPTY);
     verify(mockBoard).setPiece(3, 2, GameConstants.BLACK);
@@ -189,9 +188,9 @@ class MoveExecutorTest {
     when(mockDecision.fromCol()).thenReturn(1);
     when(mockDecision.toRow()).thenReturn(3);
     when(mockDecision.toCol()).thenReturn(4);
-    when(mockPlayerConfig.getBotKingColor()).thenReturn(GameConstants.RED_KING);
+    when(mockBoard.getPiece(0, 1)).thenReturn(GameConstants.RED_KING);
 
-    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard, mockPlayerConfig);
+    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard);
 
     verify(mockBoard).setPiece(0, 1, GameConstants.EMPTY);
     verify(mockBoard).setPiece(3, 4, GameConstants.RED_KING);
@@ -203,10 +202,9 @@ class MoveExecutorTest {
 
     when(mockDecision.moveType()).thenReturn(999);
 
-    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard, mockPlayerConfig);
+    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard);
 
     verifyNoInteractions(mockBoard);
-    verifyNoInteractions(mockPlayerConfig);
   }
 
   @Test
@@ -219,7 +217,7 @@ class MoveExecutorTest {
     when(mockDecision.toCol()).thenReturn(7);
     when(mockBoard.getPiece(0, 0)).thenReturn(GameConstants.BLACK_KING);
 
-    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard, mockPlayerConfig);
+    MoveExecutor.applyMoveToBoard(mockDecision, mockBoard);
 
     verify(mockBoard).getPiece(0, 0);
     verify(mockBoard).setPiece(0, 0, GameConstants.EMPTY);
@@ -252,4 +250,119 @@ class MoveExecutorTest {
     MoveExecutor.executeCapture(5, 6, 3, 4, GameConstants.BLACK, mockBoard);
     verify(mockBoard).setPiece(4, 5, GameConstants.EMPTY);
   }
-}
\ No newline at end of file
+
+  @Test
+  void testExecuteCaptureChainRemovesAllCapturedPieces() {
+    int captured = SquareIndex.bit(SquareIndex.toSquare(4, 1))
+        | SquareIndex.bit(SquareIndex.toSquare(2, 3));
+
+    MoveExecutor.executeCaptureChain(5, 0, 1, 4, GameConstants.RED, captured,
+        mockBoard);
+
+    verify(mockBoard).setPiece(5, 0, GameConstants.EMPTY);
+    verify(mockBoard).setPiece(1, 4, GameConstants.RED);
+    verify(mockBoard).setPiece(4, 1, GameConstants.EMPTY);
+    verify(mockBoard).setPiece(2, 3, GameConstants.EMPTY);
+    verifyNoMoreInteractions(mockBoard);
+  }
+
+  @Test
+  void testApplyMoveToBoardCaptureChain() {
+    int captured = SquareIndex.bit(SquareIndex.toSquare(2, 1))
+        | SquareIndex.bit(SquareIndex.toSquare(4, 3));
+    BotDecision decision = new BotDecision(1, 0, 5, 4, GameConstants.TAKE,
+        captured);
+    when(mockBoard.getPiece(1, 0)).thenReturn(GameConstants.BLACK);
+
+    MoveExecutor.applyMoveToBoard(decision, mockBoard);
+
+    verify(mockBoard).getPiece(1, 0);
+    verify(mockBoard).setPiece(1, 0, GameConstants.EMPTY);
+    verify(mockBoard).setPiece(5, 4, GameConstants.BLACK);
+    verify(mockBoard).setPiece(2, 1, GameConstants.EMPTY);
+    verify(mockBoard).setPiece(4, 3, GameConstants.EMPTY);
+    verifyNoMoreInteractions(mockBoard);
+  }
+
+  @Test
+  void testApplyMoveToBoardKingCaptureChain() {
+    int captured = SquareIndex.bit(SquareIndex.toSquare(2, 3))
+        | SquareIndex.bit(SquareIndex.toSquare(5, 2));
+    BotDecision decision = new BotDecision(0, 1, 6, 1,
+        GameConstants.KING_TAKE, captured);
+    when(mockBoard.getPiece(0, 1)).thenReturn(GameConstants.BLACK_KING);
+
+    MoveExecutor.applyMoveToBoard(decision, mockBoard);
+
+    verify(mockBoard).getPiece(0, 1);
+    verify(mockBoard).setPiece(0, 1, GameConstants.EMPTY);
+    verify(mockBoard).setPiece(6, 1, GameConstants.BLACK_KING);
+    verify(mockBoard).setPiece(2, 3, GameConstants.EMPTY);
+    verify(mockBoard).setPiece(5, 2, GameConstants.EMPTY);
+    verifyNoMoreInteractions(mockBoard);
+  }
+
+  @Test
+  void testApplyMoveToBoardMovesEitherSide() {
+    BoardState board = new BoardState();
+    board.setPiece(5, 2, GameConstants.RED);
+    board.setPiece(2, 3, GameConstants.BLACK);
+
+    MoveExecutor.applyMoveToBoard(
+        new BotDecision(5, 2, 4, 3, GameConstants.MOVE), board);
+    MoveExecutor.applyMoveToBoard(
+        new BotDecision(2, 3, 3, 2, GameConstants.MOVE), board);
+
+    assertEquals(GameConstants.RED, board.getPiece(4, 3));
+    assertEquals(GameConstants.BLACK, board.getPiece(3, 2));
+    assertEquals(GameConstants.EMPTY, board.getPiece(5, 2));
+    assertEquals(GameConstants.EMPTY, board.getPiece(2, 3));
+  }
+
+  @Test
+  void testApplyMoveToBoardPromotesManCapturingOntoLastRow() {
+    BoardState board = new BoardState();
+    board.setPiece(2, 1, GameConstants.RED);
+    board.setPiece(1, 2, GameConstants.BLACK);
+    int captured = SquareIndex.bit(SquareIndex.toSquare(1, 2));
+
+    MoveExecutor.applyMoveToBoard(
+        new BotDecision(2, 1, 0, 3, GameConstants.TAKE, captured), board);
+
+    assertEquals(GameConstants.RED_KING, board.getPiece(0, 3));
+    assertEquals(GameConstants.EMPTY, board.getPiece(1, 2));
+  }
+
+  @Test
+  void testApplyMoveToBoardPromotesManMovingOntoLastRow() {
+    BoardState board = new BoardState();
+    board.setPiece(6, 1, GameConstants.BLACK);
+
+    MoveExecutor.applyMoveToBoard(
+        new BotDecision(6, 1, 7, 0, GameConstants.MOVE), board);
+
+    assertEquals(GameConstants.BLACK_KING, board.getPiece(7, 0));
+  }
+
+  @Test
+  void testApplyMoveToBoardMatchesBoardStateMakeMove() {
+    SplittableRandom random = new SplittableRandom(24);
+    for (int i = 0; i < 200; i++) {
+      BoardState board = BitboardMoveGeneratorTest.randomBoard(random);
+      int color = random.nextBoolean() ? GameConstants.RED
+          : GameConstants.BLACK;
+      for (BotDecision decision : SearchEngineTest.rootMoves(color, board)) {
+        BoardState applied = board.copy();
+        BoardState made = board.copy();
+
+        MoveExecutor.applyMoveToBoard(decision, applied);
+        made.makeMove(decision);
+
+        for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+          assertEquals(made.getPieceAt(square), applied.getPieceAt(square),
+              decision::toString);
+        }
+      }
+    }
+  }
+}
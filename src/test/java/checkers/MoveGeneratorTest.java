@@ -1,379 +1,159 @@
 package checkers;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatchers;
-import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.junit.jupiter.MockitoExtension;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.anyInt;
-import static org.mockito.Mockito.eq;
-import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 class MoveGeneratorTest {
 
   private static final int BOT_COLOR = GameConstants.BLACK;
   private static final int BOT_KING_COLOR = GameConstants.BLACK_KING;
   private static final int OPPONENT_COLOR = GameConstants.RED;
   private static final int EMPTY_CELL = GameConstants.EMPTY;
-  @Mock
-  private PlayerConfig playerConfig;
-  @Mock
-  private BoardState boardState;
   private MoveGenerator moveGenerator;
 
   @BeforeEach
   void setUp() {
-    when(playerConfig.getBotColor()).thenReturn(BOT_COLOR);
-    when(playerConfig.getBotKingColor()).thenReturn(BOT_KING_COLOR);
+    PlayerConfig playerConfig = new PlayerConfig();
+    playerConfig.setBotColor(BOT_COLOR);
     moveGenerator = new MoveGenerator(playerConfig);
   }
 
-  @Test
-  void shouldReturnEmptyListWhenNoBotPieces() {
-
-    mockBoardWithNoBotPieces();
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class)) {
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(false);
-
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
-
-      assertTrue(result.isEmpty());
-    }
-  }
-
-  @Test
-  void shouldGenerateCaptureMovesWhenMustTake() {
-
-    mockBoardWithBotPiece(BOT_COLOR);
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<CaptureGenerator> captureGeneratorMock = mockStatic(
-             CaptureGenerator.class);
-         MockedStatic<PieceRules> pieceRulesMock = mockStatic(
-             PieceRules.class)) {
-
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(true);
-      captureRulesMock.when(() -> CaptureRules.canCapture(0, 0, boardState))
-          .thenReturn(true);
-      pieceRulesMock.when(() -> PieceRules.isKing(BOT_COLOR)).thenReturn(false);
-
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
-
-      captureGeneratorMock.verify(() -> CaptureGenerator.findRegularCaptures(
-          eq(0), eq(0), eq(BOT_COLOR), ArgumentMatchers.any(), eq(boardState)));
-      assertNotNull(result);
-    }
-  }
-
-  @Test
-  void shouldGenerateKingCaptureMovesWhenPieceIsKing() {
-
-    mockBoardWithBotPiece(BOT_KING_COLOR);
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<CaptureGenerator> captureGeneratorMock = mockStatic(
-             CaptureGenerator.class);
-         MockedStatic<PieceRules> pieceRulesMock = mockStatic(
-             PieceRules.class)) {
-
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(true);
-      captureRulesMock.when(() -> CaptureRules.canCapture(0, 0, boardState))
-          .thenReturn(true);
-      pieceRulesMock.when(() -> PieceRules.isKing(BOT_KING_COLOR))
-          .thenReturn(true);
-
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
-
-      captureGeneratorMock.verify(() -> CaptureGenerator.findKingCaptures(
-          eq(0), eq(0), eq(BOT_KING_COLOR), ArgumentMatchers.any(),
-          eq(boardState)));
-      assertNotNull(result);
+  private static int mask(final int... squares) {
+    int mask = 0;
+    for (int i = 0; i < squares.length; i += 2) {
+      mask |= SquareIndex.bit(SquareIndex.toSquare(squares[i],
+          squares[i + 1]));
     }
+    return mask;
   }
 
   @Test
-  void shouldGenerateRegularMovesWhenMustTakeIsFalse() {
-
-    mockBoardWithBotPiece(BOT_COLOR);
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<MoveRules> moveRulesMock = mockStatic(MoveRules.class);
-         MockedStatic<RegularMoveGenerator> regularMoveGeneratorMock =
-             mockStatic(
-                 RegularMoveGenerator.class);
-         MockedStatic<PieceRules> pieceRulesMock = mockStatic(
-             PieceRules.class)) {
-
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(false);
-      moveRulesMock.when(() -> MoveRules.canMove(0, 0, boardState))
-          .thenReturn(true);
-      pieceRulesMock.when(() -> PieceRules.isKing(BOT_COLOR)).thenReturn(false);
-
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
+  void shouldReturnEmptyListWhenNoBotPieces() {
+    BoardState board = new BoardState();
+    board.setPiece(5, 0, OPPONENT_COLOR);
 
-      regularMoveGeneratorMock.verify(
-          () -> RegularMoveGenerator.findRegularPieceMoves(
-              eq(0), eq(0), eq(BOT_COLOR), ArgumentMatchers.any(),
-              eq(boardState)));
-      assertNotNull(result);
-    }
+    assertTrue(moveGenerator.getPossibleMoves(board).isEmpty());
   }
 
   @Test
-  void shouldGenerateKingRegularMovesWhenPieceIsKing() {
+  void shouldGenerateMovesOfBotColor() {
+    BoardState board = new BoardState();
+    BoardInitializer.setUpPawns(board);
 
-    mockBoardWithBotPiece(BOT_KING_COLOR);
+    ArrayList<BotDecision> moves = moveGenerator.getPossibleMoves(board);
 
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<MoveRules> moveRulesMock = mockStatic(MoveRules.class);
-         MockedStatic<KingMoveGenerator> kingMoveGeneratorMock = mockStatic(
-             KingMoveGenerator.class);
-         MockedStatic<PieceRules> pieceRulesMock = mockStatic(
-             PieceRules.class)) {
-
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(false);
-      moveRulesMock.when(() -> MoveRules.canMove(0, 0, boardState))
-          .thenReturn(true);
-      pieceRulesMock.when(() -> PieceRules.isKing(BOT_KING_COLOR))
-          .thenReturn(true);
-
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
-
-      kingMoveGeneratorMock.verify(() -> KingMoveGenerator.findKingMoves(
-          eq(0), eq(0), eq(BOT_KING_COLOR), ArgumentMatchers.any(),
-          eq(boardState)));
-      assertNotNull(result);
-    }
+    assertEquals(MoveGenerator.getPossibleMoves(BOT_COLOR, board), moves);
+    assertEquals(7, moves.size());
+    assertTrue(moves.stream().allMatch(move ->
+        board.getPiece(move.fromRow(), move.fromCol()) == BOT_COLOR));
   }
 
-  @Test
-  void shouldSkipOpponentPieces() {
-
-    mockBoardWithOpponentPiece();
+  @ParameterizedTest
+  @ValueSource(ints = {GameConstants.RED, GameConstants.BLACK})
+  void shouldGenerateMovesOfGivenSide(final int color) {
+    BoardState board = new BoardState();
+    BoardInitializer.setUpPawns(board);
 
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<MoveRules> moveRulesMock = mockStatic(MoveRules.class)) {
+    ArrayList<BotDecision> moves =
+        MoveGenerator.getPossibleMoves(color, board);
 
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(false);
-
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
-
-      moveRulesMock.verifyNoInteractions();
-      assertTrue(result.isEmpty());
-    }
+    assertEquals(7, moves.size());
+    assertTrue(moves.stream().allMatch(move ->
+        board.getPiece(move.fromRow(), move.fromCol()) == color));
   }
 
   @Test
-  void shouldSkipEmptyCells() {
-
-    mockBoardWithEmptyCell();
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<MoveRules> moveRulesMock = mockStatic(MoveRules.class)) {
-
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(false);
+  void shouldListWholeCaptureChainAsOneMove() {
+    BoardState board = new BoardState();
+    board.setPiece(1, 2, BOT_COLOR);
+    board.setPiece(2, 3, OPPONENT_COLOR);
+    board.setPiece(4, 5, OPPONENT_COLOR);
+    board.setPiece(7, 0, BOT_COLOR);
 
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
+    ArrayList<BotDecision> moves = moveGenerator.getPossibleMoves(board);
 
-      moveRulesMock.verifyNoInteractions();
-      assertTrue(result.isEmpty());
-    }
+    assertEquals(List.of(new BotDecision(1, 2, 5, 6, GameConstants.TAKE,
+        mask(2, 3, 4, 5))), moves);
   }
 
   @Test
-  void shouldSkipBotPiecesThatCannotCaptureWhenMustTake() {
-
-    mockBoardWithBotPiece(BOT_COLOR);
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<CaptureGenerator> captureGeneratorMock = mockStatic(
-             CaptureGenerator.class)) {
+  void shouldGenerateKingMovesBackwards() {
+    BoardState board = new BoardState();
+    board.setPiece(7, 0, BOT_KING_COLOR);
 
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(true);
-      captureRulesMock.when(() -> CaptureRules.canCapture(0, 0, boardState))
-          .thenReturn(false);
+    ArrayList<BotDecision> moves = moveGenerator.getPossibleMoves(board);
 
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
-
-      captureGeneratorMock.verifyNoInteractions();
-      assertTrue(result.isEmpty());
-    }
+    assertTrue(moves.contains(
+        new BotDecision(7, 0, 6, 1, GameConstants.MOVE)));
+    assertTrue(moves.stream().allMatch(move -> move.toRow() < 7));
   }
 
   @Test
-  void shouldSkipBotPiecesThatCannotMoveWhenNoCaptureRequired() {
-
-    mockBoardWithBotPiece(BOT_COLOR);
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<MoveRules> moveRulesMock = mockStatic(MoveRules.class);
-         MockedStatic<RegularMoveGenerator> regularMoveGeneratorMock =
-             mockStatic(
-                 RegularMoveGenerator.class)) {
-
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(false);
-      moveRulesMock.when(() -> MoveRules.canMove(0, 0, boardState))
-          .thenReturn(false);
-
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
-
-      regularMoveGeneratorMock.verifyNoInteractions();
-      assertTrue(result.isEmpty());
-    }
-  }
-
-  @Test
-  void shouldHandleMultipleBotPiecesOnBoard() {
-
-    mockBoardWithMultipleBotPieces();
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class);
-         MockedStatic<MoveRules> moveRulesMock = mockStatic(MoveRules.class);
-         MockedStatic<RegularMoveGenerator> regularMoveGeneratorMock =
-             mockStatic(
-                 RegularMoveGenerator.class);
-         MockedStatic<PieceRules> pieceRulesMock = mockStatic(
-             PieceRules.class)) {
-
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(false);
-      moveRulesMock.when(
-              () -> MoveRules.canMove(anyInt(), anyInt(), eq(boardState)))
-          .thenReturn(true);
-      pieceRulesMock.when(() -> PieceRules.isKing(anyInt())).thenReturn(false);
-
-      ArrayList<BotDecision> result =
-          moveGenerator.getPossibleMoves(boardState);
-
-      regularMoveGeneratorMock.verify(
-          () -> RegularMoveGenerator.findRegularPieceMoves(
-              eq(0), eq(0), eq(BOT_COLOR), ArgumentMatchers.any(),
-              eq(boardState)));
-      regularMoveGeneratorMock.verify(
-          () -> RegularMoveGenerator.findRegularPieceMoves(
-              eq(2), eq(2), eq(BOT_COLOR), ArgumentMatchers.any(),
-              eq(boardState)));
-      assertNotNull(result);
-    }
-  }
-
-  @Test
-  void shouldVerifyBoardSizeIteration() {
-
-    mockBoardWithNoBotPieces();
-
-    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
-        CaptureRules.class)
-    ) {
-
-      captureRulesMock.when(() -> CaptureRules.checkAllPiecesPossibleCaptures(
-          BOT_COLOR, BOT_KING_COLOR, boardState)).thenReturn(false);
-
-      moveGenerator.getPossibleMoves(boardState);
-
-      verify(boardState, times(64)).getPiece(anyInt(), anyInt());
-    }
-  }
-
-
-  private void mockBoardWithNoBotPieces() {
-
-    for (int row = 0; row < 8; row++) {
-      for (int col = 0; col < 8; col++) {
-        when(boardState.getPiece(row, col)).thenReturn(EMPTY_CELL);
-      }
-    }
-
-  }
-
-  private void mockBoardWithBotPiece(int pieceType) {
-
-    for (int r = 0; r < 8; r++) {
-      for (int c = 0; c < 8; c++) {
-        if (r == 0 && c == 0) {
-          when(boardState.getPiece(r, c)).thenReturn(pieceType);
-        } else {
-          when(boardState.getPiece(r, c)).thenReturn(EMPTY_CELL);
+  void getPossibleMovesShouldMatchGenerateMovesOnRandomPositions() {
+    int[] pieces = {EMPTY_CELL, EMPTY_CELL, EMPTY_CELL, GameConstants.RED,
+        GameConstants.BLACK, GameConstants.RED_KING, GameConstants.BLACK_KING};
+    SplittableRandom random = new SplittableRandom(3);
+    MoveList moves = new MoveList();
+
+    for (int i = 0; i < 500; i++) {
+      BoardState board = new BoardState();
+      for (int sq = 0; sq < SquareIndex.SQUARE_COUNT; sq++) {
+        int piece = pieces[random.nextInt(pieces.length)];
+        if (!MoveEncoding.promotes(piece, sq)) {
+          board.setPieceAt(sq, piece);
         }
       }
-    }
 
-  }
-
-  private void mockBoardWithOpponentPiece() {
+      moveGenerator.generateMoves(board, moves);
 
-    for (int r = 0; r < 8; r++) {
-      for (int c = 0; c < 8; c++) {
-        if (r == 0 && c == 0) {
-          when(boardState.getPiece(r, c)).thenReturn(
-              MoveGeneratorTest.OPPONENT_COLOR);
-        } else {
-          when(boardState.getPiece(r, c)).thenReturn(EMPTY_CELL);
-        }
+      ArrayList<BotDecision> possibleMoves =
+          moveGenerator.getPossibleMoves(board);
+      assertEquals(moves.size(), possibleMoves.size(), board::toString);
+      for (int m = 0; m < moves.size(); m++) {
+        assertEquals(MoveEncoding.toDecision(moves, m), possibleMoves.get(m),
+            board::toString);
       }
-
     }
   }
 
-  private void mockBoardWithEmptyCell() {
+  @Test
+  void generateMovesShouldEncodeCapturedSquareAndPromotion() {
+    BoardState board = new BoardState();
+    board.setPiece(5, 2, BOT_COLOR);
+    board.setPiece(6, 3, OPPONENT_COLOR);
+    MoveList moves = new MoveList();
 
-    for (int r = 0; r < 8; r++) {
-      for (int c = 0; c < 8; c++) {
-        when(boardState.getPiece(r, c)).thenReturn(EMPTY_CELL);
-      }
-    }
+    MoveGenerator.generateMoves(BOT_COLOR, board, moves);
 
+    assertEquals(1, moves.size());
+    assertEquals(moveGenerator.getPossibleMoves(board),
+        List.of(MoveEncoding.toDecision(moves, 0)));
+    int move = moves.get(0);
+    assertEquals(GameConstants.TAKE, MoveEncoding.type(move));
+    assertEquals(SquareIndex.toSquare(6, 3),
+        MoveEncoding.capturedSquare(move));
+    assertTrue(MoveEncoding.isPromotion(move));
   }
 
-  private void mockBoardWithMultipleBotPieces() {
+  @Test
+  void generateMovesShouldClearPreviousMoves() {
+    BoardState board = new BoardState();
+    board.setPiece(0, 1, BOT_COLOR);
+    MoveList moves = new MoveList();
+    moves.add(MoveEncoding.NO_MOVE);
 
-    for (int row = 0; row < 8; row++) {
-      for (int col = 0; col < 8; col++) {
-        if ((row == 0 && col == 0) || (row == 2 && col == 2)) {
-          when(boardState.getPiece(row, col)).thenReturn(BOT_COLOR);
-        } else {
-          when(boardState.getPiece(row, col)).thenReturn(EMPTY_CELL);
-        }
-      }
+    MoveGenerator.generateMoves(BOT_COLOR, board, moves);
 
-    }
+    assertEquals(2, moves.size());
+    assertEquals(2, moveGenerator.getPossibleMoves(board).size());
+    assertFalse(MoveEncoding.isCapture(moves.get(0)));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package checkers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveListTest {
+
+  private MoveList moves;
+
+  @BeforeEach
+  void setUp() {
+    moves = new MoveList();
+  }
+
+  @Test
+  void shouldStartEmpty() {
+    assertTrue(moves.isEmpty());
+    assertEquals(0, moves.size());
+  }
+
+  @Test
+  void shouldKeepMovesInInsertionOrder() {
+    moves.add(7);
+    moves.add(3);
+
+    assertFalse(moves.isEmpty());
+    assertEquals(2, moves.size());
+    assertEquals(7, moves.get(0));
+    assertEquals(3, moves.get(1));
+  }
+
+  @Test
+  void clearShouldAllowReuse() {
+    moves.add(7);
+
+    moves.clear();
+    moves.add(5);
+
+    assertEquals(1, moves.size());
+    assertEquals(5, moves.get(0));
+  }
+
+  @Test
+  void getShouldRejectIndexBeyondSize() {
+    moves.add(7);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> moves.get(1));
+  }
+
+  @Test
+  void addShouldFailWhenFull() {
+    for (int i = 0; i < MoveList.CAPACITY; i++) {
+      moves.add(i);
+    }
+
+    assertThrows(ArrayIndexOutOfBoundsException.class, () -> moves.add(0));
+  }
+
+  @Test
+  void addShouldDeriveCapturedSquareOfSingleCapture() {
+    int move = MoveEncoding.encode(13, 22, GameConstants.TAKE, 17, false);
+
+    moves.add(move);
+
+    assertEquals(SquareIndex.bit(17), moves.capturedMask(0));
+    assertEquals(22, MoveEncoding.pathSquare(moves.path(0), 0));
+  }
+
+  @Test
+  void addShouldKeepCapturedSquaresAndPathOfChain() {
+    int move = MoveEncoding.encode(24, 9, GameConstants.TAKE, 20, false);
+    long path = MoveEncoding.appendToPath(
+        MoveEncoding.appendToPath(0, 0, 17), 1, 9);
+    int captured = SquareIndex.bit(20) | SquareIndex.bit(13);
+
+    moves.add(move, captured, path);
+
+    assertEquals(move, moves.get(0));
+    assertEquals(captured, moves.capturedMask(0));
+    assertEquals(path, moves.path(0));
+  }
+
+  @Test
+  void quietMoveShouldHaveNoCapturedSquares() {
+    moves.add(MoveEncoding.encode(21, 17, GameConstants.MOVE, 0, false));
+
+    assertEquals(0, moves.capturedMask(0));
+    assertEquals(0, moves.path(0));
+  }
+
+  @Test
+  void containsShouldIgnoreOrderOfCaptures() {
+    int captured = SquareIndex.bit(20) | SquareIndex.bit(13);
+    moves.add(MoveEncoding.encode(24, 9, GameConstants.KING_TAKE, 20, false),
+        captured, 0);
+
+    assertTrue(moves.contains(
+        MoveEncoding.encode(24, 9, GameConstants.KING_TAKE, 13, false),
+        captured));
+    assertFalse(moves.contains(
+        MoveEncoding.encode(24, 9, GameConstants.KING_TAKE, 13, false),
+        SquareIndex.bit(13)));
+  }
+
+  @Test
+  void capturedMaskShouldRejectIndexBeyondSize() {
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> moves.capturedMask(0));
+  }
+
+  @Test
+  void swapShouldExchangeMovesWithCapturesAndPaths() {
+    int quiet = MoveEncoding.encode(21, 17, GameConstants.MOVE, 0, false);
+    int chain = MoveEncoding.encode(24, 9, GameConstants.KING_TAKE, 20, false);
+    int captured = SquareIndex.bit(20) | SquareIndex.bit(13);
+    moves.add(quiet);
+    moves.add(chain, captured, 77L);
+
+    moves.swap(0, 1);
+
+    assertEquals(chain, moves.get(0));
+    assertEquals(captured, moves.capturedMask(0));
+    assertEquals(77L, moves.path(0));
+    assertEquals(quiet, moves.get(1));
+    assertEquals(0, moves.capturedMask(1));
+    assertEquals(0L, moves.path(1));
+  }
+
+  @Test
+  void swapShouldRejectIndexBeyondSize() {
+    moves.add(0);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> moves.swap(0, 1));
+  }
+}
@@ -0,0 +1,133 @@
+package checkers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MoveOrdererTest {
+
+  private static final int QUIET_A =
+      MoveEncoding.encode(21, 17, GameConstants.MOVE, 0, false);
+
+  private static final int QUIET_B =
+      MoveEncoding.encode(22, 18, GameConstants.MOVE, 0, false);
+
+  private static final int QUIET_C =
+      MoveEncoding.encode(23, 19, GameConstants.MOVE, 0, false);
+
+  private MoveOrderer orderer;
+
+  private MoveList moves;
+
+  private BoardState board;
+
+  @BeforeEach
+  void setUp() {
+    orderer = new MoveOrderer(4);
+    moves = new MoveList();
+    board = new BoardState();
+  }
+
+  private int[] searchOrder(final int tableMove, final int ply) {
+    orderer.scoreMoves(moves, board, tableMove, ply);
+    int[] order = new int[moves.size()];
+    for (int i = 0; i < moves.size(); i++) {
+      orderer.selectNext(moves, i, ply);
+      order[i] = moves.get(i);
+    }
+    return order;
+  }
+
+  @Nested
+  class OrderTest {
+
+    @Test
+    void shouldSearchTableMoveFirst() {
+      moves.add(QUIET_A);
+      moves.add(QUIET_B);
+      moves.add(QUIET_C);
+
+      assertEquals(QUIET_C, searchOrder(QUIET_C, 0)[0]);
+    }
+
+    @Test
+    void shouldOrderCapturesByMaterialWon() {
+      board.setPieceAt(13, GameConstants.BLACK_KING);
+      int single = MoveEncoding.encode(22, 15, GameConstants.TAKE, 18, false);
+      int king = MoveEncoding.encode(17, 10, GameConstants.TAKE, 13, false);
+      int chain = MoveEncoding.encode(24, 8, GameConstants.TAKE, 20, false);
+      moves.add(single);
+      moves.add(king);
+      moves.add(chain, SquareIndex.bit(20) | SquareIndex.bit(16), 0L);
+
+      int[] order = searchOrder(MoveEncoding.NO_MOVE, 0);
+
+      assertEquals(king, order[0]);
+      assertEquals(chain, order[1]);
+      assertEquals(single, order[2]);
+    }
+
+    @Test
+    void shouldSearchKillersBeforeOtherQuietMoves() {
+      orderer.recordCutoff(QUIET_B, 1, 3, 2);
+      orderer.recordCutoff(QUIET_C, 1, 3, 2);
+      moves.add(QUIET_A);
+      moves.add(QUIET_B);
+      moves.add(QUIET_C);
+
+      int[] order = searchOrder(MoveEncoding.NO_MOVE, 2);
+
+      assertEquals(QUIET_C, order[0]);
+      assertEquals(QUIET_B, order[1]);
+      assertEquals(QUIET_A, order[2]);
+    }
+
+    @Test
+    void killersShouldOnlyApplyToTheirPly() {
+      orderer.recordCutoff(QUIET_C, 1, 1, 2);
+      orderer.recordCutoff(QUIET_B, 1, 3, 1);
+      moves.add(QUIET_A);
+      moves.add(QUIET_B);
+      moves.add(QUIET_C);
+
+      assertEquals(QUIET_C, searchOrder(MoveEncoding.NO_MOVE, 2)[0]);
+      assertEquals(QUIET_B, searchOrder(MoveEncoding.NO_MOVE, 3)[0]);
+    }
+
+    @Test
+    void shouldKeepSelectedMoveWithItsCapturedSquares() {
+      int chain = MoveEncoding.encode(24, 8, GameConstants.TAKE, 20, false);
+      int captured = SquareIndex.bit(20) | SquareIndex.bit(16);
+      moves.add(MoveEncoding.encode(22, 15, GameConstants.TAKE, 18, false));
+      moves.add(chain, captured, 5L);
+
+      searchOrder(MoveEncoding.NO_MOVE, 0);
+
+      assertEquals(captured, moves.capturedMask(0));
+      assertEquals(5L, moves.path(0));
+    }
+  }
+
+  @Nested
+  class CutoffStatisticsTest {
+
+    @Test
+    void shouldStartWithoutCutoffs() {
+      assertEquals(0, orderer.getCutoffs());
+      assertEquals(0.0, orderer.firstMoveCutoffRate());
+    }
+
+    @Test
+    void shouldCountFirstMoveCutoffs() {
+      orderer.recordCutoff(QUIET_A, 0, 1, 0);
+      orderer.recordCutoff(QUIET_A, 0, 1, 0);
+      orderer.recordCutoff(QUIET_A, 0, 1, 0);
+      orderer.recordCutoff(QUIET_B, 2, 1, 0);
+
+      assertEquals(4, orderer.getCutoffs());
+      assertEquals(3, orderer.getFirstMoveCutoffs());
+      assertEquals(0.75, orderer.firstMoveCutoffRate());
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package checkers;
 
 import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
@@ -215,32 +218,54 @@ class MoveServiceTest {
 
   @Test
   void getPossibleMoves_ValidBoardState_ReturnsListOfMoves() {
+    doAnswer(invocation -> {
+      MoveList moves = invocation.getArgument(1);
+      moves.add(MoveEncoding.encode(SquareIndex.toSquare(5, 2),
+          SquareIndex.toSquare(4, 3), GameConstants.MOVE, 0, false));
+      return null;
+    }).when(moveGenerator).generateMoves(eq(boardState), any(MoveList.class));
 
-    ArrayList<BotDecision> expectedMoves = new ArrayList<>();
-    expectedMoves.add(new BotDecision(1, 2, 3, 4, GameConstants.MOVE));
-    expectedMoves.add(new BotDecision(5, 6, 7, 0, GameConstants.MOVE));
+    ArrayList<BotDecision> result = moveService.getPossibleMoves(boardState);
+
+    assertEquals(1, result.size());
+    assertEquals(new BotDecision(5, 2, 4, 3, GameConstants.MOVE),
+        result.get(0));
+  }
 
-    when(moveGenerator.getPossibleMoves(boardState)).thenReturn(expectedMoves);
+  @Test
+  void getPossibleMoves_CaptureChain_KeepsAllCapturedSquares() {
+    int captured = SquareIndex.bit(SquareIndex.toSquare(4, 3))
+        | SquareIndex.bit(SquareIndex.toSquare(2, 3));
+    doAnswer(invocation -> {
+      MoveList moves = invocation.getArgument(1);
+      moves.add(MoveEncoding.encode(SquareIndex.toSquare(5, 2),
+          SquareIndex.toSquare(1, 2), GameConstants.TAKE,
+          SquareIndex.toSquare(4, 3), false), captured, 0L);
+      return null;
+    }).when(moveGenerator).generateMoves(eq(boardState), any(MoveList.class));
 
     ArrayList<BotDecision> result = moveService.getPossibleMoves(boardState);
 
-    assertNotNull(result);
-    assertEquals(expectedMoves.size(), result.size());
-    assertEquals(expectedMoves, result);
-    verify(moveGenerator).getPossibleMoves(boardState);
+    assertEquals(List.of(new BotDecision(5, 2, 1, 2, GameConstants.TAKE,
+        captured)), result);
   }
 
   @Test
   void getPossibleMoves_NoMovesAvailable_ReturnsEmptyList() {
-
-    ArrayList<BotDecision> emptyMoves = new ArrayList<>();
-    when(moveGenerator.getPossibleMoves(boardState)).thenReturn(emptyMoves);
-
     ArrayList<BotDecision> result = moveService.getPossibleMoves(boardState);
 
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(moveGenerator).getPossibleMoves(boardState);
+    verify(moveGenerator).generateMoves(eq(boardState), any(MoveList.class));
+  }
+
+  @Test
+  void generateMoves_DelegatesToMoveGenerator() {
+    MoveList moves = new MoveList();
+
+    moveService.generateMoves(boardState, moves);
+
+    verify(moveGenerator).generateMoves(boardState, moves);
   }
 
   @Test
@@ -0,0 +1,42 @@
+package checkers;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveUndoTest {
+
+  @Test
+  void shouldRoundTripCapturedSquaresAndKings() {
+    int captured = SquareIndex.bit(9) | SquareIndex.bit(31);
+    int kings = SquareIndex.bit(31);
+
+    long undo = MoveUndo.of(captured, kings, 0);
+
+    assertEquals(captured, MoveUndo.capturedSquares(undo));
+    assertEquals(kings, MoveUndo.capturedKings(undo));
+    assertFalse(MoveUndo.isPromotion(undo));
+  }
+
+  @Test
+  void shouldFlagPromotionWithoutAffectingCapturedKings() {
+    int captured = SquareIndex.bit(5);
+
+    long undo = MoveUndo.of(captured, captured, SquareIndex.bit(0));
+
+    assertTrue(MoveUndo.isPromotion(undo));
+    assertEquals(captured, MoveUndo.capturedKings(undo));
+    assertEquals(captured, MoveUndo.capturedSquares(undo));
+  }
+
+  @Test
+  void shouldDescribeQuietMove() {
+    long undo = MoveUndo.of(0, 0, 0);
+
+    assertEquals(0L, undo);
+    assertEquals(0, MoveUndo.capturedSquares(undo));
+    assertEquals(0, MoveUndo.capturedKings(undo));
+    assertFalse(MoveUndo.isPromotion(undo));
+  }
+}
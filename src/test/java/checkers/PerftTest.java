@@ -0,0 +1,66 @@
+package checkers;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PerftTest {
+
+  private BoardState board;
+
+  @BeforeEach
+  void setUp() {
+    board = new BoardState();
+    BoardInitializer.setUpPawns(board);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0, 1", "1, 7", "2, 49", "3, 302", "4, 1469", "5, 7361",
+      "6, 36768"})
+  void shouldCountNodesOfStartingPosition(final int depth,
+                                          final long nodes) {
+    assertEquals(nodes, Perft.perft(board, depth));
+  }
+
+  @Test
+  void shouldRestoreBoard() {
+    BoardState before = board.copy();
+
+    Perft.perft(board, 4);
+
+    assertEquals(before, board);
+    assertEquals(before.getZobristKey(), board.getZobristKey());
+  }
+
+  @Test
+  void divideShouldSumToPerft() {
+    Map<String, Long> counts = Perft.divide(board, 4);
+
+    assertEquals(7, counts.size());
+    assertEquals(Perft.perft(board, 4),
+        counts.values().stream().mapToLong(Long::longValue).sum());
+    assertEquals(Perft.perft(BoardNotation.parse(
+        "b:bbbbbbbbbbbb....r....rrrrrrrrrrr"), 3), counts.get("21-17"));
+  }
+
+  @Test
+  void shouldCountCaptureSequenceAsOneMove() {
+    BoardState chain = BoardNotation.parse(
+        "r:...b....b.......b....r..........");
+
+    Map<String, Long> counts = Perft.divide(chain, 1);
+
+    assertEquals(Map.of("22x13x6", 1L), counts);
+  }
+
+  @Test
+  void shouldCountNoNodesWhenSideCannotMove() {
+    BoardState blocked = BoardNotation.parse(
+        "b:...............................b");
+
+    assertEquals(0, Perft.perft(blocked, 2));
+  }
+}
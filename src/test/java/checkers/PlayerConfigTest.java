@@ -1,9 +1,12 @@
 package checkers;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 
 class PlayerConfigTest {
@@ -305,4 +308,77 @@ class PlayerConfigTest {
       assertEquals(maxValue, playerConfig.getBotKingColor());
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  class SearchConfigTests {
+
+    @Test
+    void shouldUseDefaultSearchConfig() {
+      assertEquals(SearchConfig.DEFAULT, playerConfig.getSearchConfig());
+    }
+
+    @Test
+    void shouldSetSearchConfig() {
+      SearchConfig searchConfig = new SearchConfig(3);
+
+      playerConfig.setSearchConfig(searchConfig);
+
+      assertEquals(searchConfig, playerConfig.getSearchConfig());
+    }
+  }
+
+  @Nested
+  class TranspositionTableTests {
+
+    @Test
+    void shouldHaveNoTableByDefault() {
+      assertNull(playerConfig.getTranspositionTable());
+    }
+
+    @Test
+    void shouldSetTranspositionTable() {
+      TranspositionTable table = new TranspositionTable(1);
+
+      playerConfig.setTranspositionTable(table);
+
+      assertSame(table, playerConfig.getTranspositionTable());
+    }
+  }
+
+  @Nested
+  class PondererTests {
+
+    @Test
+    void shouldHaveNoPondererByDefault() {
+      assertNull(playerConfig.getPonderer());
+    }
+
+    @Test
+    void shouldSetPonderer() {
+      Ponderer ponderer = new Ponderer(new TranspositionTable(1));
+
+      playerConfig.setPonderer(ponderer);
+
+      assertSame(ponderer, playerConfig.getPonderer());
+    }
+  }
+
+  @Nested
+  class SearchStatsTests {
+
+    @Test
+    void shouldHaveEmptySearchStatsByDefault() {
+      assertSame(SearchStats.EMPTY, playerConfig.getSearchStats());
+    }
+
+    @Test
+    void shouldSetSearchStats() {
+      SearchStats stats = new SearchStats(100, 40, 1000, 4, 9, 50, 20, 5,
+          List.of(1000L), List.of(100L));
+
+      playerConfig.setSearchStats(stats);
+
+      assertSame(stats, playerConfig.getSearchStats());
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PondererTest {
+
+  private static final int PONDER_DEPTH = 4;
+
+  private static final long MAX_STOP_LATENCY_MS = 250;
+
+  private TranspositionTable table;
+  private Ponderer ponderer;
+  private BoardState board;
+
+  @BeforeEach
+  void setUp() {
+    table = new TranspositionTable(1);
+    ponderer = new Ponderer(table);
+    board = new BoardState();
+    BoardInitializer.setUpPawns(board);
+    board.makeMove(SearchEngineTest.rootMoves(GameConstants.RED, board)
+        .getFirst());
+  }
+
+  private void ponderToDepth() throws InterruptedException {
+    ponderer.start(board, GameConstants.RED,
+        new SearchConfig(PONDER_DEPTH));
+    while (ponderer.isPondering()) {
+      Thread.sleep(1);
+    }
+    ponderer.stop();
+  }
+
+  private static BoardState after(final BoardState board,
+                                  final BotDecision reply) {
+    BoardState next = board.copy();
+    next.setSideToMove(GameConstants.BLACK);
+    next.makeMove(reply);
+    return next;
+  }
+
+  @Nested
+  class PredictionTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldAnswerPredictedReplyAtOnce() throws InterruptedException {
+      ponderToDepth();
+      BotDecision reply = ponderer.getPredictedReply();
+      assertNotNull(reply);
+      assertTrue(SearchEngineTest.rootMoves(GameConstants.BLACK, board)
+          .contains(reply));
+      BoardState next = after(board, reply);
+      ArrayList<BotDecision> moves =
+          SearchEngineTest.rootMoves(GameConstants.RED, next);
+
+      BotDecision move = ponderer.takeMove(next, moves);
+
+      assertNotNull(move);
+      assertTrue(moves.contains(move));
+      assertEquals(PONDER_DEPTH, ponderer.getSearchStats().depth());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldPredictBestReplyOfBotsSearch() throws InterruptedException {
+      board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      board.setSideToMove(GameConstants.RED);
+      board.makeMove(new SearchEngine(new SearchConfig(6), table).searchRoot(
+          SearchEngineTest.rootMoves(GameConstants.RED, board), board,
+          GameConstants.RED));
+      long entry = table.probe(board.getZobristKey());
+      assertNotEquals(TranspositionTable.MISS, entry);
+
+      ponderToDepth();
+
+      MoveList replies = new MoveList();
+      MoveGenerator.generateMoves(GameConstants.BLACK, board, replies);
+      for (int i = 0; i < replies.size(); i++) {
+        if (replies.get(i) == TranspositionTable.move(entry)) {
+          assertEquals(MoveEncoding.toDecision(replies, i),
+              ponderer.getPredictedReply());
+        }
+      }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldSearchAfterOtherReply() throws InterruptedException {
+      ponderToDepth();
+      BotDecision other = SearchEngineTest.rootMoves(GameConstants.BLACK,
+          board).stream()
+          .filter(reply -> !reply.equals(ponderer.getPredictedReply()))
+          .findFirst().orElseThrow();
+      BoardState next = after(board, other);
+
+      assertNull(ponderer.takeMove(next,
+          SearchEngineTest.rootMoves(GameConstants.RED, next)));
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldUsePonderedMoveOnlyOnce() throws InterruptedException {
+      ponderToDepth();
+      BoardState next = after(board, ponderer.getPredictedReply());
+      ArrayList<BotDecision> moves =
+          SearchEngineTest.rootMoves(GameConstants.RED, next);
+
+      assertNotNull(ponderer.takeMove(next, moves));
+      assertNull(ponderer.takeMove(next, moves));
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldNotPredictWithoutHumanMoves() throws InterruptedException {
+      board = new BoardState();
+      board.setPiece(5, 2, GameConstants.RED);
+
+      ponderToDepth();
+
+      assertNull(ponderer.getPredictedReply());
+      assertNull(ponderer.takeMove(board,
+          SearchEngineTest.rootMoves(GameConstants.RED, board)));
+    }
+  }
+
+  @Nested
+  class StopTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldStopPromptly() throws InterruptedException {
+      ponderer.start(board, GameConstants.RED, new SearchConfig(
+          SearchConfig.MAX_DEPTH, SearchConfig.NO_TIME_LIMIT));
+      Thread.sleep(50);
+      assertTrue(ponderer.isPondering());
+
+      long start = System.nanoTime();
+      ponderer.stop();
+
+      assertTrue(System.nanoTime() - start
+          < TimeUnit.MILLISECONDS.toNanos(MAX_STOP_LATENCY_MS));
+      assertFalse(ponderer.isPondering());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldSearchAgainWhenPonderWasShorterThanBudget()
+        throws InterruptedException {
+      ponderer.start(board, GameConstants.RED, new SearchConfig(
+          SearchConfig.MAX_DEPTH, TimeUnit.MINUTES.toMillis(1)));
+      Thread.sleep(300);
+      ponderer.stop();
+      BotDecision reply = ponderer.getPredictedReply();
+      assertNotNull(reply);
+      BoardState next = after(board, reply);
+
+      assertNull(ponderer.takeMove(next,
+          SearchEngineTest.rootMoves(GameConstants.RED, next)));
+    }
+
+    @Test
+    void shouldIgnoreStopWhenNotPondering() {
+      ponderer.stop();
+
+      assertFalse(ponderer.isPondering());
+      assertNull(ponderer.getPredictedReply());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void shouldLeaveBoardUnchanged() throws InterruptedException {
+      BoardState before = board.copy();
+
+      ponderToDepth();
+
+      assertNotNull(ponderer.getPredictedReply());
+      assertEquals(before, board);
+    }
+  }
+}
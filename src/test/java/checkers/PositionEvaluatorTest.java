@@ -0,0 +1,72 @@
+package checkers;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PositionEvaluatorTest {
+
+  @Test
+  void startingPositionShouldBeBalanced() {
+    BoardState board = new BoardState();
+    BoardInitializer.setUpPawns(board);
+
+    assertEquals(0, PositionEvaluator.evaluate(board));
+    board.setSideToMove(GameConstants.BLACK);
+    assertEquals(0, PositionEvaluator.evaluate(board));
+  }
+
+  @Test
+  void shouldCountMenAndKings() {
+    BoardState board = new BoardState();
+    board.setPiece(5, 0, GameConstants.RED);
+    board.setPiece(5, 6, GameConstants.RED_KING);
+    board.setPiece(2, 1, GameConstants.BLACK);
+
+    assertEquals(GameConstants.SCORE_MAN + GameConstants.SCORE_KING,
+        PositionEvaluator.material(GameConstants.RED, board));
+    assertEquals(GameConstants.SCORE_KING,
+        PositionEvaluator.evaluate(board));
+  }
+
+  @Test
+  void shouldScoreFromSideToMove() {
+    BoardState board = new BoardState();
+    board.setPiece(5, 0, GameConstants.RED);
+    board.setPiece(5, 6, GameConstants.RED);
+    board.setPiece(2, 1, GameConstants.BLACK);
+
+    board.setSideToMove(GameConstants.BLACK);
+
+    assertEquals(-GameConstants.SCORE_MAN, PositionEvaluator.evaluate(board));
+  }
+
+  @Test
+  void shouldRewardManBeforePromotion() {
+    BoardState board = new BoardState();
+    board.setPiece(1, 0, GameConstants.RED);
+    board.setPiece(6, 7, GameConstants.BLACK);
+    board.setPiece(4, 7, GameConstants.BLACK);
+    board.setPiece(4, 1, GameConstants.RED);
+
+    assertEquals(0, PositionEvaluator.evaluate(board));
+    board.setPiece(4, 7, GameConstants.EMPTY);
+    board.setPiece(3, 6, GameConstants.BLACK);
+
+    assertEquals(0, PositionEvaluator.evaluate(board));
+    board.setPiece(6, 7, GameConstants.EMPTY);
+    board.setPiece(5, 6, GameConstants.BLACK);
+
+    assertEquals(GameConstants.SCORE_CHANCE_FOR_KING,
+        PositionEvaluator.evaluate(board));
+  }
+
+  @Test
+  void shouldApplyCaptureTerms() {
+    BoardState board = new BoardState();
+    board.setPiece(5, 2, GameConstants.RED);
+    board.setPiece(4, 3, GameConstants.BLACK);
+
+    assertEquals(GameConstants.SCORE_TAKE_POSSIBLE
+        - GameConstants.SCORE_PLAYER_THREAT, PositionEvaluator.evaluate(board));
+  }
+}
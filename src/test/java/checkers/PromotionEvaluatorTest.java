@@ -302,6 +302,28 @@ class PromotionEvaluatorTest {
     }
   }
 
+  @Nested
+  class EvaluatePromotionTests {
+
+    @Test
+    void shouldReturnScoreWhenMovePromoted() {
+
+      long undo = MoveUndo.of(0, 0, SquareIndex.bit(2));
+
+      assertEquals(GameConstants.SCORE_CHANCE_FOR_KING,
+          PromotionEvaluator.evaluatePromotion(undo));
+    }
+
+    @Test
+    void shouldReturnZeroWhenOnlyKingsWereCaptured() {
+
+      int captured = SquareIndex.bit(9);
+      long undo = MoveUndo.of(captured, captured, 0);
+
+      assertEquals(0, PromotionEvaluator.evaluatePromotion(undo));
+    }
+  }
+
   @Nested
   class GetPromotionRowTests {
 
@@ -170,4 +170,19 @@ class PromotionServiceTest {
     service.promoteIfNeeded(0, 0, GameConstants.RED);
     verify(testBoardState).setPiece(0, 0, GameConstants.RED_KING);
   }
-}
\ No newline at end of file
+
+  @Test
+  void staticPromoteIfNeededShouldPromoteOnGivenBoard() {
+
+    BoardState otherBoard = mock(BoardState.class);
+
+    PromotionService.promoteIfNeeded(otherBoard,
+        GameConstants.LAST_ROW_INDEX, 2, GameConstants.BLACK);
+    PromotionService.promoteIfNeeded(otherBoard, 3, 2, GameConstants.RED);
+
+    verify(otherBoard).setPiece(GameConstants.LAST_ROW_INDEX, 2,
+        GameConstants.BLACK_KING);
+    verify(otherBoard, never()).setPiece(3, 2, GameConstants.RED_KING);
+    verify(boardState, never()).setPiece(anyInt(), anyInt(), anyInt());
+  }
+}
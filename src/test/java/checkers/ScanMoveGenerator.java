@@ -0,0 +1,141 @@
+package checkers;
+
+import java.util.ArrayList;
+
+/**
+ * The row/column move generators the game used before
+ * {@link BitboardMoveGenerator}, kept as the reference the bitboard code
+ * and the square tables are tested against. Every capture is a single hop.
+ */
+final class ScanMoveGenerator {
+
+  private ScanMoveGenerator() {
+  }
+
+  /**
+   * Adds the moves of a regular piece, forward one square diagonally.
+   *
+   * @param row        the current row of the piece
+   * @param col        the current column of the piece
+   * @param piece      the piece ({@link GameConstants#RED} or
+   *                   {@link GameConstants#BLACK})
+   * @param moves      the list to which the moves are added
+   * @param boardState the current state of the board
+   */
+  static void findRegularPieceMoves(final int row, final int col,
+                                    final int piece,
+                                    final ArrayList<BotDecision> moves,
+                                    final BoardState boardState) {
+    for (int[] dir : forwardDirections(piece)) {
+      int newRow = row + dir[0];
+      int newCol = col + dir[1];
+
+      if (PositionValidator.isValidPosition(newRow, newCol)
+          && MoveRules.isLegalMove(newCol, newRow, col, row, piece,
+          boardState)) {
+        moves.add(
+            new BotDecision(row, col, newRow, newCol, GameConstants.MOVE));
+      }
+    }
+  }
+
+  /**
+   * Adds the moves of a king, along each diagonal up to the first occupied
+   * square.
+   *
+   * @param row        the current row of the king
+   * @param col        the current column of the king
+   * @param piece      the king
+   * @param moves      the list to which the moves are added
+   * @param boardState the current state of the board
+   */
+  static void findKingMoves(final int row, final int col, final int piece,
+                            final ArrayList<BotDecision> moves,
+                            final BoardState boardState) {
+    for (int[] dir : GameConstants.DIRECTIONS) {
+      for (int dist = 1; dist < GameConstants.BOARD_SIZE; dist++) {
+        int newRow = row + dist * dir[0];
+        int newCol = col + dist * dir[1];
+
+        if (!PositionValidator.isValidPosition(newRow, newCol)) {
+          break;
+        }
+
+        if (MoveRules.isLegalMove(newCol, newRow, col, row, piece,
+            boardState)) {
+          if (DiagonalValidator.hasObstaclesBetween(col, row, newCol, newRow,
+              boardState)) {
+            moves.add(
+                new BotDecision(row, col, newRow, newCol, GameConstants.MOVE));
+          }
+        } else {
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the captures of a regular piece, forward over an adjacent enemy.
+   *
+   * @param row        the current row of the piece
+   * @param col        the current column of the piece
+   * @param piece      the piece ({@link GameConstants#RED} or
+   *                   {@link GameConstants#BLACK})
+   * @param moves      the list to which the captures are added
+   * @param boardState the current state of the board
+   */
+  static void findRegularCaptures(final int row, final int col,
+                                  final int piece,
+                                  final ArrayList<BotDecision> moves,
+                                  final BoardState boardState) {
+    for (int[] dir : forwardDirections(piece)) {
+      int newRow = row + 2 * dir[0];
+      int newCol = col + 2 * dir[1];
+
+      if (PositionValidator.isValidPosition(newRow, newCol)
+          && CaptureRules.isLegalCapture(newCol, newRow, col, row, piece,
+          boardState)) {
+        moves.add(
+            new BotDecision(row, col, newRow, newCol, GameConstants.TAKE));
+      }
+    }
+  }
+
+  /**
+   * Adds the captures of a king, over the first piece along a diagonal.
+   *
+   * @param row        the current row of the king
+   * @param col        the current column of the king
+   * @param piece      the king
+   * @param moves      the list to which the captures are added
+   * @param boardState the current state of the board
+   */
+  static void findKingCaptures(final int row, final int col, final int piece,
+                               final ArrayList<BotDecision> moves,
+                               final BoardState boardState) {
+    for (int[] dir : GameConstants.DIRECTIONS) {
+      for (int dist = 1; dist < GameConstants.BOARD_SIZE; dist++) {
+        int newRow = row + dist * dir[0];
+        int newCol = col + dist * dir[1];
+
+        if (!PositionValidator.isValidPosition(newRow, newCol)) {
+          break;
+        }
+
+        if (CaptureRules.isLegalCapture(newCol, newRow, col, row, piece,
+            boardState)
+            && DiagonalValidator.hasObstaclesBetween(col, row, newCol,
+            newRow, boardState)) {
+          moves.add(new BotDecision(row, col, newRow, newCol,
+              GameConstants.KING_TAKE));
+        }
+      }
+    }
+  }
+
+  private static int[][] forwardDirections(final int piece) {
+    return piece == GameConstants.RED ? GameConstants.RED_FORWARD_DIRECTIONS
+        : GameConstants.BLACK_FORWARD_DIRECTIONS;
+  }
+}
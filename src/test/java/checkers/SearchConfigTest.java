@@ -0,0 +1,71 @@
+package checkers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchConfigTest {
+
+  @Test
+  void defaultShouldDeepenWithinDefaultBudget() {
+    assertEquals(SearchConfig.MAX_DEPTH, SearchConfig.DEFAULT.depth());
+    assertEquals(SearchConfig.DEFAULT_TIME_BUDGET_MS,
+        SearchConfig.DEFAULT.timeBudgetMs());
+  }
+
+  @Test
+  void depthOnlyConfigShouldHaveNoTimeLimit() {
+    assertEquals(SearchConfig.NO_TIME_LIMIT,
+        new SearchConfig(3).timeBudgetMs());
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, -1})
+  void shouldRejectTimeBudgetBelowOne(final long timeBudgetMs) {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SearchConfig(1, timeBudgetMs));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1, SearchConfig.MAX_DEPTH + 1})
+  void shouldRejectDepthOutOfRange(final int depth) {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SearchConfig(depth));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, SearchConfig.MAX_DEPTH})
+  void shouldAcceptDepthInRange(final int depth) {
+    assertEquals(depth, new SearchConfig(depth).depth());
+  }
+
+  @Test
+  void shouldSearchOnOneThreadByDefault() {
+    assertEquals(1, SearchConfig.DEFAULT.threads());
+    assertEquals(1, new SearchConfig(3).threads());
+    assertEquals(1, new SearchConfig(3, 100).threads());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, SearchConfig.MAX_THREADS + 1})
+  void shouldRejectThreadCountOutOfRange(final int threads) {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SearchConfig(1, 1, threads));
+  }
+
+  @Test
+  void shouldSearchSelectivelyByDefault() {
+    assertTrue(SearchConfig.DEFAULT.selective());
+    assertTrue(new SearchConfig(3).selective());
+    assertTrue(new SearchConfig(3, 100, 2).selective());
+  }
+
+  @Test
+  void shouldKeepFullWidthFlag() {
+    assertFalse(new SearchConfig(3, 100, 1, false).selective());
+  }
+}
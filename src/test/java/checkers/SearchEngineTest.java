@@ -0,0 +1,714 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class SearchEngineTest {
+
+  private static final int RANDOM_POSITIONS = 200;
+
+  static ArrayList<BotDecision> rootMoves(final int color,
+                                          final BoardState board) {
+    MoveList moves = new MoveList();
+    MoveGenerator.generateMoves(color, board, moves);
+    ArrayList<BotDecision> decisions = new ArrayList<>();
+    for (int i = 0; i < moves.size(); i++) {
+      decisions.add(MoveEncoding.toDecision(moves, i));
+    }
+    return decisions;
+  }
+
+  static SearchConfig fullWidth(final int depth, final int threads) {
+    return new SearchConfig(depth, SearchConfig.NO_TIME_LIMIT, threads, false);
+  }
+
+  static int plainNegamax(final BoardState board, final int depth,
+                          final int ply) {
+    if (depth == 0) {
+      return plainQuiescence(board, ply);
+    }
+    MoveList moves = new MoveList();
+    MoveGenerator.generateMoves(board.getSideToMove(), board, moves);
+    if (moves.isEmpty()) {
+      return -GameConstants.SCORE_WIN + ply;
+    }
+    int best = -SearchEngine.INFINITY;
+    for (int i = 0; i < moves.size(); i++) {
+      int move = moves.get(i);
+      long undo = board.makeMove(MoveEncoding.from(move),
+          MoveEncoding.to(move), moves.capturedMask(i));
+      best = Math.max(best, -plainNegamax(board, depth - 1, ply + 1));
+      board.unmakeMove(MoveEncoding.from(move), MoveEncoding.to(move), undo);
+    }
+    return best;
+  }
+
+  private static int plainQuiescence(final BoardState board, final int ply) {
+    MoveList moves = new MoveList();
+    MoveGenerator.generateMoves(board.getSideToMove(), board, moves);
+    if (moves.isEmpty()) {
+      return -GameConstants.SCORE_WIN + ply;
+    }
+    if (!MoveEncoding.isCapture(moves.get(0))) {
+      return PositionEvaluator.evaluate(board);
+    }
+    int best = -SearchEngine.INFINITY;
+    for (int i = 0; i < moves.size(); i++) {
+      int move = moves.get(i);
+      long undo = board.makeMove(MoveEncoding.from(move),
+          MoveEncoding.to(move), moves.capturedMask(i));
+      best = Math.max(best, -plainQuiescence(board, ply + 1));
+      board.unmakeMove(MoveEncoding.from(move), MoveEncoding.to(move), undo);
+    }
+    return best;
+  }
+
+  private static BoardState blockadePosition() {
+    BoardState board = new BoardState();
+    board.setPiece(6, 3, GameConstants.BLACK);
+    board.setPiece(7, 2, GameConstants.RED);
+    board.setPiece(5, 2, GameConstants.RED);
+    board.setPiece(5, 4, GameConstants.RED);
+    board.setPiece(6, 5, GameConstants.RED_KING);
+    return board;
+  }
+
+  @Nested
+  class SearchTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4})
+    void alphaBetaShouldMatchPlainNegamax(final int depth) {
+      SplittableRandom random = new SplittableRandom(depth);
+      TranspositionTable table = new TranspositionTable(1);
+      SearchEngine engine = new SearchEngine(fullWidth(depth, 1), table);
+      for (int i = 0; i < RANDOM_POSITIONS; i++) {
+        table.clear();
+        BoardState board = BitboardMoveGeneratorTest.randomBoard(random);
+        board.setSideToMove(random.nextBoolean() ? GameConstants.RED
+            : GameConstants.BLACK);
+
+        assertEquals(plainNegamax(board, depth, 0),
+            engine.search(board, depth), board::toString);
+      }
+    }
+
+    @Test
+    void shouldScoreWinAtHorizonAsWin() {
+      BoardState board = new BoardState();
+      board.setPiece(5, 2, GameConstants.RED);
+      board.setPiece(4, 3, GameConstants.BLACK);
+      board.setSideToMove(GameConstants.RED);
+
+      assertEquals(GameConstants.SCORE_WIN - 1,
+          new SearchEngine(new SearchConfig(1)).search(board, 1));
+    }
+
+    @Test
+    void shouldRestoreBoard() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      BoardState before = board.copy();
+
+      new SearchEngine(new SearchConfig(5)).search(board, 5);
+
+      assertEquals(before, board);
+      assertEquals(before.getZobristKey(), board.getZobristKey());
+    }
+
+    @Test
+    void shouldReuseStoredResults() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      SearchEngine engine = new SearchEngine(new SearchConfig(6));
+
+      int score = engine.search(board, 6);
+      long firstNodes = engine.getNodes();
+
+      assertEquals(score, engine.search(board, 6));
+      assertEquals(firstNodes + 1, engine.getNodes());
+    }
+
+    @Test
+    void shouldKeepWinDistanceThroughTable() {
+      BoardState board = blockadePosition();
+      board.setSideToMove(GameConstants.RED);
+      SearchEngine engine = new SearchEngine(new SearchConfig(4));
+
+      assertEquals(GameConstants.SCORE_WIN - 1, engine.search(board, 2));
+      assertEquals(GameConstants.SCORE_WIN - 1, engine.search(board, 4));
+    }
+
+    @Test
+    void shouldCutOffWithFirstMoveMostOfTheTime() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      SearchEngine engine = new SearchEngine(new SearchConfig(8));
+
+      engine.searchRoot(rootMoves(GameConstants.RED, board), board,
+          GameConstants.RED);
+
+      assertTrue(engine.getFirstMoveCutoffRate() > 0.8,
+          () -> "first-move cutoff rate " + engine.getFirstMoveCutoffRate());
+    }
+
+    @Test
+    void shouldPlayOutExchangeBeyondHorizon() {
+      BoardState board = new BoardState();
+      board.setPiece(7, 0, GameConstants.RED);
+      board.setPiece(5, 2, GameConstants.RED);
+      board.setPiece(4, 3, GameConstants.BLACK);
+      board.setPiece(2, 5, GameConstants.BLACK);
+      board.setPiece(1, 6, GameConstants.BLACK);
+      BoardState afterExchange = new BoardState();
+      afterExchange.setPiece(7, 0, GameConstants.RED);
+      afterExchange.setPiece(4, 3, GameConstants.BLACK);
+      afterExchange.setPiece(1, 6, GameConstants.BLACK);
+
+      assertEquals(PositionEvaluator.evaluate(afterExchange),
+          new SearchEngine(new SearchConfig(1)).search(board, 1));
+    }
+
+    @Test
+    void shouldScoreSideWithoutMovesAsLost() {
+      BoardState board = blockadePosition();
+      board.setPiece(7, 4, GameConstants.RED);
+      board.setSideToMove(GameConstants.BLACK);
+
+      assertEquals(-GameConstants.SCORE_WIN,
+          new SearchEngine(new SearchConfig(3)).search(board, 3));
+    }
+
+    @Test
+    void shouldCountNodes() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      SearchEngine engine = new SearchEngine(new SearchConfig(2));
+
+      engine.search(board, 2);
+
+      assertTrue(engine.getNodes() > 1 + 7);
+    }
+  }
+
+  @Nested
+  class ChooseBestMoveTest {
+
+    @Test
+    void shouldFindMoveThatLeavesOpponentWithoutMoves() {
+      BoardState board = blockadePosition();
+      PlayerConfig config = new PlayerConfig();
+      config.setBotColor(GameConstants.RED);
+      config.setSearchConfig(new SearchConfig(3));
+
+      BotDecision decision = SearchEngine.chooseBestMove(
+          rootMoves(GameConstants.RED, board), board, config);
+
+      assertEquals(new BotDecision(6, 5, 7, 4, GameConstants.MOVE), decision);
+    }
+
+    @Test
+    void shouldNotMoveIntoCapture() {
+      BoardState board = new BoardState();
+      board.setPiece(5, 2, GameConstants.RED);
+      board.setPiece(7, 6, GameConstants.RED);
+      board.setPiece(2, 5, GameConstants.BLACK);
+      board.setPiece(3, 4, GameConstants.BLACK);
+      PlayerConfig config = new PlayerConfig();
+      config.setBotColor(GameConstants.RED);
+      config.setSearchConfig(new SearchConfig(4));
+
+      BotDecision decision = SearchEngine.chooseBestMove(
+          rootMoves(GameConstants.RED, board), board, config);
+
+      assertTrue(decision.fromRow() != 5 || decision.toCol() != 3,
+          decision::toString);
+    }
+
+    @Test
+    void shouldSearchOnCopyOfGameBoard() {
+      BoardState board = spy(blockadePosition());
+      board.setSideToMove(GameConstants.BLACK);
+      PlayerConfig config = new PlayerConfig();
+      config.setBotColor(GameConstants.RED);
+      config.setSearchConfig(new SearchConfig(3));
+
+      SearchEngine.chooseBestMove(rootMoves(GameConstants.RED, board), board,
+          config);
+
+      verify(board).setSideToMove(GameConstants.BLACK);
+      verify(board, never()).setSideToMove(GameConstants.RED);
+      verify(board, never()).makeMove(anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldSearchForBotColorAndRestoreSideToMove() {
+      BoardState board = blockadePosition();
+      board.setSideToMove(GameConstants.BLACK);
+      BoardState before = board.copy();
+
+      BotDecision decision = new SearchEngine(new SearchConfig(3)).searchRoot(
+          rootMoves(GameConstants.RED, board), board, GameConstants.RED);
+
+      assertEquals(new BotDecision(6, 5, 7, 4, GameConstants.MOVE), decision);
+      assertEquals(before, board);
+    }
+
+    @Test
+    void shouldReturnNoDecisionWithoutMoves() {
+      BoardState board = new BoardState();
+
+      BotDecision decision = new SearchEngine(SearchConfig.DEFAULT)
+          .searchRoot(new ArrayList<>(), board, GameConstants.RED);
+
+      assertEquals(new BotDecision(-1, -1, -1, -1, -1), decision);
+    }
+  }
+
+  @Nested
+  class AnalyzeTest {
+
+    private static final int LINES = 3;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void shouldScoreEveryLineExactly(final int depth) {
+      SplittableRandom random = new SplittableRandom(depth);
+      for (int i = 0; i < RANDOM_POSITIONS / 4; i++) {
+        BoardState board = BitboardMoveGeneratorTest.randomBoard(random);
+        int color = random.nextBoolean() ? GameConstants.RED
+            : GameConstants.BLACK;
+        ArrayList<BotDecision> moves = rootMoves(color, board);
+
+        List<AnalysisLine> lines = new SearchEngine(fullWidth(depth, 1))
+            .analyze(moves, board, color, LINES);
+
+        assertEquals(Math.min(LINES, moves.size()), lines.size());
+        for (int line = 0; line < lines.size(); line++) {
+          BotDecision move = lines.get(line).move();
+          BoardState after = board.copy();
+          after.setSideToMove(color);
+          after.makeMove(move);
+          assertEquals(-plainNegamax(after, depth - 1, 1),
+              lines.get(line).score(), board::toString);
+          if (line > 0) {
+            assertTrue(lines.get(line).score()
+                <= lines.get(line - 1).score());
+            assertFalse(lines.subList(0, line).stream()
+                .anyMatch(previous -> previous.move().equals(move)));
+          }
+        }
+      }
+    }
+
+    @Test
+    void shouldFollowLegalPrincipalVariations() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      BoardState before = board.copy();
+      SearchEngine engine = new SearchEngine(new SearchConfig(6));
+
+      List<AnalysisLine> lines = engine.analyze(
+          rootMoves(GameConstants.RED, board), board, GameConstants.RED,
+          LINES);
+
+      assertEquals(LINES, lines.size());
+      assertEquals(6, engine.getCompletedDepth());
+      for (AnalysisLine line : lines) {
+        List<BotDecision> variation = line.principalVariation();
+        assertEquals(line.move(), variation.getFirst());
+        assertTrue(variation.size() <= 6);
+        BoardState position = board.copy();
+        position.setSideToMove(GameConstants.RED);
+        for (BotDecision move : variation) {
+          assertTrue(rootMoves(position.getSideToMove(), position)
+              .contains(move), move::toString);
+          position.makeMove(move);
+        }
+      }
+      assertEquals(before, board);
+    }
+
+    @Test
+    void shouldCostLessThanIndependentSearches() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      SearchConfig config = new SearchConfig(8);
+      SearchEngine analysis = new SearchEngine(config);
+
+      List<AnalysisLine> lines = analysis.analyze(
+          rootMoves(GameConstants.RED, board), board, GameConstants.RED,
+          LINES);
+
+      long independentNodes = 0;
+      ArrayList<BotDecision> moves = rootMoves(GameConstants.RED, board);
+      for (AnalysisLine line : lines) {
+        SearchEngine engine = new SearchEngine(config);
+        engine.analyze(moves, board, GameConstants.RED, 1);
+        independentNodes += engine.getNodes();
+        moves.remove(line.move());
+      }
+      assertTrue(analysis.getNodes() < independentNodes,
+          analysis.getNodes() + " vs " + independentNodes);
+    }
+
+    @Test
+    void shouldScoreSingleMove() {
+      BoardState board = blockadePosition();
+      ArrayList<BotDecision> moves = new ArrayList<>(List.of(
+          new BotDecision(6, 5, 7, 4, GameConstants.MOVE)));
+
+      List<AnalysisLine> lines = new SearchEngine(new SearchConfig(3))
+          .analyze(moves, board, GameConstants.RED, LINES);
+
+      assertEquals(1, lines.size());
+      assertEquals(GameConstants.SCORE_WIN - 1, lines.getFirst().score());
+    }
+  }
+
+  @Nested
+  class CancellationTest {
+
+    private static final long SEARCH_TIME_MS = 100;
+
+    private static final long MAX_CANCEL_LATENCY_MS = 250;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldStopPromptlyWhenCancelled(final int threads)
+        throws InterruptedException {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      BoardState before = board.copy();
+      ArrayList<BotDecision> moves = rootMoves(GameConstants.RED, board);
+      PlayerConfig config = new PlayerConfig();
+      config.setBotColor(GameConstants.RED);
+      config.setSearchConfig(new SearchConfig(SearchConfig.MAX_DEPTH,
+          SearchConfig.NO_TIME_LIMIT, threads));
+      CancellationToken cancellation = new CancellationToken();
+      AtomicReference<BotDecision> decision = new AtomicReference<>();
+      Thread search = new Thread(() -> decision.set(
+          SearchEngine.chooseBestMove(moves, board, config, cancellation)));
+
+      search.start();
+      Thread.sleep(SEARCH_TIME_MS);
+      long start = System.nanoTime();
+      cancellation.cancel();
+      search.join();
+
+      assertTrue(System.nanoTime() - start
+          < TimeUnit.MILLISECONDS.toNanos(MAX_CANCEL_LATENCY_MS));
+      assertTrue(moves.contains(decision.get()));
+      assertEquals(before, board);
+    }
+
+    @Test
+    void shouldStopBeforeFirstDepthWhenAlreadyCancelled() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      PlayerConfig config = new PlayerConfig();
+      config.setBotColor(GameConstants.RED);
+      config.setSearchConfig(new SearchConfig(SearchConfig.MAX_DEPTH,
+          SearchConfig.NO_TIME_LIMIT));
+      CancellationToken cancellation = new CancellationToken();
+      cancellation.cancel();
+
+      BotDecision decision = SearchEngine.chooseBestMove(
+          rootMoves(GameConstants.RED, board), board, config, cancellation);
+
+      assertTrue(rootMoves(GameConstants.RED, board).contains(decision));
+    }
+  }
+
+  @Nested
+  class IterativeDeepeningTest {
+
+    private BoardState startPosition() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      return board;
+    }
+
+    @Test
+    void shouldCompleteEveryDepthWithoutTimeLimit() {
+      BoardState board = startPosition();
+      SearchEngine engine = new SearchEngine(new SearchConfig(4));
+
+      engine.searchRoot(rootMoves(GameConstants.RED, board), board,
+          GameConstants.RED);
+
+      assertEquals(4, engine.getCompletedDepth());
+    }
+
+    @Test
+    void shouldReturnMoveOfLastCompletedDepthWhenBudgetRunsOut() {
+      BoardState board = startPosition();
+      BoardState before = board.copy();
+      AtomicLong clock = new AtomicLong();
+      SearchEngine engine = new SearchEngine(
+          new SearchConfig(SearchConfig.MAX_DEPTH, 1),
+          new TranspositionTable(1), () -> clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1)));
+
+      BotDecision decision = engine.searchRoot(
+          rootMoves(GameConstants.RED, board), board, GameConstants.RED);
+
+      int completed = engine.getCompletedDepth();
+      assertTrue(completed >= 1 && completed < SearchConfig.MAX_DEPTH,
+          () -> "completed depth " + completed);
+      assertEquals(before, board);
+      assertEquals(new SearchEngine(new SearchConfig(completed)).searchRoot(
+          rootMoves(GameConstants.RED, board), board, GameConstants.RED),
+          decision);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 5})
+    void shouldChooseMoveWithBestScore(final int depth) {
+      SplittableRandom random = new SplittableRandom(depth);
+      TranspositionTable table = new TranspositionTable(1);
+      SearchEngine engine = new SearchEngine(fullWidth(depth, 1), table);
+      for (int i = 0; i < RANDOM_POSITIONS / 4; i++) {
+        BoardState board = BitboardMoveGeneratorTest.randomBoard(random);
+        int side = random.nextBoolean() ? GameConstants.RED
+            : GameConstants.BLACK;
+        board.setSideToMove(side);
+        ArrayList<BotDecision> moves = rootMoves(side, board);
+        if (moves.size() < 2) {
+          continue;
+        }
+        table.clear();
+        BotDecision chosen = engine.searchRoot(moves, board, side);
+
+        int best = -SearchEngine.INFINITY;
+        int chosenScore = -SearchEngine.INFINITY;
+        for (BotDecision move : moves) {
+          long undo = board.makeMove(move);
+          int score = -plainNegamax(board, depth - 1, 1);
+          board.unmakeMove(move, undo);
+          best = Math.max(best, score);
+          if (move.equals(chosen)) {
+            chosenScore = score;
+          }
+        }
+        assertEquals(best, chosenScore, board::toString);
+      }
+    }
+
+    @Test
+    void shouldReturnSingleMoveWithoutSearch() {
+      BoardState board = startPosition();
+      ArrayList<BotDecision> moves = rootMoves(GameConstants.RED, board);
+      ArrayList<BotDecision> single = new ArrayList<>(moves.subList(0, 1));
+      SearchEngine engine = new SearchEngine(SearchConfig.DEFAULT);
+
+      assertSame(single.getFirst(),
+          engine.searchRoot(single, board, GameConstants.RED));
+      assertEquals(0, engine.getNodes());
+      assertEquals(0, engine.getCompletedDepth());
+    }
+
+    @Test
+    void shouldStopDeepeningOnceWinIsFound() {
+      BoardState board = blockadePosition();
+      SearchEngine engine =
+          new SearchEngine(new SearchConfig(SearchConfig.MAX_DEPTH));
+
+      BotDecision decision = engine.searchRoot(
+          rootMoves(GameConstants.RED, board), board, GameConstants.RED);
+
+      assertEquals(new BotDecision(6, 5, 7, 4, GameConstants.MOVE), decision);
+      assertEquals(1, engine.getCompletedDepth());
+    }
+  }
+
+  @Nested
+  class LazySmpTest {
+
+    private static final int THREADS = 4;
+
+    private boolean helpersAlive() {
+      return Thread.getAllStackTraces().keySet().stream()
+          .anyMatch(thread -> thread.getName().startsWith("search-helper-"));
+    }
+
+    @Test
+    void shouldCompleteDepthWithHelpers() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      BoardState before = board.copy();
+      ArrayList<BotDecision> moves = rootMoves(GameConstants.RED, board);
+      SearchEngine engine = new SearchEngine(
+          new SearchConfig(6, SearchConfig.NO_TIME_LIMIT, THREADS));
+
+      BotDecision decision = engine.searchRoot(moves, board,
+          GameConstants.RED);
+
+      assertTrue(moves.contains(decision), decision::toString);
+      assertEquals(6, engine.getCompletedDepth());
+      assertEquals(before, board);
+      assertFalse(helpersAlive());
+    }
+
+    @Test
+    void shouldCountNodesOfHelpers() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      ArrayList<BotDecision> moves = rootMoves(GameConstants.RED, board);
+      SearchEngine single = new SearchEngine(new SearchConfig(6));
+      SearchEngine parallel = new SearchEngine(
+          new SearchConfig(6, SearchConfig.NO_TIME_LIMIT, THREADS));
+
+      single.searchRoot(moves, board, GameConstants.RED);
+      parallel.searchRoot(moves, board, GameConstants.RED);
+
+      assertTrue(parallel.getNodes() > single.getNodes());
+    }
+
+    @Test
+    void shouldStopHelpersWhenBudgetRunsOut() {
+      BoardState board = new BoardState();
+      BoardInitializer.setUpPawns(board);
+      ArrayList<BotDecision> moves = rootMoves(GameConstants.RED, board);
+      SearchEngine engine = new SearchEngine(
+          new SearchConfig(SearchConfig.MAX_DEPTH, 50, THREADS));
+
+      BotDecision decision = engine.searchRoot(moves, board,
+          GameConstants.RED);
+
+      assertTrue(moves.contains(decision), decision::toString);
+      assertTrue(engine.getCompletedDepth() < SearchConfig.MAX_DEPTH);
+      assertFalse(helpersAlive());
+    }
+  }
+
+  @Nested
+  class StatsTest {
+
+    private static final int DEPTH = 7;
+
+    private final BoardState board = startPosition();
+
+    private BoardState startPosition() {
+      BoardState position = new BoardState();
+      BoardInitializer.setUpPawns(position);
+      return position;
+    }
+
+    @Test
+    void shouldReportConsistentCounts() {
+      SearchEngine engine = new SearchEngine(new SearchConfig(DEPTH));
+
+      engine.searchRoot(rootMoves(GameConstants.RED, board), board,
+          GameConstants.RED);
+      SearchStats stats = engine.getStats();
+
+      assertEquals(engine.getNodes(), stats.nodes());
+      assertEquals(DEPTH, stats.depth());
+      assertTrue(stats.selectiveDepth() >= DEPTH, stats::toString);
+      assertTrue(stats.quiescenceNodes() > 0, stats::toString);
+      assertTrue(stats.quiescenceNodes() < stats.nodes(), stats::toString);
+      assertTrue(stats.ttHits() > 0, stats::toString);
+      assertTrue(stats.ttHits() <= stats.ttProbes(), stats::toString);
+      assertTrue(stats.ttCutoffs() <= stats.ttHits(), stats::toString);
+      assertEquals(DEPTH, stats.iterationNanos().size());
+      assertEquals(DEPTH, stats.iterationNodes().size());
+      assertTrue(stats.iterationNodes().stream().mapToLong(Long::longValue)
+          .sum() <= stats.nodes(), stats::toString);
+      assertTrue(stats.effectiveBranchingFactor() > 1, stats::toString);
+    }
+
+    @Test
+    void shouldCountEachSearchSeparately() {
+      SearchEngine engine = new SearchEngine(new SearchConfig(DEPTH));
+      ArrayList<BotDecision> moves = rootMoves(GameConstants.RED, board);
+
+      engine.searchRoot(moves, board, GameConstants.RED);
+      long firstNodes = engine.getNodes();
+      engine.searchRoot(moves, board, GameConstants.RED);
+
+      assertEquals(engine.getNodes() - firstNodes,
+          engine.getStats().nodes());
+    }
+
+    @Test
+    void shouldIncludeNodesOfHelpers() {
+      SearchEngine engine = new SearchEngine(
+          new SearchConfig(DEPTH, SearchConfig.NO_TIME_LIMIT, 4));
+
+      engine.searchRoot(rootMoves(GameConstants.RED, board), board,
+          GameConstants.RED);
+
+      assertEquals(engine.getNodes(), engine.getStats().nodes());
+      assertTrue(engine.getStats().iterationNodes().stream()
+          .mapToLong(Long::longValue).sum() < engine.getNodes());
+    }
+
+    @Test
+    void shouldReportNoSearchForSingleMove() {
+      SearchEngine engine = new SearchEngine(new SearchConfig(DEPTH));
+      ArrayList<BotDecision> moves = new ArrayList<>(
+          rootMoves(GameConstants.RED, board).subList(0, 1));
+
+      engine.searchRoot(moves, board, GameConstants.RED);
+
+      assertSame(SearchStats.EMPTY, engine.getStats());
+    }
+
+    @Test
+    void shouldLeaveStatsInPlayerConfig() {
+      PlayerConfig config = new PlayerConfig();
+      config.setBotColor(GameConstants.RED);
+      config.setSearchConfig(new SearchConfig(DEPTH));
+
+      SearchEngine.chooseBestMove(rootMoves(GameConstants.RED, board), board,
+          config);
+
+      assertEquals(DEPTH, config.getSearchStats().depth());
+      assertTrue(config.getSearchStats().nodes() > 0);
+    }
+  }
+
+  @Nested
+  class SelectiveSearchTest {
+
+    private static final int DEPTH = 10;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "b:.bb.b.b..bb.b.rb..r..r..r.rr..B.",
+        "b:b....B.R...Rr...B..B....R.......",
+        "r:....B..R.R.b....R.r.......B....B"})
+    void shouldFindBestMoveOfFullWidthSearchWithFewerNodes(
+        final String position) {
+      BoardState board = BoardNotation.parse(position);
+      ArrayList<BotDecision> moves = rootMoves(board.getSideToMove(), board);
+      SearchEngine full = new SearchEngine(fullWidth(DEPTH, 1));
+      SearchEngine selective = new SearchEngine(new SearchConfig(DEPTH));
+
+      BotDecision expected = full.searchRoot(moves, board,
+          board.getSideToMove());
+      BotDecision actual = selective.searchRoot(moves, board,
+          board.getSideToMove());
+
+      assertEquals(expected, actual);
+      assertTrue(selective.getNodes() < full.getNodes(),
+          () -> selective.getNodes() + " >= " + full.getNodes());
+    }
+  }
+}
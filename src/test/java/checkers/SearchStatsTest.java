@@ -0,0 +1,64 @@
+package checkers;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchStatsTest {
+
+  private static final SearchStats STATS = new SearchStats(400_000, 100_000,
+      200_000_000, 3, 11, 200_000, 80_000, 30_000,
+      List.of(10_000_000L, 50_000_000L, 200_000_000L),
+      List.of(1_000L, 20_000L, 100_000L));
+
+  @Nested
+  class RatesTest {
+
+    @Test
+    void shouldComputeNodesPerSecond() {
+      assertEquals(2_000_000, STATS.nodesPerSecond());
+    }
+
+    @Test
+    void shouldComputeTableRates() {
+      assertEquals(0.4, STATS.ttHitRate(), 1e-9);
+      assertEquals(0.15, STATS.ttCutoffRate(), 1e-9);
+    }
+
+    @Test
+    void shouldComputeBranchingFactorOfLastIterations() {
+      assertEquals(5.0, STATS.effectiveBranchingFactor(), 1e-9);
+    }
+
+    @Test
+    void shouldReportZeroWithoutSearch() {
+      assertEquals(0, SearchStats.EMPTY.nodesPerSecond());
+      assertEquals(0, SearchStats.EMPTY.ttHitRate());
+      assertEquals(0, SearchStats.EMPTY.ttCutoffRate());
+      assertEquals(0, SearchStats.EMPTY.effectiveBranchingFactor());
+    }
+  }
+
+  @Nested
+  class FormatTest {
+
+    @Test
+    void shouldWriteOneLine() {
+      assertEquals("depth 3/11 nodes 400,000 (q 25.0%) 2,000,000 nps"
+          + " tt hits 40.0% cutoffs 15.0% ebf 5.00 time 200 ms"
+          + " iterations 10 50 200 ms", STATS.toString());
+    }
+  }
+
+  @Nested
+  class ImmutabilityTest {
+
+    @Test
+    void shouldNotExposeIterationLists() {
+      assertThrows(UnsupportedOperationException.class,
+          () -> STATS.iterationNodes().add(1L));
+    }
+  }
+}
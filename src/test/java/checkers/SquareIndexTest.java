@@ -0,0 +1,50 @@
+package checkers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SquareIndexTest {
+
+  @ParameterizedTest
+  @CsvSource({"0, 1, 0", "0, 7, 3", "1, 0, 4", "1, 6, 7", "6, 1, 24",
+      "7, 0, 28", "7, 6, 31"})
+  void shouldMapDarkSquaresToIndices(int row, int col, int square) {
+    assertEquals(square, SquareIndex.toSquare(row, col));
+    assertEquals(row, SquareIndex.rowOf(square));
+    assertEquals(col, SquareIndex.colOf(square));
+  }
+
+  @Test
+  void shouldRoundTripEveryPlayableSquare() {
+    for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+      int row = SquareIndex.rowOf(square);
+      int col = SquareIndex.colOf(square);
+
+      assertTrue(SquareIndex.isDarkSquare(row, col));
+      assertEquals(square, SquareIndex.toSquare(row, col));
+    }
+  }
+
+  @Test
+  void shouldRecognizeLightSquares() {
+    assertFalse(SquareIndex.isDarkSquare(0, 0));
+    assertFalse(SquareIndex.isDarkSquare(3, 5));
+    assertTrue(SquareIndex.isDarkSquare(3, 4));
+  }
+
+  @Test
+  void shouldReturnSingleBitMask() {
+    assertEquals(1, SquareIndex.bit(0));
+    assertEquals(Integer.MIN_VALUE, SquareIndex.bit(31));
+  }
+
+  @Test
+  void shouldReturnRowMask() {
+    assertEquals(0xF, SquareIndex.rowMask(0));
+    assertEquals(0xF0000000, SquareIndex.rowMask(7));
+  }
+}
@@ -0,0 +1,175 @@
+package checkers;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SquareTablesTest {
+
+  private static final int RANDOM_POSITIONS = 500;
+
+  private static int square(final int row, final int col) {
+    return SquareIndex.toSquare(row, col);
+  }
+
+  private static BoardState randomBoard(final SplittableRandom random) {
+    int[] pieces = {GameConstants.EMPTY, GameConstants.EMPTY,
+        GameConstants.EMPTY, GameConstants.RED, GameConstants.BLACK,
+        GameConstants.RED_KING, GameConstants.BLACK_KING};
+    BoardState board = new BoardState();
+    for (int sq = 0; sq < SquareIndex.SQUARE_COUNT; sq++) {
+      board.setPieceAt(sq, pieces[random.nextInt(pieces.length)]);
+    }
+    return board;
+  }
+
+  private static int targetMask(final ArrayList<BotDecision> moves) {
+    int mask = 0;
+    for (BotDecision move : moves) {
+      mask |= SquareIndex.bit(square(move.toRow(), move.toCol()));
+    }
+    return mask;
+  }
+
+  @Nested
+  class TableTest {
+
+    @Test
+    void shouldReturnNeighboursInsideBoard() {
+      int sq = square(3, 4);
+
+      assertEquals(square(2, 3), SquareTables.neighbour(SquareTables.UP_LEFT,
+          sq));
+      assertEquals(square(2, 5),
+          SquareTables.neighbour(SquareTables.UP_RIGHT, sq));
+      assertEquals(square(4, 3),
+          SquareTables.neighbour(SquareTables.DOWN_LEFT, sq));
+      assertEquals(square(4, 5),
+          SquareTables.neighbour(SquareTables.DOWN_RIGHT, sq));
+    }
+
+    @Test
+    void shouldMarkMissingNeighboursAtEdges() {
+      int corner = square(7, 0);
+
+      assertEquals(SquareTables.NONE,
+          SquareTables.neighbour(SquareTables.DOWN_LEFT, corner));
+      assertEquals(SquareTables.NONE,
+          SquareTables.neighbour(SquareTables.UP_LEFT, corner));
+      assertEquals(0, SquareTables.neighbourMask(SquareTables.DOWN_RIGHT,
+          corner));
+      assertEquals(SquareIndex.bit(square(6, 1)),
+          SquareTables.neighbourMask(SquareTables.UP_RIGHT, corner));
+    }
+
+    @Test
+    void shouldReturnJumpLandingSquares() {
+      assertEquals(square(3, 2),
+          SquareTables.jumpLanding(SquareTables.UP_LEFT, square(5, 4)));
+      assertEquals(SquareTables.NONE,
+          SquareTables.jumpLanding(SquareTables.UP_LEFT, square(1, 2)));
+      assertEquals(SquareTables.NONE,
+          SquareTables.jumpLanding(SquareTables.DOWN_RIGHT, square(5, 6)));
+    }
+
+    @Test
+    void shouldListRaySquaresNearestFirst() {
+      int[] ray = SquareTables.raySquares(SquareTables.UP_RIGHT,
+          square(7, 0));
+
+      assertArrayEquals(new int[]{square(6, 1), square(5, 2), square(4, 3),
+          square(3, 4), square(2, 5), square(1, 6), square(0, 7)}, ray);
+    }
+
+    @Test
+    void rayMaskShouldMatchRaySquares() {
+      for (int dir = 0; dir < SquareTables.DIRECTION_COUNT; dir++) {
+        for (int sq = 0; sq < SquareIndex.SQUARE_COUNT; sq++) {
+          int mask = 0;
+          for (int target : SquareTables.raySquares(dir, sq)) {
+            mask |= SquareIndex.bit(target);
+          }
+          assertEquals(mask, SquareTables.rayMask(dir, sq));
+        }
+      }
+    }
+
+    @Test
+    void shouldReturnForwardDirections() {
+      assertEquals(SquareTables.UP_LEFT,
+          SquareTables.forwardDirection(GameConstants.RED));
+      assertEquals(SquareTables.DOWN_LEFT,
+          SquareTables.forwardDirection(GameConstants.BLACK));
+    }
+  }
+
+  @Nested
+  class LegacyEquivalenceTest {
+
+    @Test
+    void tableWalksShouldMatchRowColumnGenerators() {
+      SplittableRandom random = new SplittableRandom(7);
+      for (int i = 0; i < RANDOM_POSITIONS; i++) {
+        BoardState board = randomBoard(random);
+        for (int sq = 0; sq < SquareIndex.SQUARE_COUNT; sq++) {
+          assertSameTargets(board, sq);
+        }
+      }
+    }
+
+    private void assertSameTargets(final BoardState board, final int sq) {
+      int piece = board.getPieceAt(sq);
+      if (piece == GameConstants.EMPTY) {
+        return;
+      }
+      int row = SquareIndex.rowOf(sq);
+      int col = SquareIndex.colOf(sq);
+      ArrayList<BotDecision> moves = new ArrayList<>();
+      ArrayList<BotDecision> captures = new ArrayList<>();
+
+      if (PieceRules.isKing(piece)) {
+        ScanMoveGenerator.findKingMoves(row, col, piece, moves, board);
+        ScanMoveGenerator.findKingCaptures(row, col, piece, captures, board);
+        assertEquals(targetMask(moves),
+            KingRays.moveTargets(sq, board.getOccupiedMask()),
+            board::toString);
+        assertEquals(targetMask(captures),
+            CaptureGenerator.kingCaptureTargets(sq, piece, board),
+            board::toString);
+      } else {
+        ScanMoveGenerator.findRegularPieceMoves(row, col, piece, moves,
+            board);
+        ScanMoveGenerator.findRegularCaptures(row, col, piece, captures,
+            board);
+        int dir = SquareTables.forwardDirection(piece);
+        assertEquals(targetMask(moves),
+            (SquareTables.neighbourMask(dir, sq)
+                | SquareTables.neighbourMask(dir + 1, sq))
+                & board.getEmptyMask(), board::toString);
+        assertEquals(targetMask(captures),
+            CaptureGenerator.regularCaptureTargets(sq, piece, board),
+            board::toString);
+      }
+      assertEquals(CaptureRules.canCapture(col, row, board),
+          CaptureRules.canCaptureAt(sq, board), board::toString);
+    }
+
+    @Test
+    void hasAnyCaptureShouldMatchFullBoardScan() {
+      SplittableRandom random = new SplittableRandom(11);
+      for (int i = 0; i < RANDOM_POSITIONS; i++) {
+        BoardState board = randomBoard(random);
+
+        assertEquals(CaptureRules.checkAllPiecesPossibleCaptures(
+                GameConstants.RED, GameConstants.RED_KING, board),
+            CaptureRules.hasAnyCapture(GameConstants.RED, board));
+        assertEquals(CaptureRules.checkAllPiecesPossibleCaptures(
+                GameConstants.BLACK, GameConstants.BLACK_KING, board),
+            CaptureRules.hasAnyCapture(GameConstants.BLACK_KING, board));
+      }
+    }
+  }
+}
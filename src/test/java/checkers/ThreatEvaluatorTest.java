@@ -318,4 +318,33 @@ class ThreatEvaluatorTest {
           differentHumanColor, differentHumanKingColor, mockBoardState));
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldUseKnownCaptureInformationWithoutScanningBoard() {
+
+    when(mockBoardState.getPiece(TEST_ROW, TEST_COL)).thenReturn(
+        REGULAR_PIECE);
+    when(mockDecision.toRow()).thenReturn(TEST_ROW);
+    when(mockDecision.toCol()).thenReturn(TEST_COL);
+
+    try (MockedStatic<CaptureRules> captureRulesMock = mockStatic(
+        CaptureRules.class)) {
+      int threatened = ThreatEvaluator.evaluatePlayerThreats(mockDecision,
+          mockBoardState, true);
+      int safe = ThreatEvaluator.evaluatePlayerThreats(mockDecision,
+          mockBoardState, false);
+
+      assertEquals(-GameConstants.SCORE_PLAYER_THREAT, threatened);
+      assertEquals(0, safe);
+      captureRulesMock.verifyNoInteractions();
+    }
+  }
+
+  @Test
+  void shouldRejectNullDecisionWithKnownCaptureInformation() {
+
+    assertThrows(NullPointerException.class,
+        () -> ThreatEvaluator.evaluatePlayerThreats(null, mockBoardState,
+            true));
+  }
+}
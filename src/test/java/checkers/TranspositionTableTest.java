@@ -0,0 +1,204 @@
+package checkers;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TranspositionTableTest {
+
+  private static final int BUCKETS_PER_MB =
+      (1 << 20) / (TranspositionTable.BUCKET_ENTRIES * 2 * Long.BYTES);
+
+  private TranspositionTable table;
+
+  @BeforeEach
+  void setUp() {
+    table = new TranspositionTable(1);
+  }
+
+  private static long sameBucket(final int n) {
+    return (long) n << 40 | (long) n * BUCKETS_PER_MB;
+  }
+
+  @Nested
+  class SizeTest {
+
+    @Test
+    void shouldFillRequestedSize() {
+      assertEquals(BUCKETS_PER_MB * TranspositionTable.BUCKET_ENTRIES,
+          table.capacity());
+    }
+
+    @Test
+    void shouldRoundDownToPowerOfTwoBuckets() {
+      assertEquals(2 * table.capacity(),
+          new TranspositionTable(3).capacity());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, TranspositionTable.MAX_SIZE_MB + 1})
+    void shouldRejectSizeOutOfRange(final int sizeMb) {
+      assertThrows(IllegalArgumentException.class,
+          () -> new TranspositionTable(sizeMb));
+    }
+  }
+
+  @Nested
+  class ProbeTest {
+
+    @Test
+    void shouldMissEmptyTable() {
+      assertEquals(TranspositionTable.MISS, table.probe(42L));
+    }
+
+    @Test
+    void shouldReturnStoredFields() {
+      int move = MoveEncoding.encode(9, 18, GameConstants.TAKE, 13, true);
+      table.store(42L, 7, TranspositionTable.LOWER_BOUND, -1234, move);
+
+      long entry = table.probe(42L);
+
+      assertEquals(7, TranspositionTable.depth(entry));
+      assertEquals(TranspositionTable.LOWER_BOUND,
+          TranspositionTable.bound(entry));
+      assertEquals(-1234, TranspositionTable.score(entry));
+      assertEquals(move, TranspositionTable.move(entry));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {SearchEngine.INFINITY, -SearchEngine.INFINITY, 0})
+    void shouldKeepExtremeScores(final int score) {
+      table.store(1L, 255, TranspositionTable.EXACT, score,
+          MoveEncoding.NO_MOVE);
+
+      long entry = table.probe(1L);
+
+      assertEquals(score, TranspositionTable.score(entry));
+      assertEquals(255, TranspositionTable.depth(entry));
+      assertEquals(MoveEncoding.NO_MOVE, TranspositionTable.move(entry));
+    }
+
+    @Test
+    void shouldNotMatchOtherKeyOfSameBucket() {
+      table.store(sameBucket(0), 1, TranspositionTable.EXACT, 5,
+          MoveEncoding.NO_MOVE);
+
+      assertEquals(TranspositionTable.MISS, table.probe(sameBucket(1)));
+    }
+
+    @Test
+    void clearShouldRemoveEntries() {
+      table.store(42L, 1, TranspositionTable.EXACT, 5, MoveEncoding.NO_MOVE);
+
+      table.clear();
+
+      assertEquals(TranspositionTable.MISS, table.probe(42L));
+    }
+  }
+
+  @Nested
+  class ReplacementTest {
+
+    @Test
+    void shouldOverwriteSamePositionAndKeepMove() {
+      int move = MoveEncoding.encode(21, 17, GameConstants.MOVE, 0, false);
+      table.store(42L, 6, TranspositionTable.EXACT, 10, move);
+
+      table.store(42L, 2, TranspositionTable.UPPER_BOUND, -3,
+          MoveEncoding.NO_MOVE);
+
+      long entry = table.probe(42L);
+      assertEquals(2, TranspositionTable.depth(entry));
+      assertEquals(-3, TranspositionTable.score(entry));
+      assertEquals(move, TranspositionTable.move(entry));
+    }
+
+    @Test
+    void shouldReplaceShallowestEntryOfFullBucket() {
+      for (int i = 0; i < TranspositionTable.BUCKET_ENTRIES; i++) {
+        table.store(sameBucket(i), i == 2 ? 1 : 9, TranspositionTable.EXACT,
+            i, MoveEncoding.NO_MOVE);
+      }
+
+      table.store(sameBucket(9), 3, TranspositionTable.EXACT, 9,
+          MoveEncoding.NO_MOVE);
+
+      assertEquals(TranspositionTable.MISS, table.probe(sameBucket(2)));
+      assertEquals(9, TranspositionTable.score(table.probe(sameBucket(9))));
+      assertNotEquals(TranspositionTable.MISS, table.probe(sameBucket(0)));
+    }
+
+    @Test
+    void shouldReplaceEntriesOfEarlierSearchesFirst() {
+      table.store(sameBucket(0), 9, TranspositionTable.EXACT, 0,
+          MoveEncoding.NO_MOVE);
+      for (int i = 0; i < 3; i++) {
+        table.newSearch();
+      }
+      for (int i = 1; i < TranspositionTable.BUCKET_ENTRIES; i++) {
+        table.store(sameBucket(i), 2, TranspositionTable.EXACT, i,
+            MoveEncoding.NO_MOVE);
+      }
+
+      table.store(sameBucket(9), 2, TranspositionTable.EXACT, 9,
+          MoveEncoding.NO_MOVE);
+
+      assertEquals(TranspositionTable.MISS, table.probe(sameBucket(0)));
+    }
+  }
+
+  @Nested
+  class ConcurrencyTest {
+
+    private static final int THREADS = 4;
+
+    private static final int OPERATIONS = 200_000;
+
+    private static final int KEYS = 16;
+
+    private static int scoreOf(final long key) {
+      return (int) (key >>> 40) * 1000 - 7000;
+    }
+
+    private static int depthOf(final long key) {
+      return (int) (key >>> 40) + 1;
+    }
+
+    @Test
+    void shouldNeverReturnTornEntry() throws InterruptedException {
+      TranspositionTable small = new TranspositionTable(1);
+      AtomicInteger mismatches = new AtomicInteger();
+      Thread[] threads = new Thread[THREADS];
+      for (int t = 0; t < THREADS; t++) {
+        SplittableRandom random = new SplittableRandom(t);
+        threads[t] = new Thread(() -> {
+          for (int i = 0; i < OPERATIONS; i++) {
+            long key = sameBucket(random.nextInt(KEYS));
+            small.store(key, depthOf(key), TranspositionTable.EXACT,
+                scoreOf(key), MoveEncoding.NO_MOVE);
+            long other = sameBucket(random.nextInt(KEYS));
+            long entry = small.probe(other);
+            if (entry != TranspositionTable.MISS
+                && (TranspositionTable.score(entry) != scoreOf(other)
+                || TranspositionTable.depth(entry) != depthOf(other))) {
+              mismatches.incrementAndGet();
+            }
+          }
+        });
+        threads[t].start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertEquals(0, mismatches.get());
+    }
+  }
+}
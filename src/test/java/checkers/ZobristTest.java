@@ -0,0 +1,62 @@
+package checkers;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ZobristTest {
+
+  @Test
+  void emptySquareShouldHaveZeroKey() {
+    for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+      assertEquals(0L, Zobrist.pieceKey(GameConstants.EMPTY, square));
+    }
+  }
+
+  @Test
+  void pieceKeysShouldBeDistinct() {
+    Set<Long> keys = new HashSet<>();
+    for (int piece = GameConstants.RED; piece <= GameConstants.BLACK_KING;
+         piece++) {
+      for (int square = 0; square < SquareIndex.SQUARE_COUNT; square++) {
+        keys.add(Zobrist.pieceKey(piece, square));
+      }
+    }
+    keys.add(Zobrist.SIDE_KEY);
+
+    assertEquals(4 * SquareIndex.SQUARE_COUNT + 1, keys.size());
+  }
+
+  @Test
+  void hashShouldDependOnSideToMove() {
+    BoardState board = new BoardState();
+    BoardInitializer.setUpPawns(board);
+    long redKey = Zobrist.hash(board);
+
+    board.setSideToMove(GameConstants.BLACK);
+
+    assertNotEquals(redKey, Zobrist.hash(board));
+  }
+
+  @Test
+  void moveExecutorShouldKeepKeyInSync() {
+    BoardState board = new BoardState();
+    board.setPiece(5, 2, GameConstants.RED);
+    board.setPiece(4, 3, GameConstants.BLACK);
+    board.setPiece(7, 0, GameConstants.BLACK_KING);
+    board.setPiece(5, 6, GameConstants.RED);
+    board.setPiece(6, 1, GameConstants.RED);
+
+    MoveExecutor.executeNormalMove(5, 6, 4, 5, GameConstants.RED, board);
+    assertEquals(Zobrist.hash(board), board.getZobristKey());
+
+    MoveExecutor.executeCapture(5, 2, 3, 4, GameConstants.RED, board);
+    assertEquals(Zobrist.hash(board), board.getZobristKey());
+
+    MoveExecutor.executeKingCapture(7, 0, 5, 2, GameConstants.BLACK_KING,
+        board);
+    assertEquals(Zobrist.hash(board), board.getZobristKey());
+  }
+}